@@ -0,0 +1,35 @@
+package com.startupheroes.app;
+
+import com.startupheroes.app.dto.MappedPackage;
+
+final class BenchmarkPackages {
+
+    private BenchmarkPackages() {
+    }
+
+    static MappedPackage completed(long id) {
+        return MappedPackage.builder()
+                .id(id)
+                .createdAt("2021-11-13 10:47:52.675248")
+                .lastUpdatedAt("2021-11-13 11:40:15.314340")
+                .collectionDuration(2)
+                .deliveryDuration(34)
+                .eta(277)
+                .leadTime(52)
+                .orderInTime(true)
+                .storeId(20000000004103L)
+                .customerId(20002011575016L)
+                .build();
+    }
+
+    static MappedPackage inDelivery(long id) {
+        return MappedPackage.builder()
+                .id(id)
+                .createdAt("2021-11-13 10:47:52.675248")
+                .lastUpdatedAt("2021-11-13 11:05:56.861614")
+                .eta(277)
+                .storeId(20000000004103L)
+                .customerId(20002011575016L)
+                .build();
+    }
+}
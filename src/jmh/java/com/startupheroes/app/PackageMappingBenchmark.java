@@ -0,0 +1,77 @@
+package com.startupheroes.app;
+
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.dto.PackageDurations;
+import com.startupheroes.app.dto.PackageView;
+import com.startupheroes.app.entity.PackageStatus;
+import com.startupheroes.app.mapper.PackageDurationCalculator;
+import com.startupheroes.app.mapper.PackageMapper;
+import com.startupheroes.app.mapper.PackageMapperImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kayıt başına süre hesapları ve {@link PackageMapper} eşlemesi. COMPLETED paketlerde tüm süreler hesaplanır,
+ * diğer durumlarda süre alanları null kalır.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PackageMappingBenchmark {
+
+    @Param({"COMPLETED", "IN_DELIVERY"})
+    private PackageStatus status;
+
+    private final PackageMapper packageMapper = new PackageMapperImpl();
+    private PackageView view;
+    private PackageDurations durations;
+
+    @Setup
+    public void setUp() {
+        LocalDateTime createdAt = LocalDateTime.of(2021, 11, 13, 10, 47, 52, 675248000);
+        boolean completed = status == PackageStatus.COMPLETED;
+        view = new PackageView(
+                19604181L,
+                createdAt,
+                LocalDateTime.of(2021, 11, 13, 11, 40, 15, 314340000),
+                277,
+                status,
+                completed ? LocalDateTime.of(2021, 11, 13, 11, 40, 15, 314340000) : null,
+                LocalDateTime.of(2021, 11, 13, 10, 49, 50, 278087000),
+                LocalDateTime.of(2021, 11, 13, 11, 5, 56, 861614000),
+                false,
+                20000000004103L,
+                20002011575016L);
+        durations = PackageDurationCalculator.calculate(view);
+    }
+
+    @Benchmark
+    public PackageDurations durations() {
+        return PackageDurationCalculator.calculate(view);
+    }
+
+    /**
+     * Süreler hazırken yalnızca eşleme ve tarih formatlama.
+     */
+    @Benchmark
+    public MappedPackage mapWithPrecomputedDurations() {
+        return packageMapper.toMappedPackage(view, durations);
+    }
+
+    /**
+     * {@code PackageService}'in kayıt başına yaptığı iş: süre hesapları + eşleme.
+     */
+    @Benchmark
+    public MappedPackage map() {
+        return packageMapper.toMappedPackage(view);
+    }
+}
@@ -0,0 +1,55 @@
+package com.startupheroes.app;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.serializer.MappedPackageBinaryCodec;
+import com.startupheroes.app.serializer.MappedPackageJsonWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kayıt başına value üretimi: elle yazılan JSON, Jackson ve binary (Avro single-object) format.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PackageSerializationBenchmark {
+
+    @Param({"true", "false"})
+    private boolean completed;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final MappedPackageJsonWriter jsonWriter = new MappedPackageJsonWriter(objectMapper);
+    private final MappedPackageBinaryCodec binaryCodec = new MappedPackageBinaryCodec();
+    private MappedPackage mappedPackage;
+
+    @Setup
+    public void setUp() {
+        mappedPackage = completed
+                ? BenchmarkPackages.completed(19604181L)
+                : BenchmarkPackages.inDelivery(19604183L);
+    }
+
+    @Benchmark
+    public byte[] jsonWriter() {
+        return jsonWriter.write(mappedPackage);
+    }
+
+    @Benchmark
+    public byte[] jackson() throws Exception {
+        return objectMapper.writeValueAsBytes(mappedPackage);
+    }
+
+    @Benchmark
+    public byte[] binary() {
+        return binaryCodec.encode(mappedPackage);
+    }
+}
@@ -0,0 +1,99 @@
+package com.startupheroes.app;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startupheroes.app.config.DeadLetterTopicProperties;
+import com.startupheroes.app.config.SendRetryProperties;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.serializer.MappedPackageJsonWriter;
+import com.startupheroes.app.service.RetryingKafkaSender;
+import org.apache.kafka.clients.producer.MockProducer;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uygulama tarafındaki gönderim maliyeti: value üretimi, {@link KafkaTemplate} ve {@link RetryingKafkaSender}.
+ * <p>
+ * Broker yerine ack'i hemen veren {@link MockProducer} kullanılır; ağ, batch'leme ve sıkıştırma ölçülmez.
+ * Broker dahil uçtan uca throughput için {@code gradle benchmark} altındaki embedded Kafka testlerine bakılmalı.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ProducerSendBenchmark {
+
+    private static final String TOPIC = "package-events";
+    private static final int HISTORY_LIMIT = 4096;
+
+    private final MappedPackageJsonWriter jsonWriter = new MappedPackageJsonWriter(new ObjectMapper());
+    private MockProducer<String, byte[]> producer;
+    private KafkaTemplate<String, byte[]> template;
+    private RetryingKafkaSender retryingSender;
+    private MappedPackage mappedPackage;
+    private int sentSinceClear;
+
+    @Setup
+    public void setUp() {
+        // KafkaTemplate her gönderimden sonra producer'ı kapatır; DefaultKafkaProducerFactory'nin
+        // paylaşılan producer'ı gibi kapatma çağrısı yok sayılır.
+        producer = new MockProducer<>(true, new StringSerializer(), new ByteArraySerializer()) {
+            @Override
+            public void close(Duration timeout) {
+            }
+        };
+        template = new KafkaTemplate<>(() -> producer);
+
+        KafkaProperties kafkaProperties = new KafkaProperties();
+        kafkaProperties.getTemplate().setDefaultTopic(TOPIC);
+        retryingSender = new RetryingKafkaSender(
+                new SendRetryProperties(4, Duration.ofMillis(200), Duration.ofSeconds(5), 2.0),
+                new DeadLetterTopicProperties(true, ".DLT", 1, Duration.ofDays(14), "package-dlt-replay"),
+                kafkaProperties,
+                Runnable::run);
+        mappedPackage = BenchmarkPackages.completed(19604181L);
+    }
+
+    /**
+     * MockProducer gönderilen kayıtları saklar; temizlenmezse heap büyür ve gc ölçümü kayıt sayısıyla bozulur.
+     * Her çağrıda temizlemek ölçüme ek yük getireceği için {@value #HISTORY_LIMIT} kayıtta bir temizlenir.
+     */
+    @TearDown(Level.Iteration)
+    public void clearHistory() {
+        producer.clear();
+        sentSinceClear = 0;
+    }
+
+    @Benchmark
+    public CompletableFuture<SendResult<String, byte[]>> templateSend() {
+        return template.send(record());
+    }
+
+    @Benchmark
+    public CompletableFuture<SendResult<String, byte[]>> retryingSend() {
+        return retryingSender.send(template, record());
+    }
+
+    private ProducerRecord<String, byte[]> record() {
+        if (++sentSinceClear == HISTORY_LIMIT) {
+            clearHistory();
+        }
+        return new ProducerRecord<>(TOPIC, null, System.currentTimeMillis(),
+                String.valueOf(mappedPackage.id()), jsonWriter.write(mappedPackage));
+    }
+}
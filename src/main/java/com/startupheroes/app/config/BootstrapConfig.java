@@ -0,0 +1,40 @@
+package com.startupheroes.app.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+@Configuration
+@RequiredArgsConstructor
+public class BootstrapConfig {
+
+    private final Environment environment;
+
+    /**
+     * Eşzamanlı worker sayısı virtual thread modunda da {@code app.bootstrap.workers} ile sınırlıdır;
+     * aksi halde küçük bir range-size ile yüzlerce worker aynı anda Hikari havuzunu tüketirdi.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService bootstrapWorkerExecutor(BootstrapProperties bootstrapProperties) {
+        return Executors.newFixedThreadPool(bootstrapProperties.workers(), threadFactory("bootstrap-worker-"));
+    }
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService bootstrapJobExecutor() {
+        return Executors.newSingleThreadExecutor(threadFactory("bootstrap-job-"));
+    }
+
+    private ThreadFactory threadFactory(String prefix) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Thread.ofVirtual().name(prefix, 1).factory();
+        }
+        return new CustomizableThreadFactory(prefix);
+    }
+}
@@ -0,0 +1,18 @@
+package com.startupheroes.app.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+@Validated
+@ConfigurationProperties(prefix = "app.kafka.bulk")
+public record BulkSendProperties(
+
+        @Positive
+        @Max(50000)
+        @DefaultValue("5000")
+        int maxInFlight
+) {
+}
@@ -0,0 +1,39 @@
+package com.startupheroes.app.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Retry'ları tükenen kayıtların yazıldığı dead-letter topic. Adı event topic adı + {@code suffix}'tir
+ * ({@code package-events.DLT}); state topic kayıtları da aynı topic'e, orijinal topic header'ı ile yazılır.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.kafka.dead-letter")
+public record DeadLetterTopicProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @NotBlank
+        @DefaultValue(".DLT")
+        String suffix,
+
+        @Positive
+        @DefaultValue("1")
+        int partitions,
+
+        @NotNull
+        @DefaultValue("14d")
+        Duration retention,
+
+        @NotBlank
+        @DefaultValue("package-dlt-replay")
+        String replayGroupId
+) {
+}
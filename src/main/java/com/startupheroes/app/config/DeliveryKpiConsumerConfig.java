@@ -0,0 +1,49 @@
+package com.startupheroes.app.config;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+
+import java.util.Map;
+
+/**
+ * KPI consumer'ı için batch listener container'ı.
+ * <p>
+ * Okuma konumu Kafka'daki commit'ten değil KPI checkpoint'inden gelir ({@code DeliveryKpiListener}); günlük durum
+ * tek thread'den değiştirildiği için concurrency 1'dir. Transactional bootstrap yalnızca commit edilmiş kayıtlarla
+ * sayılsın diye {@code read_committed} ile okunur.
+ * <p>
+ * Not – {@code group-id} yalnızca partition ataması içindir; ikinci bir instance gruba katılırsa tüm partition'lara
+ * sahip olmayan listener KPI sunmayı ve checkpoint yazmayı durdurur.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.kpi", name = "enabled", havingValue = "true")
+public class DeliveryKpiConsumerConfig {
+
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, byte[]> deliveryKpiListenerContainerFactory(
+            KafkaProperties kafkaProperties,
+            ObjectProvider<SslBundles> sslBundles,
+            DeliveryKpiProperties kpiProperties) {
+        Map<String, Object> consumerProperties = kafkaProperties.buildConsumerProperties(sslBundles.getIfAvailable());
+        consumerProperties.put(ConsumerConfig.GROUP_ID_CONFIG, kpiProperties.groupId());
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerProperties.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+
+        ConcurrentKafkaListenerContainerFactory<String, byte[]> factory = new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(new DefaultKafkaConsumerFactory<>(consumerProperties,
+                new StringDeserializer(), new ByteArrayDeserializer()));
+        factory.setBatchListener(true);
+        factory.setConcurrency(1);
+        factory.getContainerProperties().setIdleEventInterval(kpiProperties.checkpointInterval().toMillis());
+        return factory;
+    }
+}
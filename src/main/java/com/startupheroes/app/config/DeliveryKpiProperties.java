@@ -0,0 +1,43 @@
+package com.startupheroes.app.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * {@code package-events} topic'inden günlük teslimat KPI'larını hesaplayan consumer ayarları.
+ * <p>
+ * {@code max-duration-minutes}: süre histogramlarının dakika çözünürlüğündeki üst sınırı; üzerindeki
+ * süreler tek bir taşma kovasında sayılır. {@code retention-days}: bellekte ve checkpoint'te tutulan gün sayısı.
+ * <p>
+ * Not – consumer tek instance içindir; varsayılan olarak kapalıdır ve yalnızca bir instance'ta açılmalıdır.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.kpi")
+public record DeliveryKpiProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        @NotBlank
+        @DefaultValue("package-delivery-kpi")
+        String groupId,
+
+        @NotNull
+        @DefaultValue("30s")
+        Duration checkpointInterval,
+
+        @Positive
+        @DefaultValue("90")
+        int retentionDays,
+
+        @Positive
+        @DefaultValue("1440")
+        int maxDurationMinutes
+) {
+}
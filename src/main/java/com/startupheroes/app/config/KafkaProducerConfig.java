@@ -0,0 +1,146 @@
+package com.startupheroes.app.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.MicrometerProducerListener;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * Üç ayrı producer tanımlar:
+ * <ul>
+ *     <li>interactive ({@code @Primary}): tekil gönderimler, düşük linger; kayıt beklemeden gönderilir.</li>
+ *     <li>bulk: bootstrap, büyük batch + linger + sıkıştırma; ağ ve broker maliyeti kayıt başına düşer.</li>
+ *     <li>transactional: bulk ayarlarıyla aynı, {@code app.bootstrap.transactions.id-prefix} ile transactional;
+ *     yalnızca exactly-once bootstrap'ta kullanılır.</li>
+ * </ul>
+ * Üçü de {@code spring.kafka.producer} ayarlarından türetilir, üzerine {@link ProducerProfileProperties} yazılır;
+ * transactional producer {@code bulk} profilini kullanır.
+ */
+@Configuration
+public class KafkaProducerConfig {
+
+    @Bean
+    @Primary
+    public ProducerFactory<String, byte[]> interactiveProducerFactory(KafkaProperties kafkaProperties,
+                                                                     ProducerProfileProperties profileProperties,
+                                                                     ObjectProvider<SslBundles> sslBundles,
+                                                                     MeterRegistry meterRegistry) {
+        return createProducerFactory(kafkaProperties, profileProperties.interactive(), sslBundles, meterRegistry,
+                "interactive");
+    }
+
+    @Bean
+    public ProducerFactory<String, byte[]> bulkProducerFactory(KafkaProperties kafkaProperties,
+                                                              ProducerProfileProperties profileProperties,
+                                                              ObjectProvider<SslBundles> sslBundles,
+                                                              MeterRegistry meterRegistry) {
+        return createProducerFactory(kafkaProperties, profileProperties.bulk(), sslBundles, meterRegistry, "bulk");
+    }
+
+    /**
+     * Transactional producer'lar thread başına havuzdan alınır ve {@code id-prefix + sıra no} ile adlandırılır.
+     * Yeniden başlatmada aynı id'ler kullanıldığından, yarıda kalan transaction'lar yeni producer tarafından abort edilir.
+     */
+    @Bean
+    public ProducerFactory<String, byte[]> transactionalProducerFactory(KafkaProperties kafkaProperties,
+                                                                       ProducerProfileProperties profileProperties,
+                                                                       BootstrapProperties bootstrapProperties,
+                                                                       ObjectProvider<SslBundles> sslBundles,
+                                                                       MeterRegistry meterRegistry) {
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory = createProducerFactory(kafkaProperties,
+                profileProperties.bulk(), sslBundles, meterRegistry, "transactional");
+        producerFactory.updateConfigs(Map.of(
+                ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+                ProducerConfig.ACKS_CONFIG, "all"));
+        producerFactory.setTransactionIdPrefix(bootstrapProperties.transactions().idPrefix());
+        return producerFactory;
+    }
+
+    @Bean
+    @Primary
+    public KafkaTemplate<String, byte[]> kafkaTemplate(ProducerFactory<String, byte[]> interactiveProducerFactory,
+                                                       KafkaProperties kafkaProperties) {
+        return createTemplate(interactiveProducerFactory, kafkaProperties);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> bulkKafkaTemplate(@Qualifier("bulkProducerFactory")
+                                                           ProducerFactory<String, byte[]> bulkProducerFactory,
+                                                           KafkaProperties kafkaProperties) {
+        return createTemplate(bulkProducerFactory, kafkaProperties);
+    }
+
+    @Bean
+    public KafkaTemplate<String, byte[]> transactionalKafkaTemplate(@Qualifier("transactionalProducerFactory")
+                                                                    ProducerFactory<String, byte[]> transactionalProducerFactory,
+                                                                    KafkaProperties kafkaProperties) {
+        return createTemplate(transactionalProducerFactory, kafkaProperties);
+    }
+
+    /**
+     * Send callback'leri varsayılan olarak producer'ın I/O thread'inde çalışır. Virtual thread
+     * modunda callback'ler ayrı virtual thread'lere taşınır; böylece loglama, hata işleme gibi
+     * işler I/O thread'ini ve dolayısıyla diğer kayıtların gönderimini bekletmez.
+     */
+    @Bean
+    public Executor kafkaCallbackExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kafka-callback-", 1).factory());
+        }
+        return Runnable::run;
+    }
+
+    /**
+     * Retry beklemelerinden sonraki yeniden gönderimler ve dead-letter yazımları burada çalışır. Bunlar
+     * producer'ın I/O thread'inde yapılmamalıdır: {@code send} buffer dolduğunda bloklanır ve I/O thread'i
+     * kendi boşaltacağı buffer'ı bekler.
+     */
+    @Bean
+    public Executor kafkaRetryExecutor(Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("kafka-retry-", 1).factory());
+        }
+        return Executors.newFixedThreadPool(2, new CustomizableThreadFactory("kafka-retry-"));
+    }
+
+    private static DefaultKafkaProducerFactory<String, byte[]> createProducerFactory(KafkaProperties kafkaProperties,
+                                                                                    ProducerProfileProperties.Tuning tuning,
+                                                                                    ObjectProvider<SslBundles> sslBundles,
+                                                                                    MeterRegistry meterRegistry,
+                                                                                    String profileName) {
+        Map<String, Object> producerProperties = kafkaProperties.buildProducerProperties(sslBundles.getIfAvailable());
+        tuning.applyTo(producerProperties);
+        producerProperties.merge(ProducerConfig.CLIENT_ID_CONFIG, "package-producer-" + profileName,
+                (clientId, suffix) -> clientId + "-" + profileName);
+
+        DefaultKafkaProducerFactory<String, byte[]> producerFactory = new DefaultKafkaProducerFactory<>(producerProperties);
+        // Producer client metrikleri (kafka.producer.*: batch boyutu, record-queue-time, request latency, retry/error oranı)
+        // client.id tag'i ile registry'ye köprülenir.
+        producerFactory.addListener(new MicrometerProducerListener<>(meterRegistry));
+        return producerFactory;
+    }
+
+    private static KafkaTemplate<String, byte[]> createTemplate(ProducerFactory<String, byte[]> producerFactory,
+                                                                KafkaProperties kafkaProperties) {
+        KafkaTemplate<String, byte[]> template = new KafkaTemplate<>(producerFactory);
+        template.setDefaultTopic(kafkaProperties.getTemplate().getDefaultTopic());
+        template.setObservationEnabled(kafkaProperties.getTemplate().isObservationEnabled());
+        return template;
+    }
+}
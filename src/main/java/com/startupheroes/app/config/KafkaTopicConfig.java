@@ -2,11 +2,14 @@ package com.startupheroes.app.config;
 
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.common.config.TopicConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.TopicBuilder;
 
+import static java.util.Objects.nonNull;
 import static org.springframework.util.StringUtils.hasText;
 
 @Configuration
@@ -14,7 +17,16 @@ import static org.springframework.util.StringUtils.hasText;
 public class KafkaTopicConfig {
 
     private final KafkaProperties springKafkaProps;
+    private final PackageTopicProperties topicProperties;
+    private final PackageStateTopicProperties stateTopicProperties;
+    private final BootstrapProperties bootstrapProperties;
+    private final DeadLetterTopicProperties deadLetterProperties;
 
+    /**
+     * Not – topic zaten varsa KafkaAdmin yalnızca partition sayısını artırabilir; replica sayısı ve
+     * topic config'leri mevcut topic'e uygulanmaz. Partition sayısı artırıldığında aynı key'in
+     * kayıtları farklı bir partition'a düşebilir.
+     */
     @Bean
     public NewTopic packageTopic() {
         String topicName = springKafkaProps.getTemplate().getDefaultTopic();
@@ -22,9 +34,72 @@ public class KafkaTopicConfig {
         if (!hasText(topicName)) {
             throw new IllegalStateException("Kafka default topic name is not configured");
         }
-        return TopicBuilder.name(topicName)
+        TopicBuilder builder = TopicBuilder.name(topicName)
+                .partitions(topicProperties.partitions())
+                .replicas(topicProperties.replicas())
+                .config(TopicConfig.CLEANUP_POLICY_CONFIG, topicProperties.cleanupPolicy());
+
+        if (nonNull(topicProperties.minInsyncReplicas())) {
+            builder.config(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, String.valueOf(topicProperties.minInsyncReplicas()));
+        }
+        if (nonNull(topicProperties.retention())) {
+            builder.config(TopicConfig.RETENTION_MS_CONFIG, String.valueOf(topicProperties.retention().toMillis()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Paket başına son {@code MappedPackage}'ı tutan compacted topic. Partition seçimi her zaman
+     * package id key'i üzerinden yapılır; tombstone'un silmesi gereken kayıtla aynı partition'a düşmesi gerekir.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.kafka.state-topic", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public NewTopic packageStateTopic() {
+        TopicBuilder builder = TopicBuilder.name(stateTopicProperties.name())
+                .partitions(stateTopicProperties.partitions())
+                .replicas(stateTopicProperties.replicas())
+                .compact();
+
+        if (nonNull(stateTopicProperties.minInsyncReplicas())) {
+            builder.config(TopicConfig.MIN_IN_SYNC_REPLICAS_CONFIG, String.valueOf(stateTopicProperties.minInsyncReplicas()));
+        }
+        if (nonNull(stateTopicProperties.deleteRetention())) {
+            builder.config(TopicConfig.DELETE_RETENTION_MS_CONFIG, String.valueOf(stateTopicProperties.deleteRetention().toMillis()));
+        }
+        if (nonNull(stateTopicProperties.minCompactionLag())) {
+            builder.config(TopicConfig.MIN_COMPACTION_LAG_MS_CONFIG, String.valueOf(stateTopicProperties.minCompactionLag().toMillis()));
+        }
+        if (nonNull(stateTopicProperties.segment())) {
+            builder.config(TopicConfig.SEGMENT_MS_CONFIG, String.valueOf(stateTopicProperties.segment().toMillis()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Exactly-once bootstrap'ta bootstrap partition'ı başına son commit edilen ilerleme. Kayıtlar küçük ve
+     * partition sayısı kadar olduğundan tek partition yeterlidir.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.bootstrap.transactions", name = "enabled", havingValue = "true")
+    public NewTopic bootstrapProgressTopic() {
+        return TopicBuilder.name(bootstrapProperties.transactions().progressTopic())
                 .partitions(1)
-                .replicas(1)
+                .replicas(topicProperties.replicas())
+                .compact()
+                .build();
+    }
+
+    /**
+     * Retry'ları tükenen event ve state kayıtları. Replay orijinal topic'i header'dan okuduğundan
+     * partition sayısının event topic ile aynı olması gerekmez.
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.kafka.dead-letter", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public NewTopic packageDeadLetterTopic() {
+        return TopicBuilder.name(springKafkaProps.getTemplate().getDefaultTopic() + deadLetterProperties.suffix())
+                .partitions(deadLetterProperties.partitions())
+                .replicas(topicProperties.replicas())
+                .config(TopicConfig.RETENTION_MS_CONFIG, String.valueOf(deadLetterProperties.retention().toMillis()))
                 .build();
     }
 }
@@ -0,0 +1,31 @@
+package com.startupheroes.app.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Tekil gönderim ({@code POST /kafka/send/{packageId}}) için {@link com.startupheroes.app.dto.EncodedPackage} cache'i.
+ * <p>
+ * {@code expire-after-write}: sync ve outbox dışında yapılan değişikliklerin cache'te kalabileceği en uzun süre.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.cache.packages")
+public record PackageCacheProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @Positive
+        @DefaultValue("10000")
+        long maximumSize,
+
+        @NotNull
+        @DefaultValue("10m")
+        Duration expireAfterWrite
+) {
+}
@@ -0,0 +1,33 @@
+package com.startupheroes.app.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+@Configuration
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true")
+public class PackageOutboxConfig {
+
+    private final Environment environment;
+
+    @Bean(destroyMethod = "shutdownNow")
+    public ExecutorService outboxRelayExecutor(PackageOutboxProperties outboxProperties) {
+        return Executors.newFixedThreadPool(outboxProperties.workers(), threadFactory("outbox-relay-"));
+    }
+
+    private ThreadFactory threadFactory(String prefix) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            return Thread.ofVirtual().name(prefix, 1).factory();
+        }
+        return new CustomizableThreadFactory(prefix);
+    }
+}
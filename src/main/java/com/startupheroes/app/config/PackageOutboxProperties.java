@@ -0,0 +1,54 @@
+package com.startupheroes.app.config;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Outbox relay ayarları.
+ * <p>
+ * {@code workers}: aynı instance içinde paralel çalışan relay döngüsü sayısı. DB bağlantısı yalnızca claim ve
+ * silme sırasında tutulur, Kafka gönderimi boyunca tutulmaz. {@code poll-interval}: tablo boş olduğunda bir sonraki denemeye kadar beklenen süre;
+ * dolu olduğu sürece batch'ler beklemeden art arda işlenir. {@code shutdown-timeout}: kapanışta döngülerin mevcut
+ * batch'i bitirmesi için beklenen en uzun süre; {@code spring.lifecycle.timeout-per-shutdown-phase}'den büyük olmamalı.
+ * {@code claim-timeout}: claim edilip silinmemiş satırların (ör. relay gönderim sırasında çöktü) başka bir relay
+ * tarafından tekrar alınmadan önce beklediği süre; bir batch gönderiminin en kötü süresinden uzun olmalı.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.outbox")
+public record PackageOutboxProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        @Positive
+        @DefaultValue("2")
+        int workers,
+
+        @Positive
+        @Max(10000)
+        @DefaultValue("1000")
+        int batchSize,
+
+        @NotNull
+        @DefaultValue("200ms")
+        Duration pollInterval,
+
+        @NotNull
+        @DefaultValue("1s")
+        Duration errorBackoff,
+
+        @NotNull
+        @DefaultValue("30s")
+        Duration shutdownTimeout,
+
+        @NotNull
+        @DefaultValue("15m")
+        Duration claimTimeout
+) {
+}
@@ -0,0 +1,46 @@
+package com.startupheroes.app.config;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Paketlerin son halini tutan compacted topic'in ayarları.
+ * <p>
+ * {@code delete-retention}: tombstone'ların compaction'dan sonra ne kadar tutulacağı. Bu süreden uzun
+ * süre kapalı kalan bir consumer silinen paketi hiç görmeyebilir.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.kafka.state-topic")
+public record PackageStateTopicProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        @NotBlank
+        @DefaultValue("package-state")
+        String name,
+
+        @Positive
+        @DefaultValue("1")
+        int partitions,
+
+        @Positive
+        @DefaultValue("1")
+        short replicas,
+
+        @Positive
+        Integer minInsyncReplicas,
+
+        @DefaultValue("1d")
+        Duration deleteRetention,
+
+        Duration minCompactionLag,
+
+        Duration segment
+) {
+}
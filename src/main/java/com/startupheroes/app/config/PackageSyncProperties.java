@@ -0,0 +1,40 @@
+package com.startupheroes.app.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * {@code last_updated_at} üzerinden artımlı senkronizasyon ayarları.
+ * <p>
+ * {@code settle-delay}: son bu kadar süre içinde güncellenen satırlar bir sonraki çalışmaya bırakılır;
+ * aynı timestamp ile henüz commit edilmemiş satırların watermark'ın gerisinde kalmasını önler.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.sync")
+public record PackageSyncProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        @NotNull
+        @DefaultValue("30s")
+        Duration interval,
+
+        @Positive
+        @DefaultValue("1000")
+        int batchSize,
+
+        @Positive
+        @DefaultValue("100")
+        int maxBatchesPerRun,
+
+        @NotNull
+        @DefaultValue("5s")
+        Duration settleDelay
+) {
+}
@@ -0,0 +1,60 @@
+package com.startupheroes.app.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * {@code spring.kafka.template.default-topic} topic'inin ayarları ve partition seçimi.
+ * <p>
+ * Boş bırakılan {@code min-insync-replicas} ve {@code retention} broker varsayılanlarını kullanır.
+ * {@code partition-count-refresh}: gönderimlerde kullanılan partition sayısının producer metadata'sından yeniden
+ * okunma aralığı; topic'e partition eklenirse yeni partition'lar en geç bu süre sonra kullanılır.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.kafka.topic")
+public record PackageTopicProperties(
+
+        @Positive
+        @DefaultValue("1")
+        int partitions,
+
+        @Positive
+        @DefaultValue("1")
+        short replicas,
+
+        @Positive
+        Integer minInsyncReplicas,
+
+        Duration retention,
+
+        @NotNull
+        @Pattern(regexp = "delete|compact|compact,delete|delete,compact")
+        @DefaultValue("delete")
+        String cleanupPolicy,
+
+        @NotNull
+        @DefaultValue("PACKAGE_ID")
+        PartitionKey partitionKey,
+
+        @NotNull
+        @DefaultValue("5m")
+        Duration partitionCountRefresh
+) {
+
+    /**
+     * Kaydın partition'ını belirleyen alan. Kafka key'i her durumda package id'dir; böylece
+     * aynı paketin kayıtları sırasını korur ve compaction package id üzerinden çalışır.
+     * Store/customer id'si olmayan paketler package id ile yönlendirilir.
+     */
+    public enum PartitionKey {
+        PACKAGE_ID,
+        STORE_ID,
+        CUSTOMER_ID
+    }
+}
@@ -0,0 +1,64 @@
+package com.startupheroes.app.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * {@code spring.kafka.producer} ayarlarının üzerine yazılan, profil bazında producer ayarları.
+ * Boş bırakılan alanlar {@code spring.kafka.producer} / Kafka varsayılanlarından gelir.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.kafka.producer-profiles")
+public record ProducerProfileProperties(
+
+        @Valid
+        @NotNull
+        Tuning bulk,
+
+        @Valid
+        @NotNull
+        Tuning interactive
+) {
+
+    public record Tuning(
+
+            @PositiveOrZero
+            Integer batchSize,
+
+            Duration linger,
+
+            String compressionType,
+
+            Boolean enableIdempotence,
+
+            String acks
+    ) {
+
+        public void applyTo(Map<String, Object> producerProperties) {
+            if (nonNull(batchSize)) {
+                producerProperties.put(ProducerConfig.BATCH_SIZE_CONFIG, batchSize);
+            }
+            if (nonNull(linger)) {
+                producerProperties.put(ProducerConfig.LINGER_MS_CONFIG, (int) linger.toMillis());
+            }
+            if (nonNull(compressionType)) {
+                producerProperties.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, compressionType);
+            }
+            if (nonNull(enableIdempotence)) {
+                producerProperties.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, enableIdempotence);
+            }
+            if (nonNull(acks)) {
+                producerProperties.put(ProducerConfig.ACKS_CONFIG, acks);
+            }
+        }
+    }
+}
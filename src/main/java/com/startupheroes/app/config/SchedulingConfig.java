@@ -0,0 +1,11 @@
+package com.startupheroes.app.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(prefix = "app.sync", name = "enabled", havingValue = "true")
+public class SchedulingConfig {
+}
@@ -0,0 +1,45 @@
+package com.startupheroes.app.config;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * Producer'ın kendi retry'larından ({@code delivery.timeout.ms}) sonra hâlâ başarısız olan gönderimler için
+ * uygulama seviyesinde yeniden deneme.
+ * <p>
+ * {@code attempt} numaralı denemeden sonraki bekleme {@code min(max-backoff, initial-backoff x multiplier^(attempt-1))}
+ * değerinin yarısı ile tamamı arasında rastgele seçilir; aynı anda düşen kayıtların retry'ları zamana yayılır.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.kafka.retry")
+public record SendRetryProperties(
+
+        @Positive
+        @DefaultValue("4")
+        int maxAttempts,
+
+        @NotNull
+        @DefaultValue("200ms")
+        Duration initialBackoff,
+
+        @NotNull
+        @DefaultValue("5s")
+        Duration maxBackoff,
+
+        @DecimalMin("1.0")
+        @DefaultValue("2.0")
+        double multiplier
+) {
+
+    public long backoffMillis(int attempt, double random) {
+        double exponential = initialBackoff.toMillis() * Math.pow(multiplier, attempt - 1);
+        long capped = (long) Math.min(exponential, maxBackoff.toMillis());
+        return capped / 2 + (long) (random * (capped - capped / 2));
+    }
+}
@@ -0,0 +1,32 @@
+package com.startupheroes.app.config;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * {@code POST /kafka/send/{packageId}} için eşzamanlı istek birleştirme ve tekrar gönderim bastırma.
+ * <p>
+ * {@code dedup-window}: bir paket ack aldıktan sonra bu süre içinde aynı value ile tekrar istenirse Kafka'ya
+ * yazılmaz. {@code 0s} ile kapalıdır.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.single-send")
+public record SingleSendProperties(
+
+        @DefaultValue("true")
+        boolean coalesce,
+
+        @NotNull
+        @DefaultValue("0s")
+        Duration dedupWindow,
+
+        @Positive
+        @DefaultValue("10000")
+        long dedupMaximumSize
+) {
+}
@@ -0,0 +1,35 @@
+package com.startupheroes.app.config;
+
+import jakarta.validation.constraints.NotNull;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.Map;
+
+/**
+ * Topic bazında {@code MappedPackage} value formatı.
+ * <p>
+ * {@code topics} içinde olmayan topic'ler {@code default-format} ile yazılır.
+ */
+@Validated
+@ConfigurationProperties(prefix = "app.kafka.wire-format")
+public record WireFormatProperties(
+
+        @NotNull
+        @DefaultValue("JSON")
+        WireFormat defaultFormat,
+
+        @DefaultValue
+        Map<String, WireFormat> topics
+) {
+
+    public WireFormat formatFor(String topic) {
+        return topics.getOrDefault(topic, defaultFormat);
+    }
+
+    public enum WireFormat {
+        JSON,
+        BINARY
+    }
+}
@@ -0,0 +1,34 @@
+package com.startupheroes.app.controller;
+
+import com.startupheroes.app.dto.response.ApiResponse;
+import com.startupheroes.app.dto.response.DeadLetterReplayResponse;
+import com.startupheroes.app.service.DeadLetterReplayService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/kafka/dlt")
+@RequiredArgsConstructor
+@Tag(name = "Dead-letter Topic")
+public class DeadLetterController {
+
+    private final DeadLetterReplayService deadLetterReplayService;
+
+    @PostMapping("/replay")
+    @Operation(summary = "Re-send dead-lettered records to their original topics")
+    public ApiResponse<DeadLetterReplayResponse> replayDeadLetters(
+            @RequestParam(defaultValue = "10000") @Positive @Max(100000) int maxRecords) {
+        log.info("Replaying dead-letter records: maxRecords={}", maxRecords);
+        DeadLetterReplayResponse response = deadLetterReplayService.replay(maxRecords);
+
+        return ApiResponse.success("Dead-letter replay completed", response);
+    }
+}
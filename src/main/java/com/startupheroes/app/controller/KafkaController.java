@@ -1,17 +1,26 @@
 package com.startupheroes.app.controller;
 
+import com.startupheroes.app.dto.PackageFilter;
+import com.startupheroes.app.dto.request.PackageBatchSendRequest;
 import com.startupheroes.app.dto.response.ApiResponse;
+import com.startupheroes.app.dto.response.BatchSendResponse;
+import com.startupheroes.app.dto.response.BootstrapJobResponse;
+import com.startupheroes.app.service.BootstrapJob;
+import com.startupheroes.app.service.BootstrapJobService;
 import com.startupheroes.app.service.KafkaOperationService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.Positive;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
 import org.springframework.validation.annotation.Validated;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
+
+import static com.startupheroes.app.dto.BootstrapJobType.FULL;
+import static com.startupheroes.app.dto.BootstrapJobType.RESUME;
+import static java.util.Objects.requireNonNullElse;
 
 @Slf4j
 @Validated
@@ -22,6 +31,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class KafkaController {
 
     private final KafkaOperationService kafkaOperationService;
+    private final BootstrapJobService bootstrapJobService;
 
     @PostMapping("/send/{packageId}")
     @Operation(summary = "Send a package to Kafka")
@@ -32,13 +42,51 @@ public class KafkaController {
         return ApiResponse.success("Package sent to Kafka successfully", sentPackageId);
     }
 
+    @PostMapping("/send")
+    @Operation(summary = "Send a batch of packages to Kafka")
+    public ApiResponse<BatchSendResponse> sendPackages(@Valid @RequestBody PackageBatchSendRequest request) {
+        log.info("Sending package batch to Kafka: count={}", request.packageIds().size());
+        BatchSendResponse response = kafkaOperationService.sendPackagesToKafka(request.packageIds());
+
+        return ApiResponse.success("Package batch processed", response);
+    }
+
     @PostMapping("/bootstrap")
-    @Operation(summary = "Bootstrap all packages to Kafka")
-    public ApiResponse<Integer> bootstrapPackages() {
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Start an asynchronous bootstrap of all packages, or of a filtered slice, to Kafka")
+    public ApiResponse<BootstrapJobResponse> bootstrapPackages(@Valid @RequestBody(required = false) PackageFilter filter) {
+
+        log.debug("Starting Kafka bootstrap job: filter={}", filter);
+        BootstrapJob job = bootstrapJobService.start(FULL, requireNonNullElse(filter, PackageFilter.NONE));
+
+        return ApiResponse.success("Bootstrap job started", job.toResponse());
+    }
+
+    @PostMapping("/bootstrap/resume")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(summary = "Start an asynchronous bootstrap that resumes from the last checkpoints")
+    public ApiResponse<BootstrapJobResponse> resumeBootstrap() {
+
+        log.debug("Starting Kafka bootstrap resume job");
+        BootstrapJob job = bootstrapJobService.start(RESUME, PackageFilter.NONE);
+
+        return ApiResponse.success("Bootstrap resume job started", job.toResponse());
+    }
+
+    @GetMapping("/bootstrap/{jobId}")
+    @Operation(summary = "Get progress of a bootstrap job")
+    public ApiResponse<BootstrapJobResponse> getBootstrapJob(@PathVariable String jobId) {
+        BootstrapJob job = bootstrapJobService.getJob(jobId);
+
+        return ApiResponse.success("Bootstrap job " + job.getStatus(), job.toResponse());
+    }
 
-        log.debug("Starting Kafka bootstrap");
-        int sentCount = kafkaOperationService.sendAllPackagesToKafka();
+    @DeleteMapping("/bootstrap/{jobId}")
+    @Operation(summary = "Cancel a running bootstrap job")
+    public ApiResponse<BootstrapJobResponse> cancelBootstrapJob(@PathVariable String jobId) {
+        log.info("Cancelling bootstrap job: jobId={}", jobId);
+        BootstrapJob job = bootstrapJobService.cancel(jobId);
 
-        return ApiResponse.success("All packages sent successfully", sentCount);
+        return ApiResponse.success("Bootstrap job cancellation requested", job.toResponse());
     }
-}
\ No newline at end of file
+}
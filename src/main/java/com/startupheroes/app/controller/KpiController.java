@@ -0,0 +1,34 @@
+package com.startupheroes.app.controller;
+
+import com.startupheroes.app.dto.response.ApiResponse;
+import com.startupheroes.app.dto.response.DeliveryKpiResponse;
+import com.startupheroes.app.service.DeliveryKpiAggregator;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@RestController
+@RequestMapping("/kafka/kpi")
+@RequiredArgsConstructor
+@Tag(name = "Delivery KPIs")
+public class KpiController {
+
+    private final DeliveryKpiAggregator deliveryKpiAggregator;
+
+    @GetMapping
+    @Operation(summary = "Get delivery KPIs of all retained days aggregated from the package events topic")
+    public ApiResponse<List<DeliveryKpiResponse>> getDeliveryKpis() {
+        return ApiResponse.success("Delivery KPIs retrieved", deliveryKpiAggregator.getAll());
+    }
+
+    @GetMapping("/{day}")
+    @Operation(summary = "Get delivery KPIs of packages created on a day")
+    public ApiResponse<DeliveryKpiResponse> getDeliveryKpi(@PathVariable @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate day) {
+        return ApiResponse.success("Delivery KPIs found", deliveryKpiAggregator.get(day));
+    }
+}
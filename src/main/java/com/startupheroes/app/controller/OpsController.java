@@ -0,0 +1,65 @@
+package com.startupheroes.app.controller;
+
+import com.startupheroes.app.config.PackageTopicProperties;
+import com.startupheroes.app.config.PackageTopicProperties.PartitionKey;
+import com.startupheroes.app.dto.response.ApiResponse;
+import com.startupheroes.app.dto.response.PackageCacheStatsResponse;
+import com.startupheroes.app.dto.response.PackageSchemaResponse;
+import com.startupheroes.app.dto.response.PartitionSkewResponse;
+import com.startupheroes.app.serializer.PackageSchemaStore;
+import com.startupheroes.app.service.PackageCache;
+import com.startupheroes.app.service.PartitionSkewService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import lombok.RequiredArgsConstructor;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+import static java.util.Objects.requireNonNullElse;
+
+@Validated
+@RestController
+@RequestMapping("/kafka")
+@RequiredArgsConstructor
+@Tag(name = "Kafka Diagnostics")
+public class OpsController {
+
+    private final PackageCache packageCache;
+    private final PackageSchemaStore packageSchemaStore;
+    private final PartitionSkewService partitionSkewService;
+    private final PackageTopicProperties topicProperties;
+
+    @GetMapping("/cache/stats")
+    @Operation(summary = "Get hit, miss and eviction statistics of the single-send package cache")
+    public ApiResponse<PackageCacheStatsResponse> getPackageCacheStats() {
+        return ApiResponse.success("Package cache statistics retrieved", packageCache.stats());
+    }
+
+    @GetMapping("/schemas/{fingerprint}")
+    @Operation(summary = "Get the Avro schema of binary encoded package records by fingerprint")
+    public ApiResponse<PackageSchemaResponse> getPackageSchema(
+            @PathVariable @Pattern(regexp = "[0-9a-fA-F]{1,16}", message = "fingerprint must be a hex string") String fingerprint) {
+        long parsedFingerprint = Long.parseUnsignedLong(fingerprint, 16);
+        PackageSchemaResponse response = PackageSchemaResponse.builder()
+                .fingerprint(Long.toHexString(parsedFingerprint))
+                .schema(packageSchemaStore.getSchema(parsedFingerprint))
+                .build();
+
+        return ApiResponse.success("Package schema found", response);
+    }
+
+    @GetMapping("/partitions/skew")
+    @Operation(summary = "Compute the partition distribution of non-cancelled packages for a partition key")
+    public ApiResponse<PartitionSkewResponse> getPartitionSkew(
+            @RequestParam(required = false) PartitionKey partitionKey,
+            @RequestParam(required = false) @Positive @Max(10000) Integer partitions) {
+        PartitionSkewResponse response = partitionSkewService.analyze(
+                requireNonNullElse(partitionKey, topicProperties.partitionKey()),
+                requireNonNullElse(partitions, topicProperties.partitions()));
+
+        return ApiResponse.success("Partition skew computed", response);
+    }
+}
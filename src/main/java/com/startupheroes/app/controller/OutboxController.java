@@ -0,0 +1,29 @@
+package com.startupheroes.app.controller;
+
+import com.startupheroes.app.dto.response.ApiResponse;
+import com.startupheroes.app.dto.response.PackageOutboxRelayResponse;
+import com.startupheroes.app.service.PackageOutboxRelay;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/kafka/outbox")
+@RequiredArgsConstructor
+@Tag(name = "Package Outbox")
+public class OutboxController {
+
+    private final PackageOutboxRelay packageOutboxRelay;
+
+    @PostMapping("/relay")
+    @Operation(summary = "Publish pending package outbox rows until the outbox is empty")
+    public ApiResponse<PackageOutboxRelayResponse> relayOutbox() {
+        log.info("Draining package outbox");
+        PackageOutboxRelayResponse response = packageOutboxRelay.drain();
+
+        return ApiResponse.success("Package outbox drained", response);
+    }
+}
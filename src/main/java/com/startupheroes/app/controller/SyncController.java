@@ -0,0 +1,29 @@
+package com.startupheroes.app.controller;
+
+import com.startupheroes.app.dto.response.ApiResponse;
+import com.startupheroes.app.dto.response.PackageSyncResponse;
+import com.startupheroes.app.service.PackageSyncService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.bind.annotation.*;
+
+@Slf4j
+@RestController
+@RequestMapping("/kafka/sync")
+@RequiredArgsConstructor
+@Tag(name = "Package Sync")
+public class SyncController {
+
+    private final PackageSyncService packageSyncService;
+
+    @PostMapping
+    @Operation(summary = "Send packages changed since the last sync watermark")
+    public ApiResponse<PackageSyncResponse> syncChangedPackages() {
+        log.info("Running package sync");
+        PackageSyncResponse response = packageSyncService.sync();
+
+        return ApiResponse.success("Package sync completed", response);
+    }
+}
@@ -0,0 +1,9 @@
+package com.startupheroes.app.dto;
+
+public enum BootstrapJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED,
+    CANCELLED
+}
@@ -0,0 +1,6 @@
+package com.startupheroes.app.dto;
+
+public enum BootstrapJobType {
+    FULL,
+    RESUME
+}
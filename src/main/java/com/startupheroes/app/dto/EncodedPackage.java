@@ -0,0 +1,11 @@
+package com.startupheroes.app.dto;
+
+/**
+ * Topic formatlarına göre encode edilmiş paket. {@code stateValue}, state topic kapalıysa null'dır.
+ */
+public record EncodedPackage(MappedPackage mappedPackage, byte[] eventValue, byte[] stateValue) {
+
+    public long sizeInBytes() {
+        return eventValue.length + (stateValue == null ? 0 : stateValue.length);
+    }
+}
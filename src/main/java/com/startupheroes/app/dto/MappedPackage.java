@@ -1,8 +1,15 @@
 package com.startupheroes.app.dto;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Builder;
 
+/**
+ * Kafka'ya yazılan paket mesajı.
+ * <p>
+ * {@code storeId} ve {@code customerId} mesaja yazılmaz; yalnızca partition seçimi
+ * ({@code app.kafka.topic.partition-key}) için taşınır.
+ */
 @Builder
 @Schema(description = "Mapped package data transfer object")
 public record MappedPackage(
@@ -29,6 +36,14 @@ public record MappedPackage(
         Integer leadTime,
 
         @Schema(description = "Whether order was delivered on time")
-        Boolean orderInTime
+        Boolean orderInTime,
+
+        @JsonIgnore
+        @Schema(hidden = true)
+        Long storeId,
+
+        @JsonIgnore
+        @Schema(hidden = true)
+        Long customerId
 ) {
 }
\ No newline at end of file
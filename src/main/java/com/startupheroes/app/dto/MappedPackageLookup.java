@@ -0,0 +1,11 @@
+package com.startupheroes.app.dto;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Toplu id sorgusunun sonucu: gönderilebilir paketler ve cancelled olanların id'leri.
+ * İki kümede de bulunmayan id'ler veritabanında yoktur.
+ */
+public record MappedPackageLookup(Map<Long, MappedPackage> mappedPackages, Set<Long> cancelledIds) {
+}
@@ -0,0 +1,21 @@
+package com.startupheroes.app.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Watermark'tan sonra değişen paketlerin bir sayfası. {@code lastUpdatedAt} / {@code lastPackageId}
+ * sayfadaki son satırın (last_updated_at, id) değeridir ve bir sonraki sayfanın başlangıcıdır.
+ */
+public record PackageChangeBatch(
+        List<MappedPackage> packages,
+        List<Long> cancelledIds,
+        int size,
+        LocalDateTime lastUpdatedAt,
+        Long lastPackageId
+) {
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
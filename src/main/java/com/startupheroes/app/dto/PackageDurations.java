@@ -0,0 +1,11 @@
+package com.startupheroes.app.dto;
+
+public record PackageDurations(
+        Integer collectionDuration,
+        Integer deliveryDuration,
+        Integer leadTime,
+        Boolean orderInTime
+) {
+
+    public static final PackageDurations NONE = new PackageDurations(null, null, null, null);
+}
@@ -0,0 +1,86 @@
+package com.startupheroes.app.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.startupheroes.app.entity.PackageStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Bootstrap'in gönderdiği paketleri daraltan kriterler; verilen alanlar AND ile birleşir, boş alanlar filtrelemez.
+ * <p>
+ * Not – {@code cancelled} her zaman ayrıca uygulanır: cancelled paketler filtreye uysa da gönderilmez, state topic
+ * açıksa tombstone'ları yazılır. {@code statuses} CANCELLED içermiyorsa tombstone da yazılmaz.
+ */
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Criteria that restrict a bootstrap to a slice of the package table")
+public record PackageFilter(
+
+        @Schema(description = "Only packages in one of these statuses", example = "[\"COMPLETED\"]")
+        Set<PackageStatus> statuses,
+
+        @Positive
+        @Schema(description = "Only packages of this store", example = "20000000004103")
+        Long storeId,
+
+        @Schema(description = "Delivery date lower bound, inclusive", example = "2021-11-13")
+        LocalDate deliveryDateFrom,
+
+        @Schema(description = "Delivery date upper bound, inclusive", example = "2021-11-13")
+        LocalDate deliveryDateTo,
+
+        @Schema(description = "Creation timestamp lower bound, inclusive", example = "2021-11-13T00:00:00")
+        LocalDateTime createdFrom,
+
+        @Schema(description = "Creation timestamp upper bound, exclusive", example = "2021-11-14T00:00:00")
+        LocalDateTime createdTo,
+
+        @Positive
+        @Schema(description = "Package ID lower bound, inclusive", example = "19604181")
+        Long idFrom,
+
+        @Positive
+        @Schema(description = "Package ID upper bound, inclusive", example = "19604999")
+        Long idTo
+) {
+
+    public static final PackageFilter NONE = PackageFilter.builder().build();
+
+    @JsonIgnore
+    public boolean isEmpty() {
+        return NONE.equals(this);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "must not be empty")
+    public boolean isStatusesValid() {
+        return isNull(statuses) || !statuses.isEmpty();
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "deliveryDateFrom must not be after deliveryDateTo")
+    public boolean isDeliveryDateRangeValid() {
+        return isNull(deliveryDateFrom) || isNull(deliveryDateTo) || !deliveryDateFrom.isAfter(deliveryDateTo);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "createdFrom must be before createdTo")
+    public boolean isCreatedRangeValid() {
+        return isNull(createdFrom) || isNull(createdTo) || createdFrom.isBefore(createdTo);
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "idFrom must not be greater than idTo")
+    public boolean isIdRangeValid() {
+        return isNull(idFrom) || isNull(idTo) || idFrom <= idTo;
+    }
+}
@@ -0,0 +1,4 @@
+package com.startupheroes.app.dto;
+
+public record PackageIdRange(Long minId, Long maxId) {
+}
@@ -0,0 +1,25 @@
+package com.startupheroes.app.dto;
+
+import com.startupheroes.app.entity.PackageStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * {@link com.startupheroes.app.entity.Package} entity'sinin yalnızca {@link MappedPackage}
+ * üretmek için gereken kolonlarını taşıyan salt okunur projeksiyon.
+ * Managed entity olmadığı için persistence context'e girmez ve dirty-checking snapshot'ı tutulmaz.
+ */
+public record PackageView(
+        Long id,
+        LocalDateTime createdAt,
+        LocalDateTime lastUpdatedAt,
+        Integer eta,
+        PackageStatus status,
+        LocalDateTime completedAt,
+        LocalDateTime pickedUpAt,
+        LocalDateTime inDeliveryAt,
+        Boolean cancelled,
+        Long storeId,
+        Long customerId
+) {
+}
@@ -0,0 +1,11 @@
+package com.startupheroes.app.dto;
+
+/**
+ * Gönderimin hangi producer ayarlarıyla yapılacağı.
+ * <p>
+ * BULK: bootstrap gibi throughput odaklı gönderimler. INTERACTIVE: HTTP isteğine cevap bekleyen gönderimler.
+ */
+public enum ProducerProfile {
+    BULK,
+    INTERACTIVE
+}
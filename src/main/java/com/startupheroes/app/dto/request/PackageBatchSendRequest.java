@@ -0,0 +1,19 @@
+package com.startupheroes.app.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+
+import java.util.List;
+
+@Schema(description = "Batch of package ids to send to Kafka")
+public record PackageBatchSendRequest(
+
+        @NotEmpty
+        @Size(max = 5000)
+        @Schema(description = "Package IDs; duplicates are sent once", example = "[19604181, 19604183]")
+        List<@NotNull @Positive Long> packageIds
+) {
+}
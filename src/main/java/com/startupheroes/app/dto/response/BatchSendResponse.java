@@ -0,0 +1,24 @@
+package com.startupheroes.app.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Outcome of a batch send")
+public record BatchSendResponse(
+
+        @Schema(description = "Number of distinct package ids in the request", example = "3")
+        int requestedCount,
+
+        @Schema(description = "Number of packages acknowledged by Kafka", example = "2")
+        long sentCount,
+
+        @Schema(description = "Elapsed time of the Kafka send in milliseconds", example = "12")
+        long elapsedMillis,
+
+        @Schema(description = "Per package outcome in request order")
+        List<PackageSendResult> results
+) {
+}
@@ -0,0 +1,62 @@
+package com.startupheroes.app.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.startupheroes.app.dto.BootstrapJobStatus;
+import com.startupheroes.app.dto.BootstrapJobType;
+import com.startupheroes.app.dto.PackageFilter;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.Instant;
+
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+@Schema(description = "Live progress of an asynchronous bootstrap job")
+public record BootstrapJobResponse(
+
+        @Schema(description = "Job ID", example = "7f1c1a4e-2f0a-4b8e-9a55-1f7f3c0e9b21")
+        String jobId,
+
+        @Schema(description = "Job type")
+        BootstrapJobType type,
+
+        @Schema(description = "Criteria the bootstrap was restricted to; absent when all packages are sent")
+        PackageFilter filter,
+
+        @Schema(description = "Job status")
+        BootstrapJobStatus status,
+
+        @Schema(description = "Submission timestamp")
+        Instant createdAt,
+
+        @Schema(description = "Start timestamp")
+        Instant startedAt,
+
+        @Schema(description = "Finish timestamp")
+        Instant finishedAt,
+
+        @Schema(description = "Estimated number of packages to send", example = "2000000")
+        Long totalEstimate,
+
+        @Schema(description = "Rows read from the database so far", example = "120000")
+        long rowsRead,
+
+        @Schema(description = "Records acknowledged by Kafka so far", example = "119000")
+        long ackedCount,
+
+        @Schema(description = "Records that failed so far", example = "0")
+        long failedCount,
+
+        @Schema(description = "Average throughput in records per second", example = "15230.4")
+        double recordsPerSecond,
+
+        @Schema(description = "Estimated seconds until completion", example = "123")
+        Long etaSeconds,
+
+        @Schema(description = "Failure reason when the job failed")
+        String errorMessage,
+
+        @Schema(description = "Final summary once the job has finished")
+        BootstrapResult result
+) {
+}
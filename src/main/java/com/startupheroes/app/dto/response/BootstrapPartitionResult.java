@@ -0,0 +1,45 @@
+package com.startupheroes.app.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Statistics of a single bootstrap id range")
+public record BootstrapPartitionResult(
+
+        @Schema(description = "Partition number", example = "0")
+        int partitionNo,
+
+        @Schema(description = "Worker thread that processed the range", example = "bootstrap-worker-1")
+        String worker,
+
+        @Schema(description = "Exclusive lower bound of the id range", example = "0")
+        long fromIdExclusive,
+
+        @Schema(description = "Inclusive upper bound of the id range", example = "19604184")
+        long toIdInclusive,
+
+        @Schema(description = "Number of packages acknowledged by Kafka", example = "4")
+        long sentCount,
+
+        @Schema(description = "Number of cancelled packages written as tombstones to the package state topic", example = "1")
+        long tombstoneCount,
+
+        @Schema(description = "Ids of packages that failed; the range stops at the failing page")
+        List<Long> failedIds,
+
+        @Schema(description = "Ids of packages written to the dead-letter topic after exhausting their retries; the range continues past them")
+        List<Long> deadLetteredIds,
+
+        @Schema(description = "Serialized key and value bytes acknowledged by Kafka", example = "1505")
+        long bytes,
+
+        @Schema(description = "Elapsed time in milliseconds", example = "830")
+        long elapsedMillis,
+
+        @Schema(description = "Throughput in records per second", example = "4819.3")
+        double recordsPerSecond
+) {
+}
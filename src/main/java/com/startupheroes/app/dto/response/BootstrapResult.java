@@ -0,0 +1,36 @@
+package com.startupheroes.app.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Bootstrap run summary")
+public record BootstrapResult(
+
+        @Schema(description = "Number of packages acknowledged by Kafka", example = "7")
+        long sentCount,
+
+        @Schema(description = "Number of cancelled packages written as tombstones to the package state topic", example = "1")
+        long tombstoneCount,
+
+        @Schema(description = "Ids of packages that failed; the range stops at the failing page")
+        List<Long> failedIds,
+
+        @Schema(description = "Ids of packages written to the dead-letter topic after exhausting their retries; the range continues past them")
+        List<Long> deadLetteredIds,
+
+        @Schema(description = "Serialized key and value bytes acknowledged by Kafka", example = "1505")
+        long bytes,
+
+        @Schema(description = "Total elapsed time in milliseconds", example = "1250")
+        long elapsedMillis,
+
+        @Schema(description = "Overall throughput in records per second", example = "5600.0")
+        double recordsPerSecond,
+
+        @Schema(description = "Per id-range worker statistics")
+        List<BootstrapPartitionResult> partitions
+) {
+}
@@ -0,0 +1,40 @@
+package com.startupheroes.app.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+import static java.util.Objects.requireNonNullElse;
+
+@Builder
+@Schema(description = "Outcome of a bulk send after every record has been acknowledged or failed")
+public record BulkSendResult(
+
+        @Schema(description = "Number of records acknowledged by Kafka", example = "1000")
+        long ackedCount,
+
+        @Schema(description = "Number of tombstones acknowledged on the package state topic", example = "12")
+        long tombstoneCount,
+
+        @Schema(description = "Ids of packages that could not be sent")
+        List<Long> failedIds,
+
+        @Schema(description = "Ids of packages that exhausted their retries and were written to the dead-letter topic")
+        List<Long> deadLetteredIds,
+
+        @Schema(description = "Serialized key and value bytes acknowledged by Kafka", example = "215000")
+        long bytes,
+
+        @Schema(description = "Elapsed time in milliseconds", example = "85")
+        long elapsedMillis
+) {
+
+    public BulkSendResult {
+        deadLetteredIds = requireNonNullElse(deadLetteredIds, List.of());
+    }
+
+    public boolean hasFailures() {
+        return !failedIds.isEmpty();
+    }
+}
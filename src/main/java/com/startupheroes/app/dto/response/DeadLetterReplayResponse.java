@@ -0,0 +1,31 @@
+package com.startupheroes.app.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Outcome of replaying dead-lettered records to their original topics")
+public record DeadLetterReplayResponse(
+
+        @Schema(description = "Number of dead-letter records read", example = "120")
+        long readCount,
+
+        @Schema(description = "Number of records acknowledged on their original topic", example = "118")
+        long replayedCount,
+
+        @Schema(description = "Number of records that failed again and were written back to the dead-letter topic", example = "2")
+        long deadLetteredCount,
+
+        @Schema(description = "Number of records that could not be replayed nor dead-lettered; replay offsets are not committed", example = "0")
+        long failedCount,
+
+        @Schema(description = "Number of records without an original topic header", example = "0")
+        long skippedCount,
+
+        @Schema(description = "Number of dead-letter records left for the next replay", example = "0")
+        long remainingCount,
+
+        @Schema(description = "Elapsed time in milliseconds", example = "40")
+        long elapsedMillis
+) {
+}
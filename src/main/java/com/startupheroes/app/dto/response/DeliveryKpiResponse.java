@@ -0,0 +1,37 @@
+package com.startupheroes.app.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+@Builder
+@Schema(description = "Delivery KPIs of completed packages created on a day, aggregated from the package events topic")
+public record DeliveryKpiResponse(
+
+        @Schema(description = "Creation day of the packages", example = "2021-11-13")
+        LocalDate day,
+
+        @Schema(description = "Number of completed package events", example = "1200")
+        long completedCount,
+
+        @Schema(description = "Number of packages delivered within their ETA", example = "1104")
+        long onTimeCount,
+
+        @Schema(description = "Ratio of on-time packages to packages with a known on-time flag", example = "0.92")
+        Double onTimeRatio,
+
+        @Schema(description = "Lead time: creation to completion")
+        DurationStatsResponse leadTime,
+
+        @Schema(description = "Collection duration: creation to pick-up")
+        DurationStatsResponse collectionDuration,
+
+        @Schema(description = "Delivery duration: in delivery to completion")
+        DurationStatsResponse deliveryDuration,
+
+        @Schema(description = "Time the aggregate last changed")
+        Instant updatedAt
+) {
+}
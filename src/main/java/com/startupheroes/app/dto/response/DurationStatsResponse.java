@@ -0,0 +1,31 @@
+package com.startupheroes.app.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Distribution of a duration in minutes; percentiles have one-minute resolution")
+public record DurationStatsResponse(
+
+        @Schema(description = "Number of packages with this duration", example = "1200")
+        long count,
+
+        @Schema(description = "Mean duration in minutes", example = "48.6")
+        Double mean,
+
+        @Schema(description = "Minimum duration in minutes", example = "3")
+        Integer min,
+
+        @Schema(description = "Median duration in minutes", example = "45")
+        Integer p50,
+
+        @Schema(description = "90th percentile duration in minutes", example = "80")
+        Integer p90,
+
+        @Schema(description = "99th percentile duration in minutes", example = "140")
+        Integer p99,
+
+        @Schema(description = "Maximum duration in minutes", example = "310")
+        Integer max
+) {
+}
@@ -0,0 +1,40 @@
+package com.startupheroes.app.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Statistics of the single-send package cache since startup")
+public record PackageCacheStatsResponse(
+
+        @Schema(description = "Whether the cache is enabled", example = "true")
+        boolean enabled,
+
+        @Schema(description = "Approximate number of cached packages", example = "8500")
+        long size,
+
+        @Schema(description = "Maximum number of cached packages", example = "10000")
+        long maximumSize,
+
+        @Schema(description = "Number of lookups served from the cache", example = "120000")
+        long hitCount,
+
+        @Schema(description = "Number of lookups that queried the database", example = "9000")
+        long missCount,
+
+        @Schema(description = "Ratio of hits to all lookups", example = "0.93")
+        double hitRate,
+
+        @Schema(description = "Number of entries evicted by size or expiry", example = "500")
+        long evictionCount,
+
+        @Schema(description = "Number of entries invalidated by sync or outbox changes", example = "300")
+        long invalidationCount,
+
+        @Schema(description = "Number of loads that failed, e.g. not found or cancelled packages", example = "12")
+        long loadFailureCount,
+
+        @Schema(description = "Average database load and encode time in milliseconds", example = "1.8")
+        double averageLoadMillis
+) {
+}
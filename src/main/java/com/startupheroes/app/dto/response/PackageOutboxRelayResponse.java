@@ -0,0 +1,30 @@
+package com.startupheroes.app.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Outcome of draining the package outbox")
+public record PackageOutboxRelayResponse(
+
+        @Schema(description = "Number of outbox rows published and deleted", example = "5000")
+        long relayedCount,
+
+        @Schema(description = "Number of packages acknowledged by Kafka", example = "4980")
+        long sentCount,
+
+        @Schema(description = "Number of cancelled or deleted packages written as tombstones to the package state topic", example = "20")
+        long tombstoneCount,
+
+        @Schema(description = "Ids of packages that failed; their outbox rows are kept and retried")
+        List<Long> failedIds,
+
+        @Schema(description = "Number of batches processed", example = "5")
+        int batches,
+
+        @Schema(description = "Elapsed time in milliseconds", example = "120")
+        long elapsedMillis
+) {
+}
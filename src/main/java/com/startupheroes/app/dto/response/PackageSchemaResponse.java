@@ -0,0 +1,16 @@
+package com.startupheroes.app.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+@Builder
+@Schema(description = "Avro schema of binary encoded package records")
+public record PackageSchemaResponse(
+
+        @Schema(description = "CRC-64-AVRO fingerprint of the schema in hex", example = "5c7a1b2e9f03d4a6")
+        String fingerprint,
+
+        @Schema(description = "Avro schema definition")
+        String schema
+) {
+}
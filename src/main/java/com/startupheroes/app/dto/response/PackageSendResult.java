@@ -0,0 +1,14 @@
+package com.startupheroes.app.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+@Schema(description = "Send outcome of a single package in a batch")
+public record PackageSendResult(
+
+        @Schema(description = "Package ID", example = "19604181")
+        Long packageId,
+
+        @Schema(description = "Send status")
+        PackageSendStatus status
+) {
+}
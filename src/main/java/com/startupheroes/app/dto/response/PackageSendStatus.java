@@ -0,0 +1,9 @@
+package com.startupheroes.app.dto.response;
+
+public enum PackageSendStatus {
+    SENT,
+    NOT_FOUND,
+    CANCELLED,
+    FAILED,
+    DEAD_LETTERED
+}
@@ -0,0 +1,40 @@
+package com.startupheroes.app.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Builder
+@Schema(description = "Outcome of an incremental package sync run")
+public record PackageSyncResponse(
+
+        @Schema(description = "Number of changed rows read since the previous watermark", example = "42")
+        long changedCount,
+
+        @Schema(description = "Number of packages acknowledged by Kafka", example = "40")
+        long sentCount,
+
+        @Schema(description = "Number of cancelled packages written as tombstones to the package state topic", example = "2")
+        long tombstoneCount,
+
+        @Schema(description = "Ids of packages that failed; the watermark is not advanced past the failing batch")
+        List<Long> failedIds,
+
+        @Schema(description = "Number of batches processed", example = "1")
+        int batches,
+
+        @Schema(description = "Whether every change up to the settle delay has been published", example = "true")
+        boolean caughtUp,
+
+        @Schema(description = "last_updated_at of the watermark after the run", example = "2021-11-13T11:40:15.31434")
+        LocalDateTime watermarkUpdatedAt,
+
+        @Schema(description = "Package id of the watermark after the run", example = "19604181")
+        Long watermarkPackageId,
+
+        @Schema(description = "Elapsed time in milliseconds", example = "35")
+        long elapsedMillis
+) {
+}
@@ -0,0 +1,43 @@
+package com.startupheroes.app.dto.response;
+
+import com.startupheroes.app.config.PackageTopicProperties.PartitionKey;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+
+import java.util.List;
+
+@Builder
+@Schema(description = "Partition distribution of non-cancelled packages for a partition key")
+public record PartitionSkewResponse(
+
+        @Schema(description = "Field used to choose the partition", example = "STORE_ID")
+        PartitionKey partitionKey,
+
+        @Schema(description = "Number of partitions the distribution is computed for", example = "6")
+        int partitions,
+
+        @Schema(description = "Number of non-cancelled packages", example = "120000")
+        long totalRecords,
+
+        @Schema(description = "Number of distinct partition key values", example = "340")
+        long distinctKeys,
+
+        @Schema(description = "Record count of the least loaded partition", example = "18500")
+        long minRecords,
+
+        @Schema(description = "Record count of the most loaded partition", example = "22100")
+        long maxRecords,
+
+        @Schema(description = "Most loaded partition divided by the mean; 1.0 is a perfect spread", example = "1.105")
+        double skewRatio,
+
+        @Schema(description = "Partition key value with the most records", example = "20000000004103")
+        Long hottestKey,
+
+        @Schema(description = "Record count of the hottest key", example = "4100")
+        long hottestKeyRecords,
+
+        @Schema(description = "Record count per partition, indexed by partition number")
+        List<Long> recordsPerPartition
+) {
+}
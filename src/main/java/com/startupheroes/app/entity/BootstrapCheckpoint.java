@@ -0,0 +1,40 @@
+package com.startupheroes.app.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "bootstrap_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class BootstrapCheckpoint {
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "partition_no")
+    private Integer partitionNo;
+
+    @Column(name = "last_package_id", nullable = false)
+    private Long lastPackageId;
+
+    @Column(name = "range_end")
+    private Long rangeEnd;
+
+    @Column(name = "sent_count", nullable = false)
+    private Long sentCount;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Bootstrap'i başlatan {@link com.startupheroes.app.dto.PackageFilter}'ın JSON hâli; filtresiz bootstrap'te NULL.
+     * Resume aynı filtreyle devam eder.
+     */
+    @Column(name = "package_filter", length = 4000)
+    private String packageFilter;
+}
@@ -0,0 +1,28 @@
+package com.startupheroes.app.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "delivery_kpi_checkpoint")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class DeliveryKpiCheckpoint {
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "kpi_day")
+    private LocalDate day;
+
+    @Column(name = "state", nullable = false, length = 1048576)
+    private byte[] state;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
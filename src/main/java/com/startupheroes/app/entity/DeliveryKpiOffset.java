@@ -0,0 +1,30 @@
+package com.startupheroes.app.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "delivery_kpi_offset")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class DeliveryKpiOffset {
+    @Id
+    @EqualsAndHashCode.Include
+    @Column(name = "partition_no")
+    private Integer partitionNo;
+
+    @Column(name = "topic", nullable = false, length = 249)
+    private String topic;
+
+    @Column(name = "next_offset", nullable = false)
+    private Long nextOffset;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,34 @@
+package com.startupheroes.app.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Paket değişikliği bildirimi. Payload tutulmaz; relay paketin commit edilmiş son halini okuyup gönderir.
+ * Yazma ve silme {@link com.startupheroes.app.repository.PackageOutboxRepository} üzerinden toplu JDBC ile yapılır.
+ */
+@Entity
+@Table(name = "package_outbox")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public class PackageOutboxEvent {
+    @Id
+    @EqualsAndHashCode.Include
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "package_id", nullable = false)
+    private Long packageId;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+}
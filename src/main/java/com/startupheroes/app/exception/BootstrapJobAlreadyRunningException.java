@@ -0,0 +1,8 @@
+package com.startupheroes.app.exception;
+
+public class BootstrapJobAlreadyRunningException extends RuntimeException {
+
+    public BootstrapJobAlreadyRunningException(String runningJobId) {
+        super("Another bootstrap job is already running. Id: " + runningJobId);
+    }
+}
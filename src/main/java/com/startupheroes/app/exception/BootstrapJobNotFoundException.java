@@ -0,0 +1,8 @@
+package com.startupheroes.app.exception;
+
+public class BootstrapJobNotFoundException extends RuntimeException {
+
+    public BootstrapJobNotFoundException(String jobId) {
+        super("Bootstrap job not found with id: " + jobId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.startupheroes.app.exception;
+
+public class DeadLetterReplayAlreadyRunningException extends RuntimeException {
+
+    public DeadLetterReplayAlreadyRunningException() {
+        super("Dead-letter replay is already running");
+    }
+}
@@ -0,0 +1,10 @@
+package com.startupheroes.app.exception;
+
+import java.time.LocalDate;
+
+public class DeliveryKpiNotFoundException extends RuntimeException {
+
+    public DeliveryKpiNotFoundException(LocalDate day) {
+        super("Delivery KPIs not found for day: " + day);
+    }
+}
@@ -0,0 +1,8 @@
+package com.startupheroes.app.exception;
+
+public class DeliveryKpiUnavailableException extends RuntimeException {
+
+    public DeliveryKpiUnavailableException() {
+        super("Delivery KPIs are not served by this instance: it does not consume every partition of the topic");
+    }
+}
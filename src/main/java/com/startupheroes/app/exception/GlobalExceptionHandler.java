@@ -6,6 +6,8 @@ import jakarta.validation.ConstraintViolationException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -31,6 +33,62 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(ex.getMessage()));
     }
 
+    @ExceptionHandler(BootstrapJobNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBootstrapJobNotFound(BootstrapJobNotFoundException ex) {
+        log.warn("Bootstrap job not found: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(BootstrapJobAlreadyRunningException.class)
+    public ResponseEntity<ApiResponse<Void>> handleBootstrapJobAlreadyRunning(BootstrapJobAlreadyRunningException ex) {
+        log.warn("Bootstrap job rejected: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(PackageSyncAlreadyRunningException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePackageSyncAlreadyRunning(PackageSyncAlreadyRunningException ex) {
+        log.warn("Package sync rejected: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(DeadLetterReplayAlreadyRunningException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDeadLetterReplayAlreadyRunning(DeadLetterReplayAlreadyRunningException ex) {
+        log.warn("Dead-letter replay rejected: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(PackageSchemaNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handlePackageSchemaNotFound(PackageSchemaNotFoundException ex) {
+        log.warn("Package schema not found: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(DeliveryKpiNotFoundException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDeliveryKpiNotFound(DeliveryKpiNotFoundException ex) {
+        log.warn("Delivery KPIs not found: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.NOT_FOUND)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
+    @ExceptionHandler(DeliveryKpiUnavailableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleDeliveryKpiUnavailable(DeliveryKpiUnavailableException ex) {
+        log.warn("Delivery KPIs unavailable: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(ApiResponse.error(ex.getMessage()));
+    }
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ApiResponse<Void>> handleConstraintViolation(ConstraintViolationException ex) {
         String message = ex.getConstraintViolations().stream()
@@ -43,6 +101,26 @@ public class GlobalExceptionHandler {
                 .body(ApiResponse.error(message));
     }
 
+    @ExceptionHandler(MethodArgumentNotValidException.class)
+    public ResponseEntity<ApiResponse<Void>> handleMethodArgumentNotValid(MethodArgumentNotValidException ex) {
+        String message = ex.getBindingResult().getFieldErrors().stream()
+                .map(error -> error.getField() + " " + error.getDefaultMessage())
+                .collect(Collectors.joining(", "));
+
+        log.warn("Validation failed: {}", message);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error(message));
+    }
+
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ApiResponse<Void>> handleHttpMessageNotReadable(HttpMessageNotReadableException ex) {
+        log.warn("Malformed request body: {}", ex.getMessage());
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(ApiResponse.error("Malformed request body"));
+    }
+
     @ExceptionHandler(KafkaSerializationException.class)
     public ResponseEntity<ApiResponse<Void>> handleKafkaSerialization(KafkaSerializationException ex) {
         log.error("Kafka serialization failed: {}", ex.getMessage(), ex);
@@ -0,0 +1,12 @@
+package com.startupheroes.app.exception;
+
+/**
+ * Gönderim retry'lardan sonra başarısız oldu, kayıt dead-letter topic'e yazıldı. Veri kaybolmamıştır;
+ * {@code POST /kafka/dlt/replay} ile tekrar gönderilebilir.
+ */
+public class PackageDeadLetteredException extends RuntimeException {
+
+    public PackageDeadLetteredException(String key, int attempts, Throwable cause) {
+        super("Record " + key + " moved to dead-letter topic after " + attempts + " attempts", cause);
+    }
+}
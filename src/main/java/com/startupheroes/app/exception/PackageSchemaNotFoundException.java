@@ -0,0 +1,8 @@
+package com.startupheroes.app.exception;
+
+public class PackageSchemaNotFoundException extends RuntimeException {
+
+    public PackageSchemaNotFoundException(long fingerprint) {
+        super("Package schema not found with fingerprint: " + Long.toHexString(fingerprint));
+    }
+}
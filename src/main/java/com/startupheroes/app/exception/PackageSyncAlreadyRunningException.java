@@ -0,0 +1,8 @@
+package com.startupheroes.app.exception;
+
+public class PackageSyncAlreadyRunningException extends RuntimeException {
+
+    public PackageSyncAlreadyRunningException() {
+        super("Package sync is already running");
+    }
+}
@@ -0,0 +1,49 @@
+package com.startupheroes.app.mapper;
+
+import com.startupheroes.app.dto.PackageDurations;
+import com.startupheroes.app.dto.PackageView;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+
+import static com.startupheroes.app.entity.PackageStatus.COMPLETED;
+import static java.util.Objects.isNull;
+
+/**
+ * Süre alanlarının tek kaynağı. Yalnızca COMPLETED paketler için hesaplanır;
+ * dakikalar {@link ChronoUnit#MINUTES} ile sıfıra doğru kırpılır.
+ * <p>
+ * SQL motoru ({@code MappedPackageSqlRepository}) aynı kuralları SQL ifadeleriyle uygular;
+ * bu sınıftaki bir değişiklik oradaki sorguya da yansıtılmalıdır.
+ */
+public final class PackageDurationCalculator {
+
+    private PackageDurationCalculator() {
+    }
+
+    public static PackageDurations calculate(PackageView pkg) {
+        if (!COMPLETED.equals(pkg.status())) {
+            return PackageDurations.NONE;
+        }
+
+        Integer leadTime = minutesBetween(pkg.createdAt(), pkg.completedAt());
+        Integer collectionDuration = minutesBetween(pkg.createdAt(), pkg.pickedUpAt());
+        Integer deliveryDuration = minutesBetween(pkg.inDeliveryAt(), pkg.completedAt());
+
+        return new PackageDurations(collectionDuration, deliveryDuration, leadTime, isOrderInTime(leadTime, pkg.eta()));
+    }
+
+    private static Integer minutesBetween(LocalDateTime start, LocalDateTime end) {
+        if (isNull(start) || isNull(end)) {
+            return null;
+        }
+        return (int) ChronoUnit.MINUTES.between(start, end);
+    }
+
+    private static Boolean isOrderInTime(Integer leadTime, Integer eta) {
+        if (isNull(leadTime) || isNull(eta)) {
+            return null;
+        }
+        return leadTime <= eta;
+    }
+}
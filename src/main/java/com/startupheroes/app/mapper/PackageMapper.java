@@ -1,7 +1,8 @@
 package com.startupheroes.app.mapper;
 
 import com.startupheroes.app.dto.MappedPackage;
-import com.startupheroes.app.entity.Package;
+import com.startupheroes.app.dto.PackageDurations;
+import com.startupheroes.app.dto.PackageView;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
@@ -19,19 +20,21 @@ public interface PackageMapper {
     DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern(DATE_TIME_FORMAT);
 
 
-    @Mapping(target = "createdAt", source = "createdAt", qualifiedByName = "toFormattedString")
-    @Mapping(target = "lastUpdatedAt", source = "lastUpdatedAt", qualifiedByName = "toFormattedString")
-    @Mapping(target = "collectionDuration", ignore = true)
-    @Mapping(target = "deliveryDuration", ignore = true)
-    @Mapping(target = "leadTime", ignore = true)
-    @Mapping(target = "orderInTime", ignore = true)
-    MappedPackage toMappedPackage(Package pkg);
+    @Mapping(target = "id", source = "pkg.id")
+    @Mapping(target = "eta", source = "pkg.eta")
+    @Mapping(target = "createdAt", source = "pkg.createdAt", qualifiedByName = "toFormattedString")
+    @Mapping(target = "lastUpdatedAt", source = "pkg.lastUpdatedAt", qualifiedByName = "toFormattedString")
+    MappedPackage toMappedPackage(PackageView pkg, PackageDurations durations);
+
+    default MappedPackage toMappedPackage(PackageView pkg) {
+        return toMappedPackage(pkg, PackageDurationCalculator.calculate(pkg));
+    }
 
     @Named("toFormattedString")
     default String toFormattedString(LocalDateTime dateTime) {
         if (isNull(dateTime)) {
             return null;
         }
-        return dateTime.format(FORMATTER);
+        return TimestampFormatter.format(dateTime);
     }
-}
\ No newline at end of file
+}
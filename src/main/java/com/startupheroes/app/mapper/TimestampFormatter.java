@@ -0,0 +1,53 @@
+package com.startupheroes.app.mapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+
+/**
+ * {@code yyyy-MM-dd HH:mm:ss.SSSSSS} formatının {@link java.time.format.DateTimeFormatter}'sız karşılığı.
+ * <p>
+ * DateTimeFormatter her çağrıda StringBuilder, parsed field map'leri ve ara String'ler üretir.
+ * Burada 26 karakterlik sabit çıktı doğrudan bir byte dizisine yazılır ve tek bir String oluşturulur.
+ * 1-9999 aralığı dışındaki yıllar için (era/işaretli yıl) DateTimeFormatter'a düşülür.
+ */
+public final class TimestampFormatter {
+
+    public static final int LENGTH = 26;
+
+    private TimestampFormatter() {
+    }
+
+    public static String format(LocalDateTime dateTime) {
+        int year = dateTime.getYear();
+        if (year < 1 || year > 9999) {
+            return dateTime.format(PackageMapper.FORMATTER);
+        }
+
+        byte[] buffer = new byte[LENGTH];
+        write(dateTime, buffer, 0);
+        return new String(buffer, StandardCharsets.ISO_8859_1);
+    }
+
+    private static void write(LocalDateTime dateTime, byte[] buffer, int offset) {
+        writeDigits(buffer, offset, dateTime.getYear(), 4);
+        buffer[offset + 4] = '-';
+        writeDigits(buffer, offset + 5, dateTime.getMonthValue(), 2);
+        buffer[offset + 7] = '-';
+        writeDigits(buffer, offset + 8, dateTime.getDayOfMonth(), 2);
+        buffer[offset + 10] = ' ';
+        writeDigits(buffer, offset + 11, dateTime.getHour(), 2);
+        buffer[offset + 13] = ':';
+        writeDigits(buffer, offset + 14, dateTime.getMinute(), 2);
+        buffer[offset + 16] = ':';
+        writeDigits(buffer, offset + 17, dateTime.getSecond(), 2);
+        buffer[offset + 19] = '.';
+        writeDigits(buffer, offset + 20, dateTime.getNano() / 1000, 6);
+    }
+
+    private static void writeDigits(byte[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (byte) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.startupheroes.app.repository;
+
+import com.startupheroes.app.entity.DeliveryKpiCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+
+@Repository
+public interface DeliveryKpiCheckpointRepository extends JpaRepository<DeliveryKpiCheckpoint, LocalDate> {
+
+    @Modifying
+    @Query("DELETE FROM DeliveryKpiCheckpoint c WHERE c.day < :cutoff")
+    int deleteByDayBefore(LocalDate cutoff);
+}
@@ -0,0 +1,37 @@
+package com.startupheroes.app.repository;
+
+import com.startupheroes.app.dto.PackageFilter;
+import com.startupheroes.app.dto.PackageIdRange;
+import com.startupheroes.app.dto.PackageView;
+
+import java.util.List;
+
+/**
+ * Bootstrap sorguları; {@link PackageFilter}'ın dolu alanları sorguya koşul olarak eklenir, boş filtre tüm tabloyu kapsar.
+ */
+public interface FilteredPackageRepository {
+
+    /**
+     * Keyset pagination: {@code WHERE id > :lastId AND id <= :upperId ORDER BY id LIMIT n}.
+     * <p>
+     * Tüm tabloyu tek bir List'e yüklemek yerine, primary key indeksi üzerinden
+     * sabit boyutlu sayfalar halinde ilerler. OFFSET kullanılmadığı için her sayfa
+     * tablo büyüklüğünden bağımsız olarak aynı maliyettedir ve bellek kullanımı
+     * sayfa boyutuyla sınırlı kalır. Üst sınır, paralel bootstrap'te her worker'ın
+     * kendi id aralığında kalmasını sağlar. Filtreli sayfalar {@code (store_id, id)} gibi
+     * filtre kolonu ve id'den oluşan indekslerle aynı şekilde ilerler.
+     */
+    List<PackageView> findNonCancelledViewPage(PackageFilter filter, Long lastId, Long upperId, int limit);
+
+    /**
+     * Aynı keyset ile (lastId, upperId] aralığındaki cancelled paketlerin en fazla {@code limit} id'si.
+     */
+    List<Long> findCancelledIdsBetween(PackageFilter filter, Long lastId, Long upperId, int limit);
+
+    long countNonCancelled(PackageFilter filter);
+
+    /**
+     * Filtreye uyan paketlerin (cancelled dahil) en küçük ve en büyük id'si; bootstrap yalnızca bu aralığı böler.
+     */
+    PackageIdRange findIdRange(PackageFilter filter);
+}
@@ -0,0 +1,68 @@
+package com.startupheroes.app.repository;
+
+import com.startupheroes.app.dto.PackageFilter;
+import com.startupheroes.app.dto.PackageIdRange;
+import com.startupheroes.app.dto.PackageView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+import static com.startupheroes.app.repository.PackageFilterClause.JPQL;
+import static com.startupheroes.app.repository.PackageRepository.SELECT_PACKAGE_VIEW;
+
+@RequiredArgsConstructor
+class FilteredPackageRepositoryImpl implements FilteredPackageRepository {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<PackageView> findNonCancelledViewPage(PackageFilter filter, Long lastId, Long upperId, int limit) {
+        PackageFilterClause clause = PackageFilterClause.of(filter, JPQL);
+        String jpql = SELECT_PACKAGE_VIEW + "where p.cancelled = false and p.id > :lastId and p.id <= :upperId"
+                + clause.conditions() + " order by p.id";
+
+        return query(jpql, PackageView.class, clause)
+                .setParameter("lastId", lastId)
+                .setParameter("upperId", upperId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public List<Long> findCancelledIdsBetween(PackageFilter filter, Long lastId, Long upperId, int limit) {
+        PackageFilterClause clause = PackageFilterClause.of(filter, JPQL);
+        String jpql = "select p.id from Package p where p.cancelled = true and p.id > :lastId and p.id <= :upperId"
+                + clause.conditions() + " order by p.id";
+
+        return query(jpql, Long.class, clause)
+                .setParameter("lastId", lastId)
+                .setParameter("upperId", upperId)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countNonCancelled(PackageFilter filter) {
+        PackageFilterClause clause = PackageFilterClause.of(filter, JPQL);
+        String jpql = "select count(p) from Package p where p.cancelled = false" + clause.conditions();
+
+        return query(jpql, Long.class, clause).getSingleResult();
+    }
+
+    @Override
+    public PackageIdRange findIdRange(PackageFilter filter) {
+        PackageFilterClause clause = PackageFilterClause.of(filter, JPQL);
+        String jpql = "select new com.startupheroes.app.dto.PackageIdRange(min(p.id), max(p.id)) from Package p"
+                + clause.where();
+
+        return query(jpql, PackageIdRange.class, clause).getSingleResult();
+    }
+
+    private <T> TypedQuery<T> query(String jpql, Class<T> resultType, PackageFilterClause clause) {
+        TypedQuery<T> query = entityManager.createQuery(jpql, resultType);
+        clause.parameters().forEach(query::setParameter);
+        return query;
+    }
+}
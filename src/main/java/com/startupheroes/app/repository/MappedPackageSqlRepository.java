@@ -0,0 +1,96 @@
+package com.startupheroes.app.repository;
+
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.dto.PackageFilter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Bulk export için {@link MappedPackage} alanlarını doğrudan SQL ile üretir.
+ * <p>
+ * Kurallar {@link com.startupheroes.app.mapper.PackageDurationCalculator} ile birebir aynıdır:
+ * <ul>
+ *     <li>Süreler yalnızca COMPLETED paketler için hesaplanır, aksi halde NULL döner.</li>
+ *     <li>Dakika farkı {@code TRUNC(EXTRACT(EPOCH FROM (end - start)) / 60)} ile sıfıra doğru kırpılır
+ *     ({@code ChronoUnit.MINUTES.between} ile aynı).</li>
+ *     <li>Zamanlardan biri NULL ise süre NULL, leadTime veya eta NULL ise orderInTime NULL olur.</li>
+ *     <li>Tarihler {@code yyyy-MM-dd HH:mm:ss.SSSSSS} formatında ({@code FF6}, PostgreSQL 13+) döner.</li>
+ * </ul>
+ */
+@Repository
+@RequiredArgsConstructor
+public class MappedPackageSqlRepository {
+
+    private static final String TIMESTAMP_FORMAT = "'YYYY-MM-DD HH24:MI:SS.FF6'";
+
+    private static final String SELECT_MAPPED_PACKAGE = """
+            SELECT p.id,
+                   TO_CHAR(p.created_at, %1$s) AS created_at,
+                   TO_CHAR(p.last_updated_at, %1$s) AS last_updated_at,
+                   CASE WHEN p.status = 'COMPLETED'
+                        THEN %2$s END AS collection_duration,
+                   CASE WHEN p.status = 'COMPLETED'
+                        THEN %3$s END AS delivery_duration,
+                   p.eta,
+                   CASE WHEN p.status = 'COMPLETED'
+                        THEN %4$s END AS lead_time,
+                   CASE WHEN p.status = 'COMPLETED'
+                        THEN %4$s <= p.eta END AS order_in_time,
+                   p.store_id,
+                   p.customer_id
+            FROM package p
+            """.formatted(
+            TIMESTAMP_FORMAT,
+            minutesBetween("p.created_at", "p.picked_up_at"),
+            minutesBetween("p.in_delivery_at", "p.completed_at"),
+            minutesBetween("p.created_at", "p.completed_at"));
+
+    private static final String NON_CANCELLED_PAGE_WHERE = """
+            WHERE p.cancelled = FALSE
+              AND p.id > :lastId
+              AND p.id <= :upperId
+            """;
+
+    private static final String PAGE_ORDER_BY = """
+            ORDER BY p.id
+            LIMIT :limit
+            """;
+
+    private static final RowMapper<MappedPackage> ROW_MAPPER = (rs, rowNum) -> new MappedPackage(
+            rs.getLong("id"),
+            rs.getString("created_at"),
+            rs.getString("last_updated_at"),
+            rs.getObject("collection_duration", Integer.class),
+            rs.getObject("delivery_duration", Integer.class),
+            rs.getObject("eta", Integer.class),
+            rs.getObject("lead_time", Integer.class),
+            rs.getObject("order_in_time", Boolean.class),
+            rs.getObject("store_id", Long.class),
+            rs.getObject("customer_id", Long.class));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    /**
+     * (lastId, upperId] aralığındaki cancelled olmayan paketlerden filtreye uyan en fazla {@code limit} tanesi;
+     * yalnızca dolu filtre alanları sorguya eklenir.
+     */
+    public List<MappedPackage> findNonCancelledPage(PackageFilter filter, Long lastId, Long upperId, int limit) {
+        PackageFilterClause clause = PackageFilterClause.of(filter, PackageFilterClause.SQL);
+        String sql = SELECT_MAPPED_PACKAGE + NON_CANCELLED_PAGE_WHERE + clause.conditions() + "\n" + PAGE_ORDER_BY;
+        MapSqlParameterSource params = new MapSqlParameterSource(clause.parameters())
+                .addValue("lastId", lastId)
+                .addValue("upperId", upperId)
+                .addValue("limit", limit);
+
+        return jdbcTemplate.query(sql, params, ROW_MAPPER);
+    }
+
+    private static String minutesBetween(String start, String end) {
+        return "CAST(TRUNC(EXTRACT(EPOCH FROM (" + end + " - " + start + ")) / 60) AS INTEGER)";
+    }
+}
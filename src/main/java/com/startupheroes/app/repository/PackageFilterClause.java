@@ -0,0 +1,89 @@
+package com.startupheroes.app.repository;
+
+import com.startupheroes.app.dto.PackageFilter;
+import com.startupheroes.app.entity.PackageStatus;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * {@link PackageFilter}'ın yalnızca dolu alanlarından {@code and ...} koşulları üretir.
+ * <p>
+ * {@code :param is null or ...} gibi her filtreyi kapsayan tek bir sorgu yerine, her filtre kombinasyonu kendi
+ * sorgusunu alır; PostgreSQL böylece {@code (store_id, id)} gibi indeksleri seçebilir. Aynı koşullar hem JPQL
+ * (entity alanları) hem native SQL (kolonlar) için üretilir.
+ */
+final class PackageFilterClause {
+
+    static final Names JPQL = new Names("p.status", "p.storeId", "p.deliveryDate", "p.createdAt", "p.id",
+            statuses -> statuses);
+    static final Names SQL = new Names("p.status", "p.store_id", "p.delivery_date", "p.created_at", "p.id",
+            statuses -> statuses.stream().map(PackageStatus::name).toList());
+
+    private final StringBuilder conditions = new StringBuilder();
+    private final Map<String, Object> parameters = new HashMap<>();
+
+    private PackageFilterClause() {
+    }
+
+    static PackageFilterClause of(PackageFilter filter, Names names) {
+        PackageFilterClause clause = new PackageFilterClause();
+
+        if (nonNull(filter.statuses())) {
+            clause.add(names.status() + " in (:statuses)", "statuses", names.statusValues().apply(filter.statuses()));
+        }
+        if (nonNull(filter.storeId())) {
+            clause.add(names.storeId() + " = :storeId", "storeId", filter.storeId());
+        }
+        if (nonNull(filter.deliveryDateFrom())) {
+            clause.add(names.deliveryDate() + " >= :deliveryDateFrom", "deliveryDateFrom", filter.deliveryDateFrom());
+        }
+        if (nonNull(filter.deliveryDateTo())) {
+            clause.add(names.deliveryDate() + " <= :deliveryDateTo", "deliveryDateTo", filter.deliveryDateTo());
+        }
+        if (nonNull(filter.createdFrom())) {
+            clause.add(names.createdAt() + " >= :createdFrom", "createdFrom", filter.createdFrom());
+        }
+        if (nonNull(filter.createdTo())) {
+            clause.add(names.createdAt() + " < :createdTo", "createdTo", filter.createdTo());
+        }
+        if (nonNull(filter.idFrom())) {
+            clause.add(names.id() + " >= :idFrom", "idFrom", filter.idFrom());
+        }
+        if (nonNull(filter.idTo())) {
+            clause.add(names.id() + " <= :idTo", "idTo", filter.idTo());
+        }
+        return clause;
+    }
+
+    /**
+     * Başında {@code and} olan koşullar; filtre boşsa boş string.
+     */
+    String conditions() {
+        return conditions.toString();
+    }
+
+    /**
+     * Koşulları tek başına bir {@code where} cümlesi olarak döner; filtre boşsa boş string.
+     */
+    String where() {
+        return conditions.isEmpty() ? "" : " where" + conditions.substring(" and".length());
+    }
+
+    Map<String, Object> parameters() {
+        return parameters;
+    }
+
+    private void add(String condition, String name, Object value) {
+        conditions.append(" and ").append(condition);
+        parameters.put(name, value);
+    }
+
+    record Names(String status, String storeId, String deliveryDate, String createdAt, String id,
+                 Function<Collection<PackageStatus>, Collection<?>> statusValues) {
+    }
+}
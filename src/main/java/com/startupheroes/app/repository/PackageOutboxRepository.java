@@ -0,0 +1,117 @@
+package com.startupheroes.app.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * {@code package_outbox} tablosu için toplu JDBC işlemleri.
+ * <p>
+ * Kuyruk yazanlar tarafından yalnızca append edilir (identity id); relay satırı bir kez {@code claimed_at} ile
+ * işaretler ve gönderimden sonra toplu siler. Sayaç veya durum satırı yoktur; yazanlar ve relay'ler aynı satır
+ * üzerinde kilit beklemez. Claim sırasında {@code SKIP LOCKED} ile başka bir relay'in o an claim ettiği satırlar
+ * atlanır, claim'i süresi dolmamış satırlar hiç seçilmez; paralel relay'ler ayrık batch'ler alır.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PackageOutboxRepository {
+
+    private static final String INSERT_ENTRY = """
+            INSERT INTO package_outbox (package_id, created_at)
+            VALUES (:packageId, :createdAt)
+            """;
+
+    private static final String CLAIM_BATCH = """
+            SELECT o.id, o.package_id
+            FROM package_outbox o
+            WHERE o.claimed_at IS NULL OR o.claimed_at < :claimExpiredBefore
+            ORDER BY o.id
+            FETCH FIRST :limit ROWS ONLY
+            FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String MARK_CLAIMED = """
+            UPDATE package_outbox
+            SET claimed_at = :claimedAt
+            WHERE id IN (:ids)
+            """;
+
+    private static final String RELEASE_BY_IDS = """
+            UPDATE package_outbox
+            SET claimed_at = NULL
+            WHERE id IN (:ids)
+            """;
+
+    private static final String DELETE_BY_IDS = """
+            DELETE FROM package_outbox
+            WHERE id IN (:ids)
+            """;
+
+    private static final RowMapper<OutboxEntry> ROW_MAPPER = (rs, rowNum) -> new OutboxEntry(
+            rs.getLong("id"),
+            rs.getLong("package_id"));
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public void insertAll(Collection<Long> packageIds, LocalDateTime createdAt) {
+        Timestamp timestamp = Timestamp.valueOf(createdAt);
+        MapSqlParameterSource[] batch = packageIds.stream()
+                .map(packageId -> new MapSqlParameterSource()
+                        .addValue("packageId", packageId)
+                        .addValue("createdAt", timestamp))
+                .toArray(MapSqlParameterSource[]::new);
+
+        jdbcTemplate.batchUpdate(INSERT_ENTRY, batch);
+    }
+
+    /**
+     * Claim edilmemiş veya claim'i {@code claimExpiredBefore}'dan önce alınmış satırları, çağıran transaction
+     * commit veya rollback olana kadar kilitler; yalnızca {@link #markClaimed} ile aynı transaction içinde çağrılmalıdır.
+     */
+    public List<OutboxEntry> claimBatch(int limit, LocalDateTime claimExpiredBefore) {
+        return jdbcTemplate.query(CLAIM_BATCH, new MapSqlParameterSource()
+                .addValue("limit", limit)
+                .addValue("claimExpiredBefore", Timestamp.valueOf(claimExpiredBefore)), ROW_MAPPER);
+    }
+
+    public int markClaimed(Collection<Long> ids, LocalDateTime claimedAt) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(MARK_CLAIMED, new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("claimedAt", Timestamp.valueOf(claimedAt)));
+    }
+
+    /**
+     * Gönderilemeyen satırların claim'ini kaldırır; bir sonraki batch'te claim süresini beklemeden tekrar alınırlar.
+     */
+    public int releaseAll(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(RELEASE_BY_IDS, new MapSqlParameterSource("ids", ids));
+    }
+
+    public int deleteAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        return jdbcTemplate.update(DELETE_BY_IDS, new MapSqlParameterSource("ids", ids));
+    }
+
+    public long count() {
+        Long count = jdbcTemplate.getJdbcTemplate().queryForObject("SELECT COUNT(*) FROM package_outbox", Long.class);
+        return count == null ? 0 : count;
+    }
+
+    public record OutboxEntry(long id, long packageId) {
+    }
+}
@@ -1,26 +1,53 @@
 package com.startupheroes.app.repository;
 
+import com.startupheroes.app.dto.PackageView;
 import com.startupheroes.app.entity.Package;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface PackageRepository extends JpaRepository<Package, Long> {
+public interface PackageRepository extends JpaRepository<Package, Long>, FilteredPackageRepository {
+
+    String SELECT_PACKAGE_VIEW = "select new com.startupheroes.app.dto.PackageView(" +
+            "p.id, p.createdAt, p.lastUpdatedAt, p.eta, p.status, " +
+            "p.completedAt, p.pickedUpAt, p.inDeliveryAt, p.cancelled, p.storeId, p.customerId) from Package p ";
+
+    @Query(SELECT_PACKAGE_VIEW + "where p.id = :id")
+    Optional<PackageView> findViewById(@Param("id") Long id);
+
+    @Query(SELECT_PACKAGE_VIEW + "where p.id in :ids")
+    List<PackageView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * (last_updated_at, id) tuple'ı üzerinde keyset pagination; cancelled paketler de döner.
+     * {@code idx_package_last_updated_at_id} indeksiyle filtre ve sıralama aynı indeksten okunur.
+     * last_updated_at'i NULL olan satırlar dönmez; bunlar yalnızca bootstrap ile gönderilir.
+     */
+    @Query(SELECT_PACKAGE_VIEW + "where (p.lastUpdatedAt, p.id) > (:lastUpdatedAt, :lastId) " +
+            "and p.lastUpdatedAt <= :upperUpdatedAt order by p.lastUpdatedAt, p.id")
+    List<PackageView> findViewsUpdatedAfter(@Param("lastUpdatedAt") LocalDateTime lastUpdatedAt,
+                                            @Param("lastId") Long lastId,
+                                            @Param("upperUpdatedAt") LocalDateTime upperUpdatedAt,
+                                            Limit limit);
+
+    /**
+     * {@code upperUpdatedAt}'e kadar en son değişen paketler, (last_updated_at, id) azalan sırada.
+     */
+    @Query(SELECT_PACKAGE_VIEW + "where p.lastUpdatedAt <= :upperUpdatedAt order by p.lastUpdatedAt desc, p.id desc")
+    List<PackageView> findLatestViewsUpdatedBefore(@Param("upperUpdatedAt") LocalDateTime upperUpdatedAt, Limit limit);
 
     /**
-     * Not – Yüksek hacimli veri senaryosu:
-     * Bu metot tüm sonuçları tek seferde belleğe yükleyen bir List döndürür.
-     * Orta ölçekli veri setleri için uygundur; ancak milyonlarca kayıt içeren
-     * büyük hacimli tablolarda bellek kullanımı ve sorgu süresi açısından
-     * verimli olmayabilir.
-     *
-     * Production ortamında böyle bir ihtiyaç doğarsa:
-     * - Pageable ile veriyi sayfa sayfa çekmek (örn. findByCancelledFalse(Pageable)),
-     * - veya JPA Stream kullanarak veriyi streaming şekilde tüketmek,
-     * genellikle daha uygun yaklaşımlar olacaktır.
+     * Veritabanı oturumunun yerel saati; sync'in üst sınırı {@code last_updated_at} ile aynı saatten hesaplanır.
      */
-    List<Package> findAllByCancelledFalse();
+    @Query("select local datetime")
+    LocalDateTime findDatabaseTime();
 
 }
@@ -0,0 +1,52 @@
+package com.startupheroes.app.repository;
+
+import com.startupheroes.app.config.PackageTopicProperties.PartitionKey;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * İptal edilmemiş paketleri partition key değerine göre gruplar.
+ * <p>
+ * Sonuç satır satır callback'e verilir, tüm gruplar belleğe alınmaz; PACKAGE_ID'de grup sayısı
+ * paket sayısı kadardır. Değeri NULL olan paketler, {@link com.startupheroes.app.service.PackagePartitioner}
+ * ile aynı şekilde package id'leriyle sayılır.
+ */
+@Repository
+@RequiredArgsConstructor
+public class PackageRoutingKeyRepository {
+
+    private static final int FETCH_SIZE = 10_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public void forEachNonCancelledRoutingKey(PartitionKey partitionKey, RoutingKeyCallback callback) {
+        String sql = """
+                SELECT %1$s AS routing_key, COUNT(*) AS record_count
+                FROM package p
+                WHERE p.cancelled = FALSE
+                GROUP BY %1$s
+                """.formatted(routingColumn(partitionKey));
+
+        jdbcTemplate.query(connection -> {
+            var statement = connection.prepareStatement(sql);
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            callback.accept(rs.getLong("routing_key"), rs.getLong("record_count"));
+        });
+    }
+
+    private static String routingColumn(PartitionKey partitionKey) {
+        return switch (partitionKey) {
+            case PACKAGE_ID -> "p.id";
+            case STORE_ID -> "COALESCE(p.store_id, p.id)";
+            case CUSTOMER_ID -> "COALESCE(p.customer_id, p.id)";
+        };
+    }
+
+    @FunctionalInterface
+    public interface RoutingKeyCallback {
+        void accept(long routingKey, long recordCount);
+    }
+}
@@ -0,0 +1,9 @@
+package com.startupheroes.app.repository;
+
+import com.startupheroes.app.entity.PackageSyncWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PackageSyncWatermarkRepository extends JpaRepository<PackageSyncWatermark, String> {
+}
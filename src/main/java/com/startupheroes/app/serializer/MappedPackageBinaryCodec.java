@@ -0,0 +1,223 @@
+package com.startupheroes.app.serializer;
+
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.exception.PackageSchemaNotFoundException;
+import com.startupheroes.app.mapper.PackageMapper;
+import com.startupheroes.app.mapper.TimestampFormatter;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static java.util.Objects.isNull;
+
+/**
+ * {@link MappedPackage}'ı Avro single-object encoding ile yazar ve okur:
+ * <pre>
+ * C3 01 | şema fingerprint'i (8 byte, little-endian) | Avro binary gövde
+ * </pre>
+ * Tarihler epoch mikrosaniye ({@code local-timestamp-micros}), sayılar zigzag varint olarak yazılır.
+ * Şema {@link MappedPackageSchema#V1}'dir.
+ */
+@Component
+public class MappedPackageBinaryCodec {
+
+    private static final byte MAGIC_0 = (byte) 0xC3;
+    private static final byte MAGIC_1 = (byte) 0x01;
+    private static final int HEADER_LENGTH = 10;
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final long SECONDS_PER_DAY = 86_400L;
+
+    public byte[] encode(MappedPackage pkg) {
+        Long createdAt = toEpochMicros(pkg.createdAt());
+        Long lastUpdatedAt = toEpochMicros(pkg.lastUpdatedAt());
+
+        byte[] out = new byte[HEADER_LENGTH
+                + varLongLength(pkg.id())
+                + optionalLength(createdAt)
+                + optionalLength(lastUpdatedAt)
+                + optionalLength(pkg.collectionDuration())
+                + optionalLength(pkg.deliveryDuration())
+                + optionalLength(pkg.eta())
+                + optionalLength(pkg.leadTime())
+                + (isNull(pkg.orderInTime()) ? 1 : 2)];
+
+        out[0] = MAGIC_0;
+        out[1] = MAGIC_1;
+        long fingerprint = MappedPackageSchema.V1_FINGERPRINT;
+        for (int i = 0; i < 8; i++) {
+            out[2 + i] = (byte) (fingerprint >>> (8 * i));
+        }
+
+        int pos = putVarLong(out, HEADER_LENGTH, pkg.id());
+        pos = putOptional(out, pos, createdAt);
+        pos = putOptional(out, pos, lastUpdatedAt);
+        pos = putOptional(out, pos, pkg.collectionDuration());
+        pos = putOptional(out, pos, pkg.deliveryDuration());
+        pos = putOptional(out, pos, pkg.eta());
+        pos = putOptional(out, pos, pkg.leadTime());
+        if (isNull(pkg.orderInTime())) {
+            out[pos] = 0;
+        } else {
+            out[pos] = 2;
+            out[pos + 1] = (byte) (pkg.orderInTime() ? 1 : 0);
+        }
+
+        return out;
+    }
+
+    public MappedPackage decode(byte[] data) {
+        if (!isBinary(data)) {
+            throw new IllegalArgumentException("Payload is not a single-object encoded package");
+        }
+        long fingerprint = 0;
+        for (int i = 0; i < 8; i++) {
+            fingerprint |= (data[2 + i] & 0xFFL) << (8 * i);
+        }
+        if (fingerprint != MappedPackageSchema.V1_FINGERPRINT) {
+            throw new PackageSchemaNotFoundException(fingerprint);
+        }
+
+        Reader reader = new Reader(data, HEADER_LENGTH);
+        return MappedPackage.builder()
+                .id(reader.readLong())
+                .createdAt(reader.readOptionalTimestamp())
+                .lastUpdatedAt(reader.readOptionalTimestamp())
+                .collectionDuration(reader.readOptionalInt())
+                .deliveryDuration(reader.readOptionalInt())
+                .eta(reader.readOptionalInt())
+                .leadTime(reader.readOptionalInt())
+                .orderInTime(reader.readOptionalBoolean())
+                .build();
+    }
+
+    public static boolean isBinary(byte[] data) {
+        return data != null && data.length >= HEADER_LENGTH && data[0] == MAGIC_0 && data[1] == MAGIC_1;
+    }
+
+    /**
+     * {@code yyyy-MM-dd HH:mm:ss.SSSSSS} formatındaki değeri epoch mikrosaniyeye çevirir.
+     * Sabit uzunlukta olmayan değerler {@link PackageMapper#FORMATTER} ile parse edilir.
+     */
+    static Long toEpochMicros(String value) {
+        if (isNull(value)) {
+            return null;
+        }
+        if (value.length() != TimestampFormatter.LENGTH) {
+            LocalDateTime dateTime = LocalDateTime.parse(value, PackageMapper.FORMATTER);
+            return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + dateTime.getNano() / 1000;
+        }
+
+        long epochDay = LocalDate.of(digits(value, 0, 4), digits(value, 5, 2), digits(value, 8, 2)).toEpochDay();
+        long seconds = epochDay * SECONDS_PER_DAY
+                + digits(value, 11, 2) * 3600L
+                + digits(value, 14, 2) * 60L
+                + digits(value, 17, 2);
+        return seconds * MICROS_PER_SECOND + digits(value, 20, 6);
+    }
+
+    static String fromEpochMicros(long micros) {
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(
+                Math.floorDiv(micros, MICROS_PER_SECOND),
+                (int) Math.floorMod(micros, MICROS_PER_SECOND) * 1000,
+                ZoneOffset.UTC);
+        return TimestampFormatter.format(dateTime);
+    }
+
+    private static int digits(String value, int offset, int width) {
+        int result = 0;
+        for (int i = offset; i < offset + width; i++) {
+            int digit = value.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                throw new IllegalArgumentException("Invalid timestamp: " + value);
+            }
+            result = result * 10 + digit;
+        }
+        return result;
+    }
+
+    private static int optionalLength(Number value) {
+        return isNull(value) ? 1 : 1 + varLongLength(value.longValue());
+    }
+
+    private static int varLongLength(long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        int length = 1;
+        while ((zigzag & ~0x7FL) != 0) {
+            zigzag >>>= 7;
+            length++;
+        }
+        return length;
+    }
+
+    private static int putOptional(byte[] out, int pos, Number value) {
+        if (isNull(value)) {
+            out[pos] = 0;
+            return pos + 1;
+        }
+        out[pos] = 2;
+        return putVarLong(out, pos + 1, value.longValue());
+    }
+
+    private static int putVarLong(byte[] out, int pos, long value) {
+        long zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            out[pos++] = (byte) ((zigzag & 0x7F) | 0x80);
+            zigzag >>>= 7;
+        }
+        out[pos++] = (byte) zigzag;
+        return pos;
+    }
+
+    private static final class Reader {
+
+        private final byte[] data;
+        private int pos;
+
+        private Reader(byte[] data, int pos) {
+            this.data = data;
+            this.pos = pos;
+        }
+
+        long readLong() {
+            long zigzag = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = next();
+                zigzag |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return (zigzag >>> 1) ^ -(zigzag & 1);
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint at offset " + pos);
+        }
+
+        Integer readOptionalInt() {
+            return readUnionIndex() ? Math.toIntExact(readLong()) : null;
+        }
+
+        String readOptionalTimestamp() {
+            return readUnionIndex() ? fromEpochMicros(readLong()) : null;
+        }
+
+        Boolean readOptionalBoolean() {
+            return readUnionIndex() ? next() != 0 : null;
+        }
+
+        private boolean readUnionIndex() {
+            long index = readLong();
+            if (index != 0 && index != 1) {
+                throw new IllegalArgumentException("Invalid union index " + index + " at offset " + pos);
+            }
+            return index == 1;
+        }
+
+        private byte next() {
+            if (pos >= data.length) {
+                throw new IllegalArgumentException("Truncated package payload");
+            }
+            return data[pos++];
+        }
+    }
+}
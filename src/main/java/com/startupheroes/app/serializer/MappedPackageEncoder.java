@@ -0,0 +1,25 @@
+package com.startupheroes.app.serializer;
+
+import com.startupheroes.app.config.WireFormatProperties;
+import com.startupheroes.app.dto.MappedPackage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Hedef topic'in formatına ({@code app.kafka.wire-format}) göre {@link MappedPackage} value'sunu üretir.
+ */
+@Component
+@RequiredArgsConstructor
+public class MappedPackageEncoder {
+
+    private final WireFormatProperties wireFormatProperties;
+    private final MappedPackageJsonWriter jsonWriter;
+    private final MappedPackageBinaryCodec binaryCodec;
+
+    public byte[] encode(String topic, MappedPackage pkg) {
+        return switch (wireFormatProperties.formatFor(topic)) {
+            case JSON -> jsonWriter.write(pkg);
+            case BINARY -> binaryCodec.encode(pkg);
+        };
+    }
+}
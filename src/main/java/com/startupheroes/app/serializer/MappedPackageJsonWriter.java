@@ -0,0 +1,170 @@
+package com.startupheroes.app.serializer;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.exception.KafkaSerializationException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Objects.isNull;
+
+/**
+ * {@link MappedPackage}'ı Jackson ile byte-byte aynı JSON'a, ara String ve UTF-8 yeniden
+ * kodlaması olmadan yazar.
+ * <p>
+ * Önce çıktının uzunluğu hesaplanır, ardından alanlar tam boyutlu tek bir byte dizisine yazılır;
+ * bu dizi {@code ByteArraySerializer} ile doğrudan producer'a verilir. Kaçış (escape) gerektiren
+ * ya da ASCII olmayan bir String alan varsa çıktı Jackson'a bırakılır.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MappedPackageJsonWriter {
+
+    private static final byte[] ID = ascii("{\"id\":");
+    private static final byte[] CREATED_AT = ascii(",\"createdAt\":");
+    private static final byte[] LAST_UPDATED_AT = ascii(",\"lastUpdatedAt\":");
+    private static final byte[] COLLECTION_DURATION = ascii(",\"collectionDuration\":");
+    private static final byte[] DELIVERY_DURATION = ascii(",\"deliveryDuration\":");
+    private static final byte[] ETA = ascii(",\"eta\":");
+    private static final byte[] LEAD_TIME = ascii(",\"leadTime\":");
+    private static final byte[] ORDER_IN_TIME = ascii(",\"orderInTime\":");
+
+    private static final byte[] NULL = ascii("null");
+    private static final byte[] TRUE = ascii("true");
+    private static final byte[] FALSE = ascii("false");
+
+    private static final int FIXED_LENGTH = ID.length + CREATED_AT.length + LAST_UPDATED_AT.length
+            + COLLECTION_DURATION.length + DELIVERY_DURATION.length + ETA.length + LEAD_TIME.length
+            + ORDER_IN_TIME.length + 1;
+
+    private final ObjectMapper objectMapper;
+
+    public byte[] write(MappedPackage pkg) {
+        if (!isPlainAscii(pkg.createdAt()) || !isPlainAscii(pkg.lastUpdatedAt())) {
+            return writeWithJackson(pkg);
+        }
+
+        byte[] out = new byte[FIXED_LENGTH
+                + length(pkg.id())
+                + length(pkg.createdAt())
+                + length(pkg.lastUpdatedAt())
+                + length(pkg.collectionDuration())
+                + length(pkg.deliveryDuration())
+                + length(pkg.eta())
+                + length(pkg.leadTime())
+                + length(pkg.orderInTime())];
+
+        int pos = put(out, 0, ID);
+        pos = putNumber(out, pos, pkg.id());
+        pos = put(out, pos, CREATED_AT);
+        pos = putString(out, pos, pkg.createdAt());
+        pos = put(out, pos, LAST_UPDATED_AT);
+        pos = putString(out, pos, pkg.lastUpdatedAt());
+        pos = put(out, pos, COLLECTION_DURATION);
+        pos = putNumber(out, pos, pkg.collectionDuration());
+        pos = put(out, pos, DELIVERY_DURATION);
+        pos = putNumber(out, pos, pkg.deliveryDuration());
+        pos = put(out, pos, ETA);
+        pos = putNumber(out, pos, pkg.eta());
+        pos = put(out, pos, LEAD_TIME);
+        pos = putNumber(out, pos, pkg.leadTime());
+        pos = put(out, pos, ORDER_IN_TIME);
+        pos = put(out, pos, isNull(pkg.orderInTime()) ? NULL : pkg.orderInTime() ? TRUE : FALSE);
+        out[pos] = '}';
+
+        return out;
+    }
+
+    private byte[] writeWithJackson(MappedPackage pkg) {
+        try {
+            return objectMapper.writeValueAsBytes(pkg);
+        } catch (JsonProcessingException ex) {
+            log.error("Failed to serialize package {}", pkg.id(), ex);
+            throw new KafkaSerializationException(pkg.id(), ex);
+        }
+    }
+
+    private static boolean isPlainAscii(String value) {
+        if (isNull(value)) {
+            return true;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x20 || c > 0x7E || c == '"' || c == '\\') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int length(String value) {
+        return isNull(value) ? NULL.length : value.length() + 2;
+    }
+
+    private static int length(Boolean value) {
+        return isNull(value) ? NULL.length : value ? TRUE.length : FALSE.length;
+    }
+
+    private static int length(Number value) {
+        if (isNull(value)) {
+            return NULL.length;
+        }
+        long number = value.longValue();
+        if (number == Long.MIN_VALUE) {
+            return 20;
+        }
+        int digits = 1;
+        for (long rest = Math.abs(number) / 10; rest > 0; rest /= 10) {
+            digits++;
+        }
+        return number < 0 ? digits + 1 : digits;
+    }
+
+    private static int put(byte[] out, int pos, byte[] bytes) {
+        System.arraycopy(bytes, 0, out, pos, bytes.length);
+        return pos + bytes.length;
+    }
+
+    private static int putString(byte[] out, int pos, String value) {
+        if (isNull(value)) {
+            return put(out, pos, NULL);
+        }
+        out[pos++] = '"';
+        for (int i = 0; i < value.length(); i++) {
+            out[pos++] = (byte) value.charAt(i);
+        }
+        out[pos++] = '"';
+        return pos;
+    }
+
+    private static int putNumber(byte[] out, int pos, Number value) {
+        if (isNull(value)) {
+            return put(out, pos, NULL);
+        }
+        long number = value.longValue();
+        if (number == Long.MIN_VALUE) {
+            return put(out, pos, ascii(Long.toString(number)));
+        }
+
+        int end = pos + length(value);
+        if (number < 0) {
+            out[pos] = '-';
+            number = -number;
+        }
+        int i = end;
+        do {
+            out[--i] = (byte) ('0' + number % 10);
+            number /= 10;
+        } while (number > 0);
+        return end;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,62 @@
+package com.startupheroes.app.serializer;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link MappedPackageBinaryCodec}'in yazdığı kayıtların Avro şeması.
+ * <p>
+ * Fingerprint, Avro'nun Parsing Canonical Form'u üzerinden CRC-64-AVRO (Rabin) ile hesaplanır;
+ * böylece aynı şemayı kullanan bir Avro tüketicisi single-object header'ı doğrudan çözebilir.
+ * Şema değişirse yeni bir sürüm eklenmeli, eskisi {@link PackageSchemaStore}'dan silinmemelidir.
+ */
+public final class MappedPackageSchema {
+
+    public static final String V1 = """
+            {"type":"record","name":"MappedPackage","namespace":"com.startupheroes.app",\
+            "fields":[\
+            {"name":"id","type":"long"},\
+            {"name":"createdAt","type":["null",{"type":"long","logicalType":"local-timestamp-micros"}]},\
+            {"name":"lastUpdatedAt","type":["null",{"type":"long","logicalType":"local-timestamp-micros"}]},\
+            {"name":"collectionDuration","type":["null","int"]},\
+            {"name":"deliveryDuration","type":["null","int"]},\
+            {"name":"eta","type":["null","int"]},\
+            {"name":"leadTime","type":["null","int"]},\
+            {"name":"orderInTime","type":["null","boolean"]}]}""";
+
+    static final String V1_CANONICAL_FORM = """
+            {"name":"com.startupheroes.app.MappedPackage","type":"record","fields":[\
+            {"name":"id","type":"long"},\
+            {"name":"createdAt","type":["null","long"]},\
+            {"name":"lastUpdatedAt","type":["null","long"]},\
+            {"name":"collectionDuration","type":["null","int"]},\
+            {"name":"deliveryDuration","type":["null","int"]},\
+            {"name":"eta","type":["null","int"]},\
+            {"name":"leadTime","type":["null","int"]},\
+            {"name":"orderInTime","type":["null","boolean"]}]}""";
+
+    private static final long EMPTY = 0xc15d213aa4d7a795L;
+    private static final long[] FINGERPRINT_TABLE = new long[256];
+
+    static {
+        for (int i = 0; i < 256; i++) {
+            long fp = i;
+            for (int j = 0; j < 8; j++) {
+                fp = (fp >>> 1) ^ (EMPTY & -(fp & 1L));
+            }
+            FINGERPRINT_TABLE[i] = fp;
+        }
+    }
+
+    public static final long V1_FINGERPRINT = fingerprint(V1_CANONICAL_FORM);
+
+    private MappedPackageSchema() {
+    }
+
+    static long fingerprint(String canonicalForm) {
+        long fp = EMPTY;
+        for (byte b : canonicalForm.getBytes(StandardCharsets.UTF_8)) {
+            fp = (fp >>> 8) ^ FINGERPRINT_TABLE[(int) (fp ^ b) & 0xff];
+        }
+        return fp;
+    }
+}
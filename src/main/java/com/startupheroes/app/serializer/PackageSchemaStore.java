@@ -0,0 +1,29 @@
+package com.startupheroes.app.serializer;
+
+import com.startupheroes.app.exception.PackageSchemaNotFoundException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * Binary formatta yazılan kayıtların şema fingerprint'lerini şemalara çözen gömülü şema deposu.
+ * <p>
+ * Production notu: birden fazla servis aynı topic'e yazmaya başlarsa bu sınıf yerine
+ * Confluent/Apicurio gibi bir schema registry kullanılmalıdır; header formatı (Avro single-object
+ * encoding) registry'den bağımsızdır.
+ */
+@Component
+public class PackageSchemaStore {
+
+    private final Map<Long, String> schemas = Map.of(
+            MappedPackageSchema.V1_FINGERPRINT, MappedPackageSchema.V1
+    );
+
+    public String getSchema(long fingerprint) {
+        String schema = schemas.get(fingerprint);
+        if (schema == null) {
+            throw new PackageSchemaNotFoundException(fingerprint);
+        }
+        return schema;
+    }
+}
@@ -0,0 +1,44 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.entity.BootstrapCheckpoint;
+import com.startupheroes.app.repository.BootstrapCheckpointRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class BootstrapCheckpointService {
+
+    private final BootstrapCheckpointRepository checkpointRepository;
+
+    @Transactional(readOnly = true)
+    public List<BootstrapCheckpoint> findCheckpoints() {
+        return checkpointRepository.findAll(Sort.by("partitionNo"));
+    }
+
+    public List<BootstrapCheckpoint> replaceCheckpoints(List<BootstrapCheckpoint> checkpoints) {
+        checkpointRepository.deleteAllInBatch();
+        return checkpointRepository.saveAll(checkpoints);
+    }
+
+    public void saveCheckpoint(int partitionNo, Long lastPackageId, long sentCount) {
+        BootstrapCheckpoint checkpoint = checkpointRepository.findById(partitionNo)
+                .orElseGet(() -> BootstrapCheckpoint.builder().partitionNo(partitionNo).build());
+
+        checkpoint.setLastPackageId(lastPackageId);
+        checkpoint.setSentCount(sentCount);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        checkpointRepository.save(checkpoint);
+
+        log.debug("Bootstrap checkpoint saved: partition={} lastPackageId={} sentCount={}",
+                partitionNo, lastPackageId, sentCount);
+    }
+}
@@ -0,0 +1,115 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.dto.BootstrapJobStatus;
+import com.startupheroes.app.dto.BootstrapJobType;
+import com.startupheroes.app.dto.PackageFilter;
+import com.startupheroes.app.dto.response.BootstrapJobResponse;
+import com.startupheroes.app.dto.response.BootstrapResult;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import static com.startupheroes.app.dto.BootstrapJobStatus.*;
+import static java.util.Objects.isNull;
+
+@Getter
+public class BootstrapJob {
+
+    private final String id;
+    private final BootstrapJobType type;
+    private final PackageFilter filter;
+    private final Instant createdAt = Instant.now();
+    private final BootstrapProgress progress = new BootstrapProgress();
+
+    private volatile BootstrapJobStatus status = QUEUED;
+    private volatile Instant startedAt;
+    private volatile Instant finishedAt;
+    private volatile Long totalEstimate;
+    private volatile BootstrapResult result;
+    private volatile String errorMessage;
+
+    BootstrapJob(String id, BootstrapJobType type, PackageFilter filter) {
+        this.id = id;
+        this.type = type;
+        this.filter = filter;
+    }
+
+    public boolean isFinished() {
+        return status == COMPLETED || status == FAILED || status == CANCELLED;
+    }
+
+    void markRunning() {
+        startedAt = Instant.now();
+        status = RUNNING;
+    }
+
+    void setTotalEstimate(long totalEstimate) {
+        this.totalEstimate = totalEstimate;
+    }
+
+    void markFinished(BootstrapResult result) {
+        this.result = result;
+        if (progress.isCancelRequested()) {
+            finish(CANCELLED, null);
+        } else if (!result.failedIds().isEmpty()) {
+            finish(FAILED, result.failedIds().size() + " packages could not be sent");
+        } else {
+            finish(COMPLETED, null);
+        }
+    }
+
+    void markFailed(Throwable ex) {
+        finish(FAILED, ex.getMessage());
+    }
+
+    private void finish(BootstrapJobStatus status, String errorMessage) {
+        this.errorMessage = errorMessage;
+        this.finishedAt = Instant.now();
+        this.status = status;
+    }
+
+    public BootstrapJobResponse toResponse() {
+        long acked = progress.getAckedCount();
+        long rowsRead = progress.getRowsRead();
+        double recordsPerSecond = recordsPerSecond(acked);
+
+        return BootstrapJobResponse.builder()
+                .jobId(id)
+                .type(type)
+                .filter(filter.isEmpty() ? null : filter)
+                .status(status)
+                .createdAt(createdAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .totalEstimate(totalEstimate)
+                .rowsRead(rowsRead)
+                .ackedCount(acked)
+                .failedCount(progress.getFailedCount())
+                .recordsPerSecond(recordsPerSecond)
+                .etaSeconds(etaSeconds(rowsRead, recordsPerSecond))
+                .errorMessage(errorMessage)
+                .result(result)
+                .build();
+    }
+
+    private double recordsPerSecond(long acked) {
+        if (isNull(startedAt)) {
+            return 0;
+        }
+        Instant end = isNull(finishedAt) ? Instant.now() : finishedAt;
+        long elapsedMillis = Math.max(Duration.between(startedAt, end).toMillis(), 1);
+        return acked * 1000.0 / elapsedMillis;
+    }
+
+    private Long etaSeconds(long rowsRead, double recordsPerSecond) {
+        if (isFinished()) {
+            return 0L;
+        }
+        if (isNull(totalEstimate) || recordsPerSecond <= 0) {
+            return null;
+        }
+        long remaining = Math.max(totalEstimate - rowsRead, 0);
+        return (long) Math.ceil(remaining / recordsPerSecond);
+    }
+}
@@ -0,0 +1,108 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.dto.BootstrapJobType;
+import com.startupheroes.app.dto.PackageFilter;
+import com.startupheroes.app.dto.response.BootstrapResult;
+import com.startupheroes.app.exception.BootstrapJobAlreadyRunningException;
+import com.startupheroes.app.exception.BootstrapJobNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.startupheroes.app.dto.BootstrapJobType.RESUME;
+
+/**
+ * Bootstrap'i HTTP thread'inden ayırır: işler tek thread'li bir executor'da çalışır
+ * ve aynı anda yalnızca bir bootstrap işine izin verilir.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BootstrapJobService {
+
+    private static final int RETAINED_JOB_COUNT = 50;
+
+    private final BootstrapService bootstrapService;
+    private final ExecutorService bootstrapJobExecutor;
+
+    private final Map<String, BootstrapJob> jobs = new ConcurrentHashMap<>();
+    private final AtomicReference<BootstrapJob> activeJob = new AtomicReference<>();
+
+    public BootstrapJob start(BootstrapJobType type, PackageFilter filter) {
+        BootstrapJob job = new BootstrapJob(UUID.randomUUID().toString(), type, filter);
+
+        if (!activeJob.compareAndSet(null, job)) {
+            String runningJobId = Optional.ofNullable(activeJob.get()).map(BootstrapJob::getId).orElse("unknown");
+            throw new BootstrapJobAlreadyRunningException(runningJobId);
+        }
+
+        evictFinishedJobs();
+        jobs.put(job.getId(), job);
+
+        try {
+            bootstrapJobExecutor.execute(() -> execute(job));
+        } catch (RejectedExecutionException ex) {
+            jobs.remove(job.getId());
+            activeJob.set(null);
+            throw ex;
+        }
+
+        log.info("Bootstrap job submitted: jobId={} type={} filter={}", job.getId(), type, filter);
+        return job;
+    }
+
+    public BootstrapJob getJob(String jobId) {
+        BootstrapJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new BootstrapJobNotFoundException(jobId);
+        }
+        return job;
+    }
+
+    public BootstrapJob cancel(String jobId) {
+        BootstrapJob job = getJob(jobId);
+
+        if (!job.isFinished()) {
+            job.getProgress().requestCancel();
+            log.info("Bootstrap job cancellation requested: jobId={}", jobId);
+        }
+        return job;
+    }
+
+    private void execute(BootstrapJob job) {
+        job.markRunning();
+        try {
+            boolean resume = RESUME.equals(job.getType());
+            job.setTotalEstimate(bootstrapService.estimateRemaining(resume, job.getFilter()));
+
+            BootstrapResult result = resume
+                    ? bootstrapService.resume(job.getProgress())
+                    : bootstrapService.bootstrap(job.getProgress(), job.getFilter());
+
+            job.markFinished(result);
+            log.info("Bootstrap job finished: jobId={} status={}", job.getId(), job.getStatus());
+        } catch (RuntimeException ex) {
+            log.error("Bootstrap job failed: jobId={}", job.getId(), ex);
+            job.markFailed(ex);
+        } finally {
+            activeJob.compareAndSet(job, null);
+        }
+    }
+
+    private void evictFinishedJobs() {
+        jobs.values().stream()
+                .filter(BootstrapJob::isFinished)
+                .sorted(Comparator.comparing(BootstrapJob::getCreatedAt).reversed())
+                .skip(RETAINED_JOB_COUNT)
+                .forEach(job -> jobs.remove(job.getId()));
+    }
+}
@@ -0,0 +1,47 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.dto.response.BulkSendResult;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Çalışan bir bootstrap'in canlı sayaçları. Worker'lar her sayfadan sonra günceller;
+ * iptal isteği de sayfa sınırlarında buradan okunur.
+ */
+public class BootstrapProgress {
+
+    private final LongAdder rowsRead = new LongAdder();
+    private final LongAdder ackedCount = new LongAdder();
+    private final LongAdder failedCount = new LongAdder();
+    private final AtomicBoolean cancelRequested = new AtomicBoolean();
+
+    void onPageRead(int rows) {
+        rowsRead.add(rows);
+    }
+
+    void onPageSent(BulkSendResult result) {
+        ackedCount.add(result.ackedCount());
+        failedCount.add(result.failedIds().size());
+    }
+
+    public void requestCancel() {
+        cancelRequested.set(true);
+    }
+
+    public boolean isCancelRequested() {
+        return cancelRequested.get();
+    }
+
+    public long getRowsRead() {
+        return rowsRead.sum();
+    }
+
+    public long getAckedCount() {
+        return ackedCount.sum();
+    }
+
+    public long getFailedCount() {
+        return failedCount.sum();
+    }
+}
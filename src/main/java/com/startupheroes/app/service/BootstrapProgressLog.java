@@ -0,0 +1,154 @@
+package com.startupheroes.app.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startupheroes.app.config.BootstrapProperties;
+import com.startupheroes.app.entity.BootstrapCheckpoint;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.IsolationLevel;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Exactly-once bootstrap'ın ilerlemesini compacted bir Kafka topic'inde tutar.
+ * <p>
+ * Key bootstrap partition numarası, value partition'ın id aralığı, son gönderilen paket id'si ve bootstrap filtresidir. İlerleme
+ * kaydı sayfalarla aynı transaction'da yazıldığından, commit edilmiş ilerleme her zaman {@code read_committed}
+ * consumer'ların gördüğü son kayıtla tutarlıdır. Veritabanındaki checkpoint'ler commit'ten sonra yazılır ve
+ * çökme durumunda geride kalabilir; exactly-once modunda resume bu topic'ten okunur.
+ */
+@Slf4j
+@Component
+public class BootstrapProgressLog {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(30);
+
+    private final KafkaTemplate<String, byte[]> transactionalKafkaTemplate;
+    private final DefaultKafkaConsumerFactory<String, byte[]> consumerFactory;
+    private final ObjectMapper objectMapper;
+    private final String topic;
+
+    public BootstrapProgressLog(@Qualifier("transactionalKafkaTemplate") KafkaTemplate<String, byte[]> transactionalKafkaTemplate,
+                                KafkaProperties kafkaProperties,
+                                ObjectProvider<SslBundles> sslBundles,
+                                BootstrapProperties bootstrapProperties,
+                                ObjectMapper objectMapper) {
+        Map<String, Object> consumerProperties = kafkaProperties.buildConsumerProperties(sslBundles.getIfAvailable());
+        consumerProperties.remove(ConsumerConfig.GROUP_ID_CONFIG);
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        consumerProperties.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG,
+                IsolationLevel.READ_COMMITTED.toString().toLowerCase(Locale.ROOT));
+
+        this.transactionalKafkaTemplate = transactionalKafkaTemplate;
+        this.consumerFactory = new DefaultKafkaConsumerFactory<>(consumerProperties,
+                new StringDeserializer(), new ByteArrayDeserializer());
+        this.objectMapper = objectMapper;
+        this.topic = bootstrapProperties.transactions().progressTopic();
+    }
+
+    public ProducerRecord<String, byte[]> progressRecord(int partitionNo, long lastPackageId, long rangeEnd, long sentCount,
+                                                         String packageFilter) {
+        try {
+            byte[] value = objectMapper.writeValueAsBytes(new Progress(lastPackageId, rangeEnd, sentCount, packageFilter));
+            return new ProducerRecord<>(topic, String.valueOf(partitionNo), value);
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to serialize bootstrap progress of partition " + partitionNo, ex);
+        }
+    }
+
+    /**
+     * Yeni bir bootstrap planını tek transaction'da yazar; plandaki partition'lar sıfırlanır, planda olmayan
+     * eski partition'lar tombstone ile silinir. Plan ya tamamen görünür ya hiç görünmez.
+     */
+    public void replace(List<BootstrapCheckpoint> checkpoints) {
+        Set<Integer> stalePartitions = new HashSet<>();
+        readCommittedCheckpoints().forEach(checkpoint -> stalePartitions.add(checkpoint.getPartitionNo()));
+        checkpoints.forEach(checkpoint -> stalePartitions.remove(checkpoint.getPartitionNo()));
+
+        transactionalKafkaTemplate.executeInTransaction(operations -> {
+            stalePartitions.forEach(partitionNo -> operations.send(topic, String.valueOf(partitionNo), null));
+            checkpoints.forEach(checkpoint -> operations.send(progressRecord(checkpoint.getPartitionNo(),
+                    checkpoint.getLastPackageId(), checkpoint.getRangeEnd(), checkpoint.getSentCount(),
+                    checkpoint.getPackageFilter())));
+            return null;
+        });
+        log.debug("Bootstrap progress replaced: partitions={} removed={}", checkpoints.size(), stalePartitions.size());
+    }
+
+    /**
+     * Topic'i baştan sona {@code read_committed} okur; abort edilmiş veya açık transaction'ların kayıtları görünmez.
+     */
+    public List<BootstrapCheckpoint> readCommittedCheckpoints() {
+        Map<Integer, BootstrapCheckpoint> checkpoints = new TreeMap<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer()) {
+            List<TopicPartition> partitions = consumer.partitionsFor(topic).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+            consumer.seekToBeginning(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            long deadline = System.nanoTime() + READ_TIMEOUT.toNanos();
+
+            while (partitions.stream().anyMatch(partition -> consumer.position(partition) < endOffsets.get(partition))) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("Timed out reading bootstrap progress from " + topic);
+                }
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                    int partitionNo = Integer.parseInt(record.key());
+                    if (isNull(record.value())) {
+                        checkpoints.remove(partitionNo);
+                    } else {
+                        checkpoints.put(partitionNo, toCheckpoint(partitionNo, record.value(), now));
+                    }
+                }
+            }
+        }
+        return new ArrayList<>(checkpoints.values());
+    }
+
+    private BootstrapCheckpoint toCheckpoint(int partitionNo, byte[] value, LocalDateTime updatedAt) {
+        try {
+            Progress progress = objectMapper.readValue(value, Progress.class);
+            return BootstrapCheckpoint.builder()
+                    .partitionNo(partitionNo)
+                    .lastPackageId(progress.lastPackageId())
+                    .rangeEnd(progress.rangeEnd())
+                    .sentCount(progress.sentCount())
+                    .packageFilter(progress.packageFilter())
+                    .updatedAt(updatedAt)
+                    .build();
+        } catch (IOException ex) {
+            throw new IllegalStateException("Failed to read bootstrap progress of partition " + partitionNo, ex);
+        }
+    }
+
+    private record Progress(long lastPackageId, long rangeEnd, long sentCount, String packageFilter) {
+    }
+}
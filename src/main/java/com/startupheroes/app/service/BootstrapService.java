@@ -0,0 +1,358 @@
+package com.startupheroes.app.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startupheroes.app.config.BootstrapProperties;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.dto.PackageFilter;
+import com.startupheroes.app.dto.PackageIdRange;
+import com.startupheroes.app.dto.ProducerProfile;
+import com.startupheroes.app.dto.response.BootstrapPartitionResult;
+import com.startupheroes.app.dto.response.BootstrapResult;
+import com.startupheroes.app.dto.response.BulkSendResult;
+import com.startupheroes.app.entity.BootstrapCheckpoint;
+import lombok.RequiredArgsConstructor;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.startupheroes.app.config.BootstrapProperties.MappingEngine.SQL;
+import static java.util.Objects.isNull;
+import static java.util.Objects.requireNonNullElse;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BootstrapService {
+
+    private static final long INITIAL_PACKAGE_ID = 0L;
+    private static final long UNBOUNDED_PACKAGE_ID = Long.MAX_VALUE;
+    private static final int MAX_PARTITIONS_PER_WORKER = 16;
+
+    private final PackageService packageService;
+    private final KafkaProducerService kafkaProducerService;
+    private final BootstrapCheckpointService checkpointService;
+    private final BootstrapProgressLog progressLog;
+    private final BootstrapProperties bootstrapProperties;
+    private final ExecutorService bootstrapWorkerExecutor;
+    private final ObjectMapper objectMapper;
+
+    public BootstrapResult bootstrap(BootstrapProgress progress, PackageFilter filter) {
+        log.info("Starting Kafka bootstrap for {}", filter.isEmpty() ? "all packages" : filter);
+
+        List<BootstrapCheckpoint> plan = planPartitions(filter);
+        if (isTransactional()) {
+            progressLog.replace(plan);
+        }
+        List<BootstrapCheckpoint> checkpoints = checkpointService.replaceCheckpoints(plan);
+        BootstrapResult result = run(checkpoints, progress);
+
+        log.info("Kafka bootstrap completed: {} packages sent in {} ms", result.sentCount(), result.elapsedMillis());
+        return result;
+    }
+
+    public BootstrapResult resume(BootstrapProgress progress) {
+        List<BootstrapCheckpoint> checkpoints = isTransactional()
+                ? findCommittedCheckpoints()
+                : checkpointService.findCheckpoints();
+
+        if (checkpoints.isEmpty()) {
+            log.info("No bootstrap checkpoint found, starting from the beginning");
+            return bootstrap(progress, PackageFilter.NONE);
+        }
+
+        log.info("Resuming Kafka bootstrap from {} checkpoints", checkpoints.size());
+        BootstrapResult result = run(checkpoints, progress);
+
+        log.info("Kafka bootstrap resume completed: {} packages sent in {} ms",
+                result.sentCount(), result.elapsedMillis());
+        return result;
+    }
+
+    /**
+     * ETA hesabı için gönderilecek kayıt sayısının tahmini. Resume'da {@code filter} yerine checkpoint'lere
+     * yazılmış filtre kullanılır ve checkpoint'lerdeki gönderim sayıları toplamdan düşülür.
+     */
+    public long estimateRemaining(boolean resume, PackageFilter filter) {
+        if (!resume) {
+            return packageService.countNonCancelledPackages(filter);
+        }
+        List<BootstrapCheckpoint> checkpoints = checkpointService.findCheckpoints();
+        PackageFilter checkpointFilter = checkpoints.isEmpty() ? PackageFilter.NONE : readFilter(checkpoints.getFirst());
+        long total = packageService.countNonCancelledPackages(checkpointFilter);
+
+        long alreadySent = checkpoints.stream()
+                .mapToLong(BootstrapCheckpoint::getSentCount)
+                .sum();
+        return Math.max(total - alreadySent, 0);
+    }
+
+    /**
+     * Exactly-once modunda ilerleme Kafka'daki commit edilmiş kayıtlardan okunur ve veritabanı checkpoint'leri
+     * bunlarla eşitlenir. Topic boşsa (ör. mod yeni açıldıysa) veritabanındaki checkpoint'ler kullanılır.
+     */
+    private List<BootstrapCheckpoint> findCommittedCheckpoints() {
+        List<BootstrapCheckpoint> committed = progressLog.readCommittedCheckpoints();
+
+        if (committed.isEmpty()) {
+            return checkpointService.findCheckpoints();
+        }
+        log.debug("Resuming from {} committed bootstrap progress records", committed.size());
+        return checkpointService.replaceCheckpoints(committed);
+    }
+
+    private boolean isTransactional() {
+        return bootstrapProperties.transactions().enabled();
+    }
+
+    /**
+     * Filtreye uyan paketlerin [min(id), max(id)] aralığını eşit genişlikte parçalara böler; filtreli bir bootstrap
+     * yalnızca kendi diliminin id aralığını tarar. Cancelled paketler de aralığa dahildir; state topic'e tombstone
+     * olarak yazılırlar.
+     * Son parçanın üst sınırı açık bırakılır; böylece bootstrap sırasında eklenen kayıtlar da gönderilir.
+     * <p>
+     * Not – parça sayısı worker başına {@value #MAX_PARTITIONS_PER_WORKER} ile sınırlıdır; aralığa göre çok küçük bir
+     * {@code range-size} her parça için bir checkpoint satırı ve bir görev üretmek yerine genişletilir.
+     * Kayıt anahtarı her zaman {@code String.valueOf(id)} olduğundan paket bazında sıralama korunur.
+     */
+    private List<BootstrapCheckpoint> planPartitions(PackageFilter filter) {
+        PackageIdRange idRange = packageService.getIdRange(filter);
+        String packageFilter = writeFilter(filter);
+
+        if (isNull(idRange) || isNull(idRange.minId())) {
+            return List.of();
+        }
+
+        long lowerBound = idRange.minId() - 1;
+        long span = idRange.maxId() - lowerBound;
+        long maxPartitions = (long) bootstrapProperties.workers() * MAX_PARTITIONS_PER_WORKER;
+        long minRangeSize = Math.ceilDiv(span, maxPartitions);
+        long rangeSize = bootstrapProperties.rangeSize() > 0
+                ? bootstrapProperties.rangeSize()
+                : Math.ceilDiv(span, bootstrapProperties.workers());
+        if (rangeSize < minRangeSize) {
+            log.warn("Bootstrap range-size {} would split ids [{}, {}] into more than {} partitions; using {}",
+                    rangeSize, idRange.minId(), idRange.maxId(), maxPartitions, minRangeSize);
+            rangeSize = minRangeSize;
+        }
+        int partitionCount = (int) Math.ceilDiv(span, rangeSize);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<BootstrapCheckpoint> checkpoints = new ArrayList<>(partitionCount);
+
+        for (int partitionNo = 0; partitionNo < partitionCount; partitionNo++) {
+            long fromId = lowerBound + partitionNo * rangeSize;
+            long toId = partitionNo == partitionCount - 1 ? UNBOUNDED_PACKAGE_ID : fromId + rangeSize;
+
+            checkpoints.add(BootstrapCheckpoint.builder()
+                    .partitionNo(partitionNo)
+                    .lastPackageId(fromId)
+                    .rangeEnd(toId)
+                    .sentCount(0L)
+                    .updatedAt(now)
+                    .packageFilter(packageFilter)
+                    .build());
+        }
+
+        log.debug("Planned {} bootstrap partitions of size {} for ids [{}, {}]",
+                partitionCount, rangeSize, idRange.minId(), idRange.maxId());
+        return checkpoints;
+    }
+
+    private BootstrapResult run(List<BootstrapCheckpoint> checkpoints, BootstrapProgress progress) {
+        long startNanos = System.nanoTime();
+
+        List<CompletableFuture<BootstrapPartitionResult>> futures = checkpoints.stream()
+                .map(checkpoint -> CompletableFuture.supplyAsync(
+                        () -> runPartition(checkpoint, progress), bootstrapWorkerExecutor))
+                .toList();
+
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        List<BootstrapPartitionResult> partitions = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+        long sentCount = partitions.stream().mapToLong(BootstrapPartitionResult::sentCount).sum();
+        long tombstoneCount = partitions.stream().mapToLong(BootstrapPartitionResult::tombstoneCount).sum();
+        long elapsedMillis = elapsedMillisSince(startNanos);
+
+        return BootstrapResult.builder()
+                .sentCount(sentCount)
+                .tombstoneCount(tombstoneCount)
+                .failedIds(partitions.stream().flatMap(partition -> partition.failedIds().stream()).toList())
+                .deadLetteredIds(partitions.stream().flatMap(partition -> partition.deadLetteredIds().stream()).toList())
+                .bytes(partitions.stream().mapToLong(BootstrapPartitionResult::bytes).sum())
+                .elapsedMillis(elapsedMillis)
+                .recordsPerSecond(recordsPerSecond(sentCount, elapsedMillis))
+                .partitions(partitions)
+                .build();
+    }
+
+    private BootstrapPartitionResult runPartition(BootstrapCheckpoint checkpoint, BootstrapProgress progress) {
+        long startNanos = System.nanoTime();
+        int partitionNo = checkpoint.getPartitionNo();
+        long fromId = requireNonNullElse(checkpoint.getLastPackageId(), INITIAL_PACKAGE_ID);
+        long toId = requireNonNullElse(checkpoint.getRangeEnd(), UNBOUNDED_PACKAGE_ID);
+        int pageSize = bootstrapProperties.pageSize();
+        PackageFilter filter = readFilter(checkpoint);
+
+        long lastId = fromId;
+        long sentCount = 0;
+        long tombstoneCount = 0;
+        long bytes = 0;
+        List<Long> failedIds = List.of();
+        List<Long> deadLetteredIds = new ArrayList<>();
+        boolean transactional = isTransactional();
+        int pagesPerChunk = transactional ? bootstrapProperties.transactions().pagesPerTransaction() : 1;
+        Chunk chunk;
+
+        do {
+            if (progress.isCancelRequested()) {
+                log.info("Bootstrap partition {} cancelled after id {}", partitionNo, lastId);
+                break;
+            }
+            chunk = readChunk(filter, lastId, toId, pageSize, pagesPerChunk);
+            if (chunk.isEmpty()) {
+                break;
+            }
+            progress.onPageRead(chunk.packages().size());
+
+            BulkSendResult sendResult = transactional
+                    ? sendChunkInTransaction(chunk, checkpoint, toId, checkpoint.getSentCount() + sentCount)
+                    : kafkaProducerService.sendAll(chunk.packages(), chunk.cancelledIds(), ProducerProfile.BULK);
+            progress.onPageSent(sendResult);
+            sentCount += sendResult.ackedCount();
+            tombstoneCount += sendResult.tombstoneCount();
+            bytes += sendResult.bytes();
+            deadLetteredIds.addAll(sendResult.deadLetteredIds());
+
+            if (sendResult.hasFailures()) {
+                failedIds = sendResult.failedIds();
+                log.warn("Bootstrap partition {} stopped at page after id {}: {} packages failed",
+                        partitionNo, lastId, failedIds.size());
+                break;
+            }
+            lastId = chunk.lastId();
+            checkpointService.saveCheckpoint(partitionNo, lastId, checkpoint.getSentCount() + sentCount);
+        } while (!chunk.exhausted());
+
+        long elapsedMillis = elapsedMillisSince(startNanos);
+        log.debug("Bootstrap partition {} completed: ids ({}, {}] sent={} elapsed={} ms",
+                partitionNo, fromId, toId, sentCount, elapsedMillis);
+
+        return BootstrapPartitionResult.builder()
+                .partitionNo(partitionNo)
+                .worker(Thread.currentThread().getName())
+                .fromIdExclusive(fromId)
+                .toIdInclusive(toId)
+                .sentCount(sentCount)
+                .tombstoneCount(tombstoneCount)
+                .failedIds(failedIds)
+                .deadLetteredIds(deadLetteredIds)
+                .bytes(bytes)
+                .elapsedMillis(elapsedMillis)
+                .recordsPerSecond(recordsPerSecond(sentCount, elapsedMillis))
+                .build();
+    }
+
+    /**
+     * Chunk'ı ve partition'ın chunk sonrası ilerlemesini aynı transaction'da gönderir. İlerleme kaydındaki
+     * gönderim sayısı tüm paketlerin yazıldığını varsayar; bir paket bile yazılamazsa transaction abort edilir.
+     */
+    private BulkSendResult sendChunkInTransaction(Chunk chunk, BootstrapCheckpoint checkpoint, long toId,
+                                                  long previousSentCount) {
+        ProducerRecord<String, byte[]> progressRecord = progressLog.progressRecord(checkpoint.getPartitionNo(),
+                chunk.lastId(), toId, previousSentCount + chunk.packages().size(), checkpoint.getPackageFilter());
+
+        return kafkaProducerService.sendAllInTransaction(chunk.packages(), chunk.cancelledIds(), progressRecord);
+    }
+
+    /**
+     * {@code lastId}'den sonraki en fazla {@code pages} sayfayı ve aynı id penceresindeki cancelled paketleri okur.
+     * Son sayfada pencere aralığın sonuna uzatılır; son aktif paketten sonraki cancelled'lar da silinir.
+     * <p>
+     * Not – cancelled id'ler de {@code pageSize} ile sayfalanır. Pencere tam bir cancelled sayfası içeriyorsa
+     * pencere okunan son cancelled id'de kapanır; ondan büyük aktif paketler bir sonraki sayfada tekrar okunur.
+     * Böylece uzun cancelled serileri tek listeye ve tek tombstone batch'ine yüklenmez.
+     */
+    private Chunk readChunk(PackageFilter filter, long lastId, long toId, int pageSize, int pages) {
+        boolean writeState = kafkaProducerService.isStateTopicEnabled();
+        List<MappedPackage> packages = new ArrayList<>();
+        List<Long> cancelledIds = new ArrayList<>();
+
+        for (int i = 0; i < pages; i++) {
+            List<MappedPackage> page = fetchPage(filter, lastId, toId, pageSize);
+            boolean pageFull = page.size() == pageSize;
+            long windowEnd = pageFull ? page.getLast().id() : toId;
+            List<Long> pageCancelledIds = writeState
+                    ? packageService.getCancelledIdsBetween(filter, lastId, windowEnd, pageSize)
+                    : List.of();
+            boolean cancelledFull = pageCancelledIds.size() == pageSize;
+
+            if (cancelledFull) {
+                long cancelledEnd = pageCancelledIds.getLast();
+                page = page.stream().filter(pkg -> pkg.id() < cancelledEnd).toList();
+            }
+            packages.addAll(page);
+            cancelledIds.addAll(pageCancelledIds);
+            lastId = Math.max(page.isEmpty() ? lastId : page.getLast().id(),
+                    pageCancelledIds.isEmpty() ? lastId : pageCancelledIds.getLast());
+
+            if (!pageFull && !cancelledFull) {
+                return new Chunk(packages, cancelledIds, lastId, true);
+            }
+        }
+        return new Chunk(packages, cancelledIds, lastId, false);
+    }
+
+    private List<MappedPackage> fetchPage(PackageFilter filter, long lastId, long toId, int pageSize) {
+        if (SQL.equals(bootstrapProperties.mappingEngine())) {
+            return packageService.getSqlMappedPackagePage(filter, lastId, toId, pageSize);
+        }
+        return packageService.getMappedPackagePage(filter, lastId, toId, pageSize);
+    }
+
+    private String writeFilter(PackageFilter filter) {
+        if (filter.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(filter);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to serialize bootstrap filter", ex);
+        }
+    }
+
+    private PackageFilter readFilter(BootstrapCheckpoint checkpoint) {
+        if (isNull(checkpoint.getPackageFilter())) {
+            return PackageFilter.NONE;
+        }
+        try {
+            return objectMapper.readValue(checkpoint.getPackageFilter(), PackageFilter.class);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Failed to read bootstrap filter of partition " + checkpoint.getPartitionNo(), ex);
+        }
+    }
+
+    private static long elapsedMillisSince(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static double recordsPerSecond(long count, long elapsedMillis) {
+        return elapsedMillis == 0 ? count : count * 1000.0 / elapsedMillis;
+    }
+
+    private record Chunk(List<MappedPackage> packages, List<Long> cancelledIds, long lastId, boolean exhausted) {
+
+        boolean isEmpty() {
+            return packages.isEmpty() && cancelledIds.isEmpty();
+        }
+    }
+}
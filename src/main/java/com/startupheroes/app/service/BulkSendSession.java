@@ -0,0 +1,131 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.dto.response.BulkSendResult;
+import com.startupheroes.app.exception.PackageDeadLetteredException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.springframework.kafka.support.SendResult;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Phaser;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Tek bir bulk gönderimin durumunu tutar.
+ * <p>
+ * Uçuştaki (ack bekleyen) kayıt sayısı, tüm session'lar arasında paylaşılan bir {@link Semaphore}
+ * ile sınırlandırılır. Limit dolduğunda {@link #send(MappedPackage)} bloklanır; böylece DB'den
+ * okuyan taraf producer'ın ack hızına göre yavaşlar ve bellek kullanımı sınırlı kalır.
+ * {@link #awaitCompletion()} tüm future'lar tamamlanana kadar bekler ve gerçek sonucu döndürür.
+ * Retry'ları tükenip dead-letter topic'e yazılan kayıtlar {@code failedIds} yerine {@code deadLetteredIds}'e eklenir;
+ * izin retry'lar boyunca tutulur, böylece retry'lar da uçuştaki kayıt limitine dahildir.
+ */
+@Slf4j
+public class BulkSendSession {
+
+    private final Function<MappedPackage, CompletableFuture<SendResult<String, byte[]>>> sender;
+    private final Function<Long, CompletableFuture<SendResult<String, byte[]>>> tombstoneSender;
+    private final Semaphore inFlightPermits;
+    private final Executor callbackExecutor;
+    private final PackageMetrics metrics;
+    private final Phaser pending = new Phaser(1);
+    private final long startNanos = System.nanoTime();
+
+    private final LongAdder ackedCount = new LongAdder();
+    private final LongAdder tombstoneCount = new LongAdder();
+    private final LongAdder bytes = new LongAdder();
+    private final Queue<Long> failedIds = new ConcurrentLinkedQueue<>();
+    private final Queue<Long> deadLetteredIds = new ConcurrentLinkedQueue<>();
+
+    BulkSendSession(Function<MappedPackage, CompletableFuture<SendResult<String, byte[]>>> sender,
+                    Function<Long, CompletableFuture<SendResult<String, byte[]>>> tombstoneSender,
+                    Semaphore inFlightPermits,
+                    Executor callbackExecutor,
+                    PackageMetrics metrics) {
+        this.sender = sender;
+        this.tombstoneSender = tombstoneSender;
+        this.inFlightPermits = inFlightPermits;
+        this.callbackExecutor = callbackExecutor;
+        this.metrics = metrics;
+    }
+
+    public void send(MappedPackage mappedPackage) {
+        submit(mappedPackage.id(), false, () -> sender.apply(mappedPackage));
+    }
+
+    /**
+     * Paketin silindiğini bildiren null value'lu kaydı gönderir. Yalnızca compacted state topic'e
+     * yazan session'larda desteklenir.
+     */
+    public void sendTombstone(Long packageId) {
+        if (isNull(tombstoneSender)) {
+            throw new IllegalStateException("Tombstones are not supported by this session");
+        }
+        submit(packageId, true, () -> tombstoneSender.apply(packageId));
+    }
+
+    public void sendAll(Iterable<MappedPackage> packages) {
+        packages.forEach(this::send);
+    }
+
+    private void submit(Long packageId, boolean tombstone, Supplier<CompletableFuture<SendResult<String, byte[]>>> send) {
+        if (!inFlightPermits.tryAcquire()) {
+            long waitStartNanos = System.nanoTime();
+            inFlightPermits.acquireUninterruptibly();
+            metrics.recordBackpressure(System.nanoTime() - waitStartNanos);
+        }
+        pending.register();
+
+        CompletableFuture<SendResult<String, byte[]>> future;
+        try {
+            future = send.get();
+        } catch (RuntimeException ex) {
+            onComplete(packageId, tombstone, null, ex);
+            return;
+        }
+        future.whenCompleteAsync((result, ex) -> onComplete(packageId, tombstone, result, ex), callbackExecutor);
+    }
+
+    public BulkSendResult awaitCompletion() {
+        pending.arriveAndAwaitAdvance();
+
+        return BulkSendResult.builder()
+                .ackedCount(ackedCount.sum())
+                .tombstoneCount(tombstoneCount.sum())
+                .failedIds(List.copyOf(failedIds))
+                .deadLetteredIds(List.copyOf(deadLetteredIds))
+                .bytes(bytes.sum())
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                .build();
+    }
+
+    private void onComplete(Long packageId, boolean tombstone, SendResult<String, byte[]> result, Throwable ex) {
+        try {
+            if (RetryingKafkaSender.unwrap(ex) instanceof PackageDeadLetteredException) {
+                deadLetteredIds.add(packageId);
+            } else if (nonNull(ex)) {
+                log.error("Failed to send package {} to Kafka", packageId, ex);
+                failedIds.add(packageId);
+            } else {
+                RecordMetadata metadata = result.getRecordMetadata();
+                (tombstone ? tombstoneCount : ackedCount).increment();
+                bytes.add(Math.max(metadata.serializedKeySize(), 0) + Math.max(metadata.serializedValueSize(), 0));
+            }
+        } finally {
+            inFlightPermits.release();
+            pending.arriveAndDeregister();
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.config.DeadLetterTopicProperties;
+import com.startupheroes.app.dto.response.DeadLetterReplayResponse;
+import com.startupheroes.app.exception.DeadLetterReplayAlreadyRunningException;
+import com.startupheroes.app.exception.PackageDeadLetteredException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.ByteArrayDeserializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.boot.ssl.SslBundles;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Dead-letter topic'teki kayıtları orijinal topic'lerine (ve varsa orijinal partition'larına) bulk producer ile
+ * tekrar gönderir.
+ * <p>
+ * Okuma konumu {@code app.kafka.dead-letter.replay-group-id} consumer group'unda tutulur ve yalnızca okunan
+ * tüm kayıtlar gönderildikten (veya tekrar dead-letter'a yazıldıktan) sonra commit edilir. Tekrar başarısız
+ * olan kayıtlar dead-letter topic'in sonuna eklenir ve bir sonraki replay'de okunur.
+ */
+@Slf4j
+@Service
+public class DeadLetterReplayService {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final KafkaTemplate<String, byte[]> bulkKafkaTemplate;
+    private final RetryingKafkaSender retryingSender;
+    private final DefaultKafkaConsumerFactory<String, byte[]> consumerFactory;
+    private final ReentrantLock replayLock = new ReentrantLock();
+
+    public DeadLetterReplayService(@Qualifier("bulkKafkaTemplate") KafkaTemplate<String, byte[]> bulkKafkaTemplate,
+                                   RetryingKafkaSender retryingSender,
+                                   KafkaProperties kafkaProperties,
+                                   ObjectProvider<SslBundles> sslBundles,
+                                   DeadLetterTopicProperties deadLetterProperties) {
+        Map<String, Object> consumerProperties = kafkaProperties.buildConsumerProperties(sslBundles.getIfAvailable());
+        consumerProperties.put(ConsumerConfig.GROUP_ID_CONFIG, deadLetterProperties.replayGroupId());
+        consumerProperties.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+
+        this.bulkKafkaTemplate = bulkKafkaTemplate;
+        this.retryingSender = retryingSender;
+        this.consumerFactory = new DefaultKafkaConsumerFactory<>(consumerProperties,
+                new StringDeserializer(), new ByteArrayDeserializer());
+    }
+
+    public DeadLetterReplayResponse replay(int maxRecords) {
+        if (!replayLock.tryLock()) {
+            throw new DeadLetterReplayAlreadyRunningException();
+        }
+        try {
+            return doReplay(maxRecords);
+        } finally {
+            replayLock.unlock();
+        }
+    }
+
+    private DeadLetterReplayResponse doReplay(int maxRecords) {
+        long startNanos = System.nanoTime();
+        String topic = retryingSender.getDeadLetterTopic();
+        List<CompletableFuture<SendResult<String, byte[]>>> futures = new ArrayList<>();
+        Map<TopicPartition, OffsetAndMetadata> nextOffsets = new HashMap<>();
+        long readCount = 0;
+        long skippedCount = 0;
+
+        try (Consumer<String, byte[]> consumer = consumerFactory.createConsumer()) {
+            List<TopicPartition> partitions = consumer.partitionsFor(topic).stream()
+                    .map(info -> new TopicPartition(info.topic(), info.partition()))
+                    .toList();
+            consumer.assign(partitions);
+            Map<TopicPartition, OffsetAndMetadata> committed = consumer.committed(new HashSet<>(partitions));
+            for (TopicPartition partition : partitions) {
+                OffsetAndMetadata offset = committed.get(partition);
+                if (isNull(offset)) {
+                    consumer.seekToBeginning(List.of(partition));
+                } else {
+                    consumer.seek(partition, offset.offset());
+                }
+            }
+            // Replay sırasında tekrar dead-letter'a yazılan kayıtlar bu çalışmada okunmaz.
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+
+            while (readCount < maxRecords
+                    && partitions.stream().anyMatch(partition -> consumer.position(partition) < endOffsets.get(partition))) {
+                for (ConsumerRecord<String, byte[]> record : consumer.poll(POLL_TIMEOUT)) {
+                    TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+                    if (readCount == maxRecords || record.offset() >= endOffsets.get(partition)) {
+                        continue;
+                    }
+                    readCount++;
+                    nextOffsets.put(partition, new OffsetAndMetadata(record.offset() + 1));
+
+                    ProducerRecord<String, byte[]> original = toOriginalRecord(record);
+                    if (isNull(original)) {
+                        log.warn("Skipping dead-letter record without original topic: partition={} offset={}",
+                                record.partition(), record.offset());
+                        skippedCount++;
+                        continue;
+                    }
+                    futures.add(retryingSender.send(bulkKafkaTemplate, original));
+                }
+            }
+
+            long replayedCount = 0;
+            long deadLetteredCount = 0;
+            long failedCount = 0;
+            for (CompletableFuture<SendResult<String, byte[]>> future : futures) {
+                Throwable ex = future.handle((result, error) -> error).join();
+                if (isNull(ex)) {
+                    replayedCount++;
+                } else if (RetryingKafkaSender.unwrap(ex) instanceof PackageDeadLetteredException) {
+                    deadLetteredCount++;
+                } else {
+                    failedCount++;
+                }
+            }
+            // Başarısız kayıt varsa konum ilerletilmez; okunan kayıtlar bir sonraki replay'de tekrar okunur.
+            boolean commit = failedCount == 0 && !nextOffsets.isEmpty();
+            if (commit) {
+                consumer.commitSync(nextOffsets);
+            }
+            long remainingCount = 0;
+            for (TopicPartition partition : partitions) {
+                long position = commit && nextOffsets.containsKey(partition)
+                        ? nextOffsets.get(partition).offset()
+                        : startOffset(committed.get(partition), consumer, partition);
+                remainingCount += endOffsets.get(partition) - position;
+            }
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+            log.info("Dead-letter replay completed: read={} replayed={} deadLettered={} failed={} skipped={} remaining={} elapsed={} ms",
+                    readCount, replayedCount, deadLetteredCount, failedCount, skippedCount, remainingCount, elapsedMillis);
+
+            return DeadLetterReplayResponse.builder()
+                    .readCount(readCount)
+                    .replayedCount(replayedCount)
+                    .deadLetteredCount(deadLetteredCount)
+                    .failedCount(failedCount)
+                    .skippedCount(skippedCount)
+                    .remainingCount(remainingCount)
+                    .elapsedMillis(elapsedMillis)
+                    .build();
+        }
+    }
+
+    private static long startOffset(OffsetAndMetadata committed, Consumer<String, byte[]> consumer, TopicPartition partition) {
+        if (isNull(committed)) {
+            return consumer.beginningOffsets(List.of(partition)).get(partition);
+        }
+        return committed.offset();
+    }
+
+    /**
+     * Dead-letter header'larını çıkarır; orijinal header'lar korunur. Orijinal partition biliniyorsa
+     * kayıt aynı partition'a yazılır (ör. store id'ye göre seçilmiş partition).
+     */
+    private static ProducerRecord<String, byte[]> toOriginalRecord(ConsumerRecord<String, byte[]> record) {
+        Header originalTopic = record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC);
+        if (isNull(originalTopic)) {
+            return null;
+        }
+        Header originalPartition = record.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_PARTITION);
+        Integer partition = isNull(originalPartition) ? null : ByteBuffer.wrap(originalPartition.value()).getInt();
+
+        RecordHeaders headers = new RecordHeaders();
+        for (Header header : record.headers()) {
+            if (!header.key().startsWith(KafkaHeaders.PREFIX + "dlt-")) {
+                headers.add(header);
+            }
+        }
+        return new ProducerRecord<>(new String(originalTopic.value(), StandardCharsets.UTF_8), partition,
+                System.currentTimeMillis(), record.key(), record.value(), headers);
+    }
+}
@@ -0,0 +1,282 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.config.DeliveryKpiProperties;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.dto.response.DeliveryKpiResponse;
+import com.startupheroes.app.dto.response.DurationStatsResponse;
+import com.startupheroes.app.exception.DeliveryKpiNotFoundException;
+import com.startupheroes.app.exception.DeliveryKpiUnavailableException;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Paketin oluşturulduğu gün başına teslimat KPI'ları: tamamlanan paket sayısı, zamanında teslim oranı ve
+ * lead time / collection / delivery sürelerinin dağılımı. Yalnızca {@code leadTime} dolu (COMPLETED) mesajlar sayılır.
+ * <p>
+ * Günlük durum yalnızca consumer thread'inden değiştirilir. Her batch sonunda {@link #publish()} değişen günlerin
+ * yanıtlarını hesaplar; REST okumaları bu hazır yanıtları gün anahtarıyla sabit zamanda döner.
+ * <p>
+ * Not – topic at-least-once yazılır; tekrar gönderilen paketler (tekil gönderim, retry, bootstrap tekrarı)
+ * tekrar sayılır. KPI'lar tekil paket değil, tamamlanma mesajı üzerinden hesaplanır.
+ */
+@Component
+public class DeliveryKpiAggregator {
+
+    private static final byte STATE_VERSION = 1;
+
+    private final DeliveryKpiProperties properties;
+    private final Map<LocalDate, DailyKpi> days = new HashMap<>();
+    private final Set<LocalDate> unpublishedDays = new HashSet<>();
+    private final Set<LocalDate> uncheckpointedDays = new HashSet<>();
+    private final Map<LocalDate, DeliveryKpiResponse> published = new ConcurrentHashMap<>();
+    private LocalDate latestDay;
+    private volatile boolean available = true;
+
+    public DeliveryKpiAggregator(DeliveryKpiProperties properties) {
+        this.properties = properties;
+    }
+
+    /**
+     * @return mesaj bir güne eklendiyse {@code true}; tamamlanmamış veya saklama süresi dışındaki paketler için {@code false}
+     */
+    public boolean add(MappedPackage pkg) {
+        if (isNull(pkg.leadTime()) || isNull(pkg.createdAt())) {
+            return false;
+        }
+        LocalDate day = LocalDate.parse(pkg.createdAt().substring(0, 10));
+        if (nonNull(latestDay) && day.isBefore(retentionCutoff(latestDay))) {
+            return false;
+        }
+        if (isNull(latestDay) || day.isAfter(latestDay)) {
+            latestDay = day;
+        }
+        days.computeIfAbsent(day, d -> new DailyKpi(properties.maxDurationMinutes())).record(pkg);
+        unpublishedDays.add(day);
+        uncheckpointedDays.add(day);
+        return true;
+    }
+
+    /**
+     * Değişen günlerin yanıtlarını yeniden hesaplar ve saklama süresi dışına çıkan günleri siler.
+     */
+    public void publish() {
+        for (LocalDate day : unpublishedDays) {
+            DailyKpi kpi = days.get(day);
+            if (nonNull(kpi)) {
+                published.put(day, kpi.toResponse(day));
+            }
+        }
+        unpublishedDays.clear();
+
+        if (nonNull(latestDay)) {
+            LocalDate cutoff = retentionCutoff(latestDay);
+            days.keySet().removeIf(day -> day.isBefore(cutoff));
+            uncheckpointedDays.removeIf(day -> day.isBefore(cutoff));
+            published.keySet().removeIf(day -> day.isBefore(cutoff));
+        }
+    }
+
+    public DeliveryKpiResponse get(LocalDate day) {
+        requireAvailable();
+        DeliveryKpiResponse response = published.get(day);
+        if (isNull(response)) {
+            throw new DeliveryKpiNotFoundException(day);
+        }
+        return response;
+    }
+
+    public List<DeliveryKpiResponse> getAll() {
+        requireAvailable();
+        return published.values().stream()
+                .sorted(Comparator.comparing(DeliveryKpiResponse::day))
+                .toList();
+    }
+
+    /**
+     * Son checkpoint'ten sonra değişen günlerin serileştirilmiş durumları.
+     */
+    public Map<LocalDate, byte[]> uncheckpointedStates() {
+        Map<LocalDate, byte[]> states = new HashMap<>();
+        for (LocalDate day : uncheckpointedDays) {
+            states.put(day, days.get(day).serialize());
+        }
+        return states;
+    }
+
+    public boolean hasUncheckpointedDays() {
+        return !uncheckpointedDays.isEmpty();
+    }
+
+    public void markCheckpointed() {
+        uncheckpointedDays.clear();
+    }
+
+    /**
+     * Consumer topic'in tüm partition'larını okumuyorsa günler eksik sayılır; bu sürede REST okumaları reddedilir.
+     */
+    public void setAvailable(boolean available) {
+        this.available = available;
+    }
+
+    /**
+     * Bellekteki tüm günleri siler; checkpoint'ten yeniden yüklemeden önce çağrılır.
+     */
+    public void clear() {
+        days.clear();
+        unpublishedDays.clear();
+        uncheckpointedDays.clear();
+        published.clear();
+        latestDay = null;
+    }
+
+    /**
+     * Checkpoint'ten okunan durum; checkpoint sonrası offset'lerden okuma başlamadan çağrılmalıdır.
+     */
+    public void restore(LocalDate day, byte[] state) {
+        days.put(day, DailyKpi.deserialize(state, properties.maxDurationMinutes()));
+        unpublishedDays.add(day);
+        if (isNull(latestDay) || day.isAfter(latestDay)) {
+            latestDay = day;
+        }
+    }
+
+    /**
+     * Bu günden önceki günler bellekten ve checkpoint'ten silinir. Saklama süresi duvar saatine değil, görülen en
+     * yeni güne göre hesaplanır; eski bir topic'in tekrar okunması da günleri üretir.
+     */
+    public LocalDate retentionCutoff() {
+        return isNull(latestDay) ? null : retentionCutoff(latestDay);
+    }
+
+    private void requireAvailable() {
+        if (!available) {
+            throw new DeliveryKpiUnavailableException();
+        }
+    }
+
+    private LocalDate retentionCutoff(LocalDate day) {
+        return day.minusDays(properties.retentionDays() - 1L);
+    }
+
+    private static final class DailyKpi {
+
+        private long completedCount;
+        private long onTimeCount;
+        private long onTimeKnownCount;
+        private final DurationHistogram leadTime;
+        private final DurationHistogram collectionDuration;
+        private final DurationHistogram deliveryDuration;
+        private Instant updatedAt;
+
+        private DailyKpi(int maxMinutes) {
+            this(new DurationHistogram(maxMinutes), new DurationHistogram(maxMinutes), new DurationHistogram(maxMinutes));
+        }
+
+        private DailyKpi(DurationHistogram leadTime, DurationHistogram collectionDuration,
+                         DurationHistogram deliveryDuration) {
+            this.leadTime = leadTime;
+            this.collectionDuration = collectionDuration;
+            this.deliveryDuration = deliveryDuration;
+        }
+
+        private void record(MappedPackage pkg) {
+            completedCount++;
+            if (nonNull(pkg.orderInTime())) {
+                onTimeKnownCount++;
+                if (pkg.orderInTime()) {
+                    onTimeCount++;
+                }
+            }
+            leadTime.record(pkg.leadTime());
+            if (nonNull(pkg.collectionDuration())) {
+                collectionDuration.record(pkg.collectionDuration());
+            }
+            if (nonNull(pkg.deliveryDuration())) {
+                deliveryDuration.record(pkg.deliveryDuration());
+            }
+            updatedAt = Instant.now();
+        }
+
+        private DeliveryKpiResponse toResponse(LocalDate day) {
+            return DeliveryKpiResponse.builder()
+                    .day(day)
+                    .completedCount(completedCount)
+                    .onTimeCount(onTimeCount)
+                    .onTimeRatio(onTimeKnownCount == 0 ? null : (double) onTimeCount / onTimeKnownCount)
+                    .leadTime(stats(leadTime))
+                    .collectionDuration(stats(collectionDuration))
+                    .deliveryDuration(stats(deliveryDuration))
+                    .updatedAt(updatedAt)
+                    .build();
+        }
+
+        private static DurationStatsResponse stats(DurationHistogram histogram) {
+            return DurationStatsResponse.builder()
+                    .count(histogram.count())
+                    .mean(histogram.mean())
+                    .min(histogram.min())
+                    .p50(histogram.percentile(0.5))
+                    .p90(histogram.percentile(0.9))
+                    .p99(histogram.percentile(0.99))
+                    .max(histogram.max())
+                    .build();
+        }
+
+        private byte[] serialize() {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                out.writeByte(STATE_VERSION);
+                out.writeLong(completedCount);
+                out.writeLong(onTimeCount);
+                out.writeLong(onTimeKnownCount);
+                out.writeLong(updatedAt.toEpochMilli());
+                leadTime.writeTo(out);
+                collectionDuration.writeTo(out);
+                deliveryDuration.writeTo(out);
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+            return bytes.toByteArray();
+        }
+
+        private static DailyKpi deserialize(byte[] state, int maxMinutes) {
+            try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(state))) {
+                byte version = in.readByte();
+                if (version != STATE_VERSION) {
+                    throw new IllegalStateException("Unsupported delivery KPI state version: " + version);
+                }
+                long completedCount = in.readLong();
+                long onTimeCount = in.readLong();
+                long onTimeKnownCount = in.readLong();
+                Instant updatedAt = Instant.ofEpochMilli(in.readLong());
+                DailyKpi kpi = new DailyKpi(DurationHistogram.readFrom(in, maxMinutes),
+                        DurationHistogram.readFrom(in, maxMinutes), DurationHistogram.readFrom(in, maxMinutes));
+                kpi.completedCount = completedCount;
+                kpi.onTimeCount = onTimeCount;
+                kpi.onTimeKnownCount = onTimeKnownCount;
+                kpi.updatedAt = updatedAt;
+                return kpi;
+            } catch (IOException ex) {
+                throw new UncheckedIOException(ex);
+            }
+        }
+    }
+}
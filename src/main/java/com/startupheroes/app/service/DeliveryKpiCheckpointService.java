@@ -0,0 +1,77 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.entity.DeliveryKpiCheckpoint;
+import com.startupheroes.app.entity.DeliveryKpiOffset;
+import com.startupheroes.app.repository.DeliveryKpiCheckpointRepository;
+import com.startupheroes.app.repository.DeliveryKpiOffsetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * KPI durumları ve consumer offset'leri tek transaction'da yazılır; yeniden başlatmada durum bu offset'lerden
+ * sonraki kayıtlarla devam ettirilir ve hiçbir kayıt iki kez sayılmaz.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class DeliveryKpiCheckpointService {
+
+    private final DeliveryKpiCheckpointRepository checkpointRepository;
+    private final DeliveryKpiOffsetRepository offsetRepository;
+
+    /**
+     * Checkpoint'teki günleri aggregator'a yükler.
+     *
+     * @return partition başına okunacak bir sonraki offset; başka bir topic için yazılmış offset'ler yok sayılır
+     */
+    @Transactional(readOnly = true)
+    public Map<Integer, Long> restore(DeliveryKpiAggregator aggregator, String topic) {
+        List<DeliveryKpiCheckpoint> checkpoints = checkpointRepository.findAll();
+        checkpoints.forEach(checkpoint -> aggregator.restore(checkpoint.getDay(), checkpoint.getState()));
+        aggregator.publish();
+
+        Map<Integer, Long> nextOffsets = new HashMap<>();
+        for (DeliveryKpiOffset offset : offsetRepository.findAll()) {
+            if (topic.equals(offset.getTopic())) {
+                nextOffsets.put(offset.getPartitionNo(), offset.getNextOffset());
+            }
+        }
+        log.info("Delivery KPI state restored: days={} offsets={}", checkpoints.size(), nextOffsets);
+        return nextOffsets;
+    }
+
+    public void save(Map<LocalDate, byte[]> states, LocalDate retentionCutoff, String topic, Map<Integer, Long> nextOffsets) {
+        LocalDateTime now = LocalDateTime.now();
+        checkpointRepository.saveAll(states.entrySet().stream()
+                .map(entry -> DeliveryKpiCheckpoint.builder()
+                        .day(entry.getKey())
+                        .state(entry.getValue())
+                        .updatedAt(now)
+                        .build())
+                .toList());
+        if (nonNull(retentionCutoff)) {
+            checkpointRepository.deleteByDayBefore(retentionCutoff);
+        }
+        offsetRepository.saveAll(nextOffsets.entrySet().stream()
+                .map(entry -> DeliveryKpiOffset.builder()
+                        .partitionNo(entry.getKey())
+                        .topic(topic)
+                        .nextOffset(entry.getValue())
+                        .updatedAt(now)
+                        .build())
+                .toList());
+
+        log.debug("Delivery KPI checkpoint saved: days={} offsets={}", states.size(), nextOffsets);
+    }
+}
@@ -0,0 +1,206 @@
+package com.startupheroes.app.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startupheroes.app.config.DeliveryKpiProperties;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.serializer.MappedPackageBinaryCodec;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.event.ListenerContainerIdleEvent;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * {@code package-events} topic'ini batch olarak okuyup {@link DeliveryKpiAggregator}'a ekler.
+ * <p>
+ * Başlangıçta checkpoint yüklenir ve partition'lar checkpoint offset'lerine, offset yoksa topic başına konumlanır.
+ * Checkpoint en fazla {@code app.kpi.checkpoint-interval} aralıkla, bir batch işlendikten sonra veya consumer
+ * bu süre boyunca boş kaldığında alınır; yeniden başlatmada son checkpoint'ten sonraki kayıtlar tekrar okunur.
+ * <p>
+ * Not – tek instance içindir: günlük durum topic'in tamamından hesaplanır ve checkpoint tablosu tek yazıcı varsayar.
+ * Aynı {@code app.kpi.group-id} ile birden fazla instance çalışırsa partition'lar paylaşılır; tüm partition'lara
+ * sahip olmayan instance KPI sunmaz ({@code 503}) ve checkpoint yazmaz. Tüm partition'ları yeniden aldığında
+ * kendi eksik durumunu bırakıp son checkpoint'ten devam eder.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "app.kpi", name = "enabled", havingValue = "true")
+public class DeliveryKpiListener implements ConsumerSeekAware {
+
+    private final DeliveryKpiAggregator aggregator;
+    private final DeliveryKpiCheckpointService checkpointService;
+    private final MappedPackageBinaryCodec binaryCodec;
+    private final ObjectMapper objectMapper;
+    private final DeliveryKpiProperties properties;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final String topic;
+    private final Map<Integer, Long> nextOffsets = new ConcurrentHashMap<>();
+    private final Set<TopicPartition> ownedPartitions = new HashSet<>();
+    private boolean ownsAllPartitions = true;
+    private long lastCheckpointNanos = System.nanoTime();
+
+    public DeliveryKpiListener(DeliveryKpiAggregator aggregator,
+                               DeliveryKpiCheckpointService checkpointService,
+                               MappedPackageBinaryCodec binaryCodec,
+                               ObjectMapper objectMapper,
+                               DeliveryKpiProperties properties,
+                               KafkaTemplate<String, byte[]> kafkaTemplate,
+                               KafkaProperties kafkaProperties) {
+        this.aggregator = aggregator;
+        this.checkpointService = checkpointService;
+        this.binaryCodec = binaryCodec;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.kafkaTemplate = kafkaTemplate;
+        this.topic = kafkaProperties.getTemplate().getDefaultTopic();
+    }
+
+    @PostConstruct
+    void restore() {
+        nextOffsets.putAll(checkpointService.restore(aggregator, topic));
+    }
+
+    /**
+     * Rebalance sonrası bellekteki konumdan devam edilir; bu süreçte okunmamış partition'lar için checkpoint
+     * offset'i (restore sırasında yüklenir) veya topic başı kullanılır. Eksik atamadan sonra tüm partition'lar
+     * yeniden alındığında bellekteki durum atılır, durum ve offset'ler checkpoint'ten yüklenir.
+     */
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        ownedPartitions.addAll(assignments.keySet());
+        int partitionCount = partitionCount();
+        if (ownedPartitions.size() < partitionCount) {
+            if (ownsAllPartitions) {
+                log.error("Delivery KPI consumer owns {} of {} partitions of {}; another instance is consuming group {}. "
+                                + "KPIs are not served or checkpointed by this instance",
+                        ownedPartitions.size(), partitionCount, topic, properties.groupId());
+            }
+            ownsAllPartitions = false;
+            aggregator.setAvailable(false);
+            seek(assignments.keySet(), callback);
+            return;
+        }
+
+        if (!ownsAllPartitions) {
+            log.info("Delivery KPI consumer owns all {} partitions of {} again; restoring from checkpoint",
+                    partitionCount, topic);
+            aggregator.clear();
+            nextOffsets.clear();
+            restore();
+            ownsAllPartitions = true;
+            seek(ownedPartitions, callback);
+        } else {
+            seek(assignments.keySet(), callback);
+        }
+        aggregator.setAvailable(true);
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        ownedPartitions.removeAll(partitions);
+    }
+
+    @KafkaListener(id = "delivery-kpi", topics = "${spring.kafka.template.default-topic}",
+            containerFactory = "deliveryKpiListenerContainerFactory")
+    public void onPackageEvents(List<ConsumerRecord<String, byte[]>> records) {
+        int added = 0;
+        for (ConsumerRecord<String, byte[]> record : records) {
+            nextOffsets.put(record.partition(), record.offset() + 1);
+            MappedPackage pkg = decode(record);
+            if (nonNull(pkg) && aggregator.add(pkg)) {
+                added++;
+            }
+        }
+        aggregator.publish();
+        log.debug("Delivery KPI batch processed: records={} completed={}", records.size(), added);
+
+        if (ownsAllPartitions
+                && System.nanoTime() - lastCheckpointNanos >= properties.checkpointInterval().toNanos()) {
+            checkpoint();
+        }
+    }
+
+    /**
+     * Trafik durduğunda son batch'lerin checkpoint'i bir sonraki mesajı beklemez. Idle event consumer
+     * thread'inde yayınlanır; günlük duruma listener ile aynı thread'den erişilir.
+     */
+    @EventListener(condition = "event.listenerId.startsWith('delivery-kpi')")
+    public void onIdle(ListenerContainerIdleEvent event) {
+        if (ownsAllPartitions && aggregator.hasUncheckpointedDays()) {
+            checkpoint();
+        }
+    }
+
+    private void checkpoint() {
+        try {
+            checkpointService.save(aggregator.uncheckpointedStates(), aggregator.retentionCutoff(), topic,
+                    new HashMap<>(nextOffsets));
+            aggregator.markCheckpointed();
+            lastCheckpointNanos = System.nanoTime();
+        } catch (RuntimeException ex) {
+            // Değişen günler işaretli kalır; bir sonraki batch'te tekrar denenir.
+            log.error("Delivery KPI checkpoint failed", ex);
+        }
+    }
+
+    private void seek(Collection<TopicPartition> partitions, ConsumerSeekCallback callback) {
+        for (TopicPartition partition : partitions) {
+            Long nextOffset = nextOffsets.get(partition.partition());
+            if (isNull(nextOffset)) {
+                callback.seekToBeginning(List.of(partition));
+            } else {
+                callback.seek(partition.topic(), partition.partition(), nextOffset);
+            }
+        }
+    }
+
+    /**
+     * Partition sayısı okunamazsa atama eksik sayılır; bir sonraki rebalance'ta tekrar denenir.
+     */
+    private int partitionCount() {
+        try {
+            return kafkaTemplate.partitionsFor(topic).size();
+        } catch (RuntimeException ex) {
+            log.error("Could not read partition count of {}", topic, ex);
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Okunamayan kayıtlar atlanır; tek bir bozuk kayıt consumer'ı durdurmamalı.
+     */
+    private MappedPackage decode(ConsumerRecord<String, byte[]> record) {
+        byte[] value = record.value();
+        if (isNull(value)) {
+            return null;
+        }
+        try {
+            return MappedPackageBinaryCodec.isBinary(value)
+                    ? binaryCodec.decode(value)
+                    : objectMapper.readValue(value, MappedPackage.class);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Skipping undecodable package event: partition={} offset={} error={}",
+                    record.partition(), record.offset(), ex.getMessage());
+            return null;
+        }
+    }
+}
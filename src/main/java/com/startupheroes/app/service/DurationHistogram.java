@@ -0,0 +1,123 @@
+package com.startupheroes.app.service;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * Dakika cinsinden süreler için sabit kovalı, birleştirilebilir histogram.
+ * <p>
+ * Her dakika için bir {@code long} sayaç tutulur (0..maxMinutes); daha uzun süreler taşma kovasına, negatif
+ * süreler 0'a yazılır. Kayıt O(1), yüzdelik O(kova sayısı) maliyetlidir. Aynı {@code maxMinutes} ile oluşturulmuş
+ * histogramlar kova kova toplanarak birleştirilir. Thread-safe değildir.
+ */
+public final class DurationHistogram {
+
+    private final long[] counts;
+    private long count;
+    private long sum;
+    private int min = Integer.MAX_VALUE;
+    private int max = Integer.MIN_VALUE;
+
+    public DurationHistogram(int maxMinutes) {
+        this.counts = new long[maxMinutes + 2];
+    }
+
+    public void record(int minutes) {
+        counts[Math.clamp(minutes, 0, counts.length - 1)]++;
+        count++;
+        sum += minutes;
+        min = Math.min(min, minutes);
+        max = Math.max(max, minutes);
+    }
+
+    public void merge(DurationHistogram other) {
+        if (other.counts.length != counts.length) {
+            throw new IllegalArgumentException("Histograms have different bucket counts: "
+                    + counts.length + " and " + other.counts.length);
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+    }
+
+    public long count() {
+        return count;
+    }
+
+    public Double mean() {
+        return count == 0 ? null : (double) sum / count;
+    }
+
+    public Integer min() {
+        return count == 0 ? null : min;
+    }
+
+    public Integer max() {
+        return count == 0 ? null : max;
+    }
+
+    /**
+     * Kayıtların en az {@code percentile} oranının küçük eşit olduğu en küçük dakika. Taşma kovasına düşen
+     * yüzdelikler için gözlenen en büyük süre döner.
+     */
+    public Integer percentile(double percentile) {
+        if (count == 0) {
+            return null;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile * count));
+        long seen = 0;
+        for (int i = 0; i < counts.length - 1; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.max(i, min);
+            }
+        }
+        return max;
+    }
+
+    /**
+     * Yalnızca dolu kovalar yazılır; günlük histogramlarda kovaların çoğu boştur.
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        out.writeLong(count);
+        out.writeLong(sum);
+        out.writeInt(min);
+        out.writeInt(max);
+        int nonEmpty = 0;
+        for (long bucket : counts) {
+            if (bucket != 0) {
+                nonEmpty++;
+            }
+        }
+        out.writeInt(nonEmpty);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                out.writeInt(i);
+                out.writeLong(counts[i]);
+            }
+        }
+    }
+
+    /**
+     * {@link #writeTo} çıktısını okur. Kayıt daha büyük bir {@code maxMinutes} ile yazılmışsa fazla kovalar
+     * taşma kovasına eklenir.
+     */
+    public static DurationHistogram readFrom(DataInput in, int maxMinutes) throws IOException {
+        DurationHistogram histogram = new DurationHistogram(maxMinutes);
+        histogram.count = in.readLong();
+        histogram.sum = in.readLong();
+        histogram.min = in.readInt();
+        histogram.max = in.readInt();
+        int nonEmpty = in.readInt();
+        for (int i = 0; i < nonEmpty; i++) {
+            int bucket = in.readInt();
+            histogram.counts[Math.min(bucket, histogram.counts.length - 1)] += in.readLong();
+        }
+        return histogram;
+    }
+}
@@ -1,36 +1,100 @@
 package com.startupheroes.app.service;
 
 import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.dto.MappedPackageLookup;
+import com.startupheroes.app.dto.ProducerProfile;
+import com.startupheroes.app.dto.response.BatchSendResponse;
+import com.startupheroes.app.dto.response.BulkSendResult;
+import com.startupheroes.app.dto.response.PackageSendResult;
+import com.startupheroes.app.dto.response.PackageSendStatus;
+import com.startupheroes.app.exception.PackageCancelledException;
+import com.startupheroes.app.exception.PackageNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static com.startupheroes.app.dto.response.PackageSendStatus.*;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class KafkaOperationService {
 
+    private static final String REJECTED_CANCELLED = "cancelled";
+    private static final String REJECTED_NOT_FOUND = "not_found";
+
     private final PackageService packageService;
     private final KafkaProducerService kafkaProducerService;
+    private final PackageCache packageCache;
+    private final PackageSendCoalescer sendCoalescer;
+    private final PackageMetrics metrics;
 
     public Long sendPackageToKafka(Long packageId) {
         log.debug("Sending package to Kafka: packageId={}", packageId);
 
-        MappedPackage mappedPackage = packageService.getMappedPackageById(packageId);
-        kafkaProducerService.send(mappedPackage);
+        try {
+            sendCoalescer.send(packageId,
+                    id -> packageCache.get(id, key -> kafkaProducerService.encode(packageService.getMappedPackageById(key))),
+                    kafkaProducerService::send);
+        } catch (PackageCancelledException ex) {
+            metrics.recordRejected(REJECTED_CANCELLED, 1);
+            throw ex;
+        } catch (PackageNotFoundException ex) {
+            metrics.recordRejected(REJECTED_NOT_FOUND, 1);
+            throw ex;
+        }
 
         return packageId;
     }
 
-    public int sendAllPackagesToKafka() {
-        log.info("Starting Kafka bootstrap for all packages");
+    public BatchSendResponse sendPackagesToKafka(List<Long> packageIds) {
+        Set<Long> uniqueIds = new LinkedHashSet<>(packageIds);
+        log.debug("Sending package batch to Kafka: count={}", uniqueIds.size());
+
+        MappedPackageLookup lookup = packageService.lookupMappedPackages(uniqueIds);
+        Map<Long, MappedPackage> mappedPackages = lookup.mappedPackages();
+
+        BulkSendResult sendResult = kafkaProducerService.sendAll(uniqueIds.stream()
+                .filter(mappedPackages::containsKey)
+                .map(mappedPackages::get)
+                .toList(), lookup.cancelledIds(), ProducerProfile.INTERACTIVE);
+        Set<Long> failedIds = new HashSet<>(sendResult.failedIds());
+        Set<Long> deadLetteredIds = new HashSet<>(sendResult.deadLetteredIds());
 
-        List<MappedPackage> packages = packageService.getAllMappedPackages();
-        int sentCount = kafkaProducerService.sendAll(packages);
+        List<PackageSendResult> results = uniqueIds.stream()
+                .map(id -> new PackageSendResult(id, resolveStatus(id, lookup, failedIds, deadLetteredIds)))
+                .toList();
+        metrics.recordRejected(REJECTED_CANCELLED, lookup.cancelledIds().size());
+        metrics.recordRejected(REJECTED_NOT_FOUND, results.stream().filter(result -> result.status() == NOT_FOUND).count());
+
+        log.info("Package batch sent to Kafka: requested={} sent={} failed={}",
+                uniqueIds.size(), sendResult.ackedCount(), failedIds.size());
+
+        return BatchSendResponse.builder()
+                .requestedCount(uniqueIds.size())
+                .sentCount(sendResult.ackedCount())
+                .elapsedMillis(sendResult.elapsedMillis())
+                .results(results)
+                .build();
+    }
 
-        log.info("Kafka bootstrap completed: {}/{} packages queued", sentCount, packages.size());
-        return sentCount;
+    private PackageSendStatus resolveStatus(Long id, MappedPackageLookup lookup, Set<Long> failedIds,
+                                            Set<Long> deadLetteredIds) {
+        if (lookup.cancelledIds().contains(id)) {
+            return CANCELLED;
+        }
+        if (!lookup.mappedPackages().containsKey(id)) {
+            return NOT_FOUND;
+        }
+        if (failedIds.contains(id)) {
+            return FAILED;
+        }
+        return deadLetteredIds.contains(id) ? DEAD_LETTERED : SENT;
     }
-}
\ No newline at end of file
+}
@@ -1,84 +1,355 @@
 package com.startupheroes.app.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startupheroes.app.config.BulkSendProperties;
+import com.startupheroes.app.config.PackageStateTopicProperties;
+import com.startupheroes.app.config.PackageTopicProperties;
+import com.startupheroes.app.dto.EncodedPackage;
 import com.startupheroes.app.dto.MappedPackage;
-import com.startupheroes.app.exception.KafkaSerializationException;
-import lombok.RequiredArgsConstructor;
+import com.startupheroes.app.dto.ProducerProfile;
+import com.startupheroes.app.dto.response.BulkSendResult;
+import com.startupheroes.app.exception.PackageDeadLetteredException;
+import com.startupheroes.app.serializer.MappedPackageEncoder;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.apache.kafka.clients.producer.ProducerRecord;
 import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class KafkaProducerService {
 
-    private final KafkaTemplate<String, String> kafkaTemplate;
-    private final ObjectMapper objectMapper;
+    private final KafkaTemplate<String, byte[]> kafkaTemplate;
+    private final KafkaTemplate<String, byte[]> bulkKafkaTemplate;
+    private final KafkaTemplate<String, byte[]> transactionalKafkaTemplate;
+    private final MappedPackageEncoder packageEncoder;
+    private final RetryingKafkaSender retryingSender;
+    private final PackagePartitioner packagePartitioner;
     private final KafkaProperties springKafkaProperties;
+    private final PackageStateTopicProperties stateTopicProperties;
+    private final PackageMetrics metrics;
+    private final Executor kafkaCallbackExecutor;
+    private final Semaphore inFlightPermits;
+    private final PackageTopicProperties topicProperties;
+    private final Map<String, PartitionCount> partitionCounts = new ConcurrentHashMap<>();
 
-    public void send(MappedPackage mappedPackage) {
-        String message = serialize(mappedPackage);
-        String topic = springKafkaProperties.getTemplate().getDefaultTopic();
+    public KafkaProducerService(KafkaTemplate<String, byte[]> kafkaTemplate,
+                                @Qualifier("bulkKafkaTemplate") KafkaTemplate<String, byte[]> bulkKafkaTemplate,
+                                @Qualifier("transactionalKafkaTemplate") KafkaTemplate<String, byte[]> transactionalKafkaTemplate,
+                                MappedPackageEncoder packageEncoder,
+                                RetryingKafkaSender retryingSender,
+                                PackagePartitioner packagePartitioner,
+                                KafkaProperties springKafkaProperties,
+                                PackageStateTopicProperties stateTopicProperties,
+                                PackageTopicProperties topicProperties,
+                                BulkSendProperties bulkSendProperties,
+                                PackageMetrics metrics,
+                                Executor kafkaCallbackExecutor) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.bulkKafkaTemplate = bulkKafkaTemplate;
+        this.transactionalKafkaTemplate = transactionalKafkaTemplate;
+        this.packageEncoder = packageEncoder;
+        this.retryingSender = retryingSender;
+        this.packagePartitioner = packagePartitioner;
+        this.springKafkaProperties = springKafkaProperties;
+        this.stateTopicProperties = stateTopicProperties;
+        this.topicProperties = topicProperties;
+        this.metrics = metrics;
+        this.kafkaCallbackExecutor = kafkaCallbackExecutor;
+        this.inFlightPermits = new Semaphore(bulkSendProperties.maxInFlight());
+    }
 
-        kafkaTemplate.send(topic, String.valueOf(mappedPackage.id()), message)
-                .whenComplete((result, ex) -> {
+    public CompletableFuture<SendResult<String, byte[]>> send(MappedPackage mappedPackage) {
+        return send(encode(mappedPackage));
+    }
+
+    /**
+     * Önceden encode edilmiş paketi gönderir; value'lar yeniden üretilmez.
+     */
+    public CompletableFuture<SendResult<String, byte[]>> send(EncodedPackage encodedPackage) {
+        MappedPackage mappedPackage = encodedPackage.mappedPackage();
+        if (isStateTopicEnabled()) {
+            doSendState(kafkaTemplate, mappedPackage, encodedPackage.stateValue())
+                    .whenCompleteAsync((result, ex) -> {
+                        if (nonNull(ex)) {
+                            log.error("Failed to write state of package {}", mappedPackage.id(), ex);
+                        }
+                    }, kafkaCallbackExecutor);
+        }
+        return doSend(kafkaTemplate, mappedPackage, encodedPackage.eventValue())
+                .whenCompleteAsync((result, ex) -> {
                     if (nonNull(ex)) {
                         handleSendFailure(mappedPackage.id(), ex);
                     } else {
                         handleSendSuccess(mappedPackage.id(), result);
                     }
-                });
+                }, kafkaCallbackExecutor);
+    }
+
+    /**
+     * Paketi event topic'in ve (açıksa) state topic'in formatına göre encode eder.
+     */
+    public EncodedPackage encode(MappedPackage mappedPackage) {
+        byte[] eventValue = encode(springKafkaProperties.getTemplate().getDefaultTopic(), mappedPackage);
+        byte[] stateValue = isStateTopicEnabled()
+                ? encode(stateTopicProperties.name(), mappedPackage)
+                : null;
+        return new EncodedPackage(mappedPackage, eventValue, stateValue);
     }
 
-    public int sendAll(List<MappedPackage> packages) {
-        int successCount = 0;
+    /**
+     * Yeni bir bulk gönderim başlatır. Uçuştaki kayıt limiti ({@code app.kafka.bulk.max-in-flight})
+     * uygulamadaki tüm bulk session'lar arasında paylaşılır; producer ise {@code profile}'a göre seçilir.
+     */
+    public BulkSendSession openBulkSession(ProducerProfile profile) {
+        return openBulkSession(resolveTemplate(profile));
+    }
 
-        for (MappedPackage pkg : packages) {
-            send(pkg);
-            successCount++;
-        }
+    /**
+     * Compacted state topic'e yazan bir bulk session açar; {@link BulkSendSession#sendTombstone(Long)} destekler.
+     */
+    public BulkSendSession openStateSession(ProducerProfile profile) {
+        return openStateSession(resolveTemplate(profile));
+    }
+
+    public boolean isStateTopicEnabled() {
+        return stateTopicProperties.enabled();
+    }
 
-        log.info("Queued {}/{} packages for Kafka", successCount, packages.size());
-        return successCount;
+    public BulkSendResult sendAll(List<MappedPackage> packages, ProducerProfile profile) {
+        return sendAll(resolveTemplate(profile), packages);
     }
 
+    /**
+     * Paketleri event topic'e, paketlerin son halini ve {@code cancelledIds} için tombstone'ları state topic'e
+     * gönderir. İki topic'e gönderim aynı anda yapılır. Sonuçta {@code ackedCount} event topic'e yazılan
+     * kayıt sayısıdır; herhangi bir topic'e yazılamayan paket {@code failedIds}'e eklenir.
+     */
+    public BulkSendResult sendAll(List<MappedPackage> packages, Collection<Long> cancelledIds, ProducerProfile profile) {
+        return sendAll(resolveTemplate(profile), packages, cancelledIds);
+    }
 
-    private String serialize(MappedPackage mappedPackage) {
+    /**
+     * {@link #sendAll(List, Collection, ProducerProfile)} ile aynı kayıtları ve {@code progressRecord}'u tek bir
+     * Kafka transaction'ında gönderir. Bir kayıt bile gönderilemezse transaction abort edilir; {@code read_committed}
+     * consumer'lar bu kayıtların hiçbirini görmez ve sonuçta {@code ackedCount} 0 olur.
+     */
+    public BulkSendResult sendAllInTransaction(List<MappedPackage> packages, Collection<Long> cancelledIds,
+                                               ProducerRecord<String, byte[]> progressRecord) {
+        long startNanos = System.nanoTime();
         try {
-            return objectMapper.writeValueAsString(mappedPackage);
-        } catch (JsonProcessingException ex) {
-            log.error("Failed to serialize package {}", mappedPackage.id(), ex);
-            throw new KafkaSerializationException(mappedPackage.id(), ex);
+            return transactionalKafkaTemplate.executeInTransaction(operations -> {
+                BulkSendResult result = sendAll(operations, packages, cancelledIds);
+                if (result.hasFailures()) {
+                    throw new TransactionAbortedException(result.failedIds());
+                }
+                operations.send(progressRecord);
+                return result;
+            });
+        } catch (TransactionAbortedException ex) {
+            log.warn("Kafka transaction aborted: {} of {} packages failed", ex.failedIds.size(), packages.size());
+            return abortedResult(ex.failedIds, startNanos);
+        } catch (RuntimeException ex) {
+            log.error("Kafka transaction failed for {} packages", packages.size(), ex);
+            return abortedResult(Stream.concat(packages.stream().map(MappedPackage::id), cancelledIds.stream())
+                    .distinct()
+                    .toList(), startNanos);
+        }
+    }
+
+    private BulkSendSession openBulkSession(KafkaOperations<String, byte[]> template) {
+        return new BulkSendSession(pkg -> doSend(template, pkg), null, inFlightPermits, kafkaCallbackExecutor, metrics);
+    }
+
+    private BulkSendSession openStateSession(KafkaOperations<String, byte[]> template) {
+        return new BulkSendSession(pkg -> doSendState(template, pkg), id -> doSendTombstone(template, id),
+                inFlightPermits, kafkaCallbackExecutor, metrics);
+    }
+
+    private BulkSendResult sendAll(KafkaOperations<String, byte[]> template, List<MappedPackage> packages) {
+        BulkSendSession session = openBulkSession(template);
+        session.sendAll(packages);
+        BulkSendResult result = session.awaitCompletion();
+
+        log.debug("Bulk send completed: acked={} failed={} bytes={} elapsed={} ms",
+                result.ackedCount(), result.failedIds().size(), result.bytes(), result.elapsedMillis());
+        return result;
+    }
+
+    private BulkSendResult sendAll(KafkaOperations<String, byte[]> template, List<MappedPackage> packages,
+                                   Collection<Long> cancelledIds) {
+        if (!isStateTopicEnabled()) {
+            return sendAll(template, packages);
         }
+        BulkSendSession eventSession = openBulkSession(template);
+        BulkSendSession stateSession = openStateSession(template);
+
+        eventSession.sendAll(packages);
+        stateSession.sendAll(packages);
+        cancelledIds.forEach(stateSession::sendTombstone);
+
+        BulkSendResult events = eventSession.awaitCompletion();
+        BulkSendResult state = stateSession.awaitCompletion();
+
+        log.debug("Bulk send with state completed: acked={} tombstones={} failed={}",
+                events.ackedCount(), state.tombstoneCount(), events.failedIds().size() + state.failedIds().size());
+
+        return BulkSendResult.builder()
+                .ackedCount(events.ackedCount())
+                .tombstoneCount(state.tombstoneCount())
+                .failedIds(Stream.concat(events.failedIds().stream(), state.failedIds().stream()).distinct().toList())
+                .deadLetteredIds(Stream.concat(events.deadLetteredIds().stream(), state.deadLetteredIds().stream())
+                        .distinct()
+                        .toList())
+                .bytes(events.bytes() + state.bytes())
+                .elapsedMillis(Math.max(events.elapsedMillis(), state.elapsedMillis()))
+                .build();
+    }
+
+    private static BulkSendResult abortedResult(List<Long> failedIds, long startNanos) {
+        return BulkSendResult.builder()
+                .failedIds(failedIds)
+                .elapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos))
+                .build();
+    }
+
+    private KafkaTemplate<String, byte[]> resolveTemplate(ProducerProfile profile) {
+        return profile == ProducerProfile.BULK ? bulkKafkaTemplate : kafkaTemplate;
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> doSendState(KafkaOperations<String, byte[]> template,
+                                                                      MappedPackage mappedPackage) {
+        return doSendState(template, mappedPackage, encode(stateTopicProperties.name(), mappedPackage));
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> doSendState(KafkaOperations<String, byte[]> template,
+                                                                      MappedPackage mappedPackage, byte[] message) {
+        return publish(template, new ProducerRecord<>(stateTopicProperties.name(), null, System.currentTimeMillis(),
+                String.valueOf(mappedPackage.id()), message));
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> doSendTombstone(KafkaOperations<String, byte[]> template,
+                                                                          Long packageId) {
+        return publish(template, new ProducerRecord<String, byte[]>(stateTopicProperties.name(), null,
+                System.currentTimeMillis(), String.valueOf(packageId), null));
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> doSend(KafkaOperations<String, byte[]> template,
+                                                                 MappedPackage mappedPackage) {
+        String topic = springKafkaProperties.getTemplate().getDefaultTopic();
+        return doSend(template, mappedPackage, encode(topic, mappedPackage));
+    }
+
+    private CompletableFuture<SendResult<String, byte[]>> doSend(KafkaOperations<String, byte[]> template,
+                                                                 MappedPackage mappedPackage, byte[] message) {
+        String topic = springKafkaProperties.getTemplate().getDefaultTopic();
+        Integer partition = packagePartitioner.usesRecordKey()
+                ? null
+                : packagePartitioner.partitionFor(mappedPackage, partitionCount(template, topic));
+
+        return publish(template, new ProducerRecord<>(topic, partition, System.currentTimeMillis(),
+                String.valueOf(mappedPackage.id()), message));
     }
 
     /**
-     * Production notu:
-     * -----------------
-     * Gerçek bir production ortamında burada genellikle:
-     * - Spring Retry veya Kafka'nın retry politikaları kullanılara belirli sayıda yeniden deneme yapılabilir.
-     * Retry sayısı bir üst limite bağlanır (ör. 3–5 deneme) ve bu limit aşıldığındamesaj DLT/DLQ 'ya yönlendirilir.
+     * Transaction dışındaki gönderimler retry ve dead-letter ile yapılır. Transaction içinde bir gönderim hatası
+     * transaction'ı abort gerektirir; retry edilmez, exactly-once bootstrap aynı sayfalardan devam eder.
      * <p>
-     * Dead Letter Topic (DLT / DLQ) kullanımı:
-     * Gönderilemeyen veya sürekli hata veren mesajlar ayrı bir topic'e yazılır.
-     * -----------------
+     * Not – süre metriği yan bir stage'de kaydedilir ve orijinal future döner. {@code whenComplete} ile dönen
+     * bağımlı stage hatayı {@link java.util.concurrent.CompletionException} ile sarar; çağıranlar
+     * {@link PackageDeadLetteredException}'ı ayırt edemez.
      */
+    private CompletableFuture<SendResult<String, byte[]>> publish(KafkaOperations<String, byte[]> template,
+                                                                  ProducerRecord<String, byte[]> record) {
+        long startNanos = System.nanoTime();
+        CompletableFuture<SendResult<String, byte[]>> future = template.isTransactional()
+                ? template.send(record)
+                : retryingSender.send(template, record);
+        future.whenComplete((result, ex) ->
+                metrics.recordSend(record.topic(), System.nanoTime() - startNanos, RetryingKafkaSender.unwrap(ex)));
+        return future;
+    }
+
+    private byte[] encode(String topic, MappedPackage mappedPackage) {
+        long startNanos = System.nanoTime();
+        byte[] value = packageEncoder.encode(topic, mappedPackage);
+        metrics.recordSerialize(topic, System.nanoTime() - startNanos, value.length);
+        return value;
+    }
+
+    /**
+     * Topic'in partition sayısı producer metadata'sından okunur ve {@code app.kafka.topic.partition-count-refresh}
+     * süresince saklanır; partition sayısı artırılırsa yeni partition'lar en geç bu süre sonra kullanılır.
+     * <p>
+     * Not – metadata okuması map'in dışında yapılır; {@code computeIfAbsent} bloklayan okumayı bin kilidi altında
+     * çalıştırır ve virtual thread'i sabitler. Yenileme başarısız olursa eski değer kullanılır; hata yalnızca henüz
+     * değer yokken gönderime döner.
+     */
+    private int partitionCount(KafkaOperations<String, byte[]> template, String topic) {
+        PartitionCount cached = partitionCounts.get(topic);
+        long nowNanos = System.nanoTime();
+        if (nonNull(cached) && nowNanos - cached.fetchedNanos() < topicProperties.partitionCountRefresh().toNanos()) {
+            return cached.count();
+        }
+        try {
+            int count = template.partitionsFor(topic).size();
+            partitionCounts.put(topic, new PartitionCount(count, nowNanos));
+            return count;
+        } catch (RuntimeException ex) {
+            if (isNull(cached)) {
+                throw ex;
+            }
+            log.warn("Could not refresh partition count of {}, using {}: {}", topic, cached.count(), ex.toString());
+            return cached.count();
+        }
+    }
+
+    private record PartitionCount(int count, long fetchedNanos) {
+    }
+
     private void handleSendFailure(Long packageId, Throwable ex) {
-        log.error("Failed to send package {} to Kafka", packageId, ex);
-        throw new RuntimeException("Kafka send failed for package " + packageId, ex);
+        if (RetryingKafkaSender.unwrap(ex) instanceof PackageDeadLetteredException) {
+            log.warn("Package {} could not be sent and was dead-lettered: {}", packageId, ex.getMessage());
+        } else {
+            log.error("Failed to send package {} to Kafka", packageId, ex);
+        }
     }
 
-    private void handleSendSuccess(Long packageId, SendResult<String, String> result) {
+    private void handleSendSuccess(Long packageId, SendResult<String, byte[]> result) {
+        if (!log.isTraceEnabled()) {
+            return;
+        }
         var metadata = result.getRecordMetadata();
-        log.debug("Sent package {}: topic={} partition={} offset={}",
+        log.trace("Sent package {}: topic={} partition={} offset={}",
                 packageId, metadata.topic(), metadata.partition(), metadata.offset());
     }
+
+    /**
+     * Transaction callback'inden çıkıp abort'u tetiklemek için kullanılır; dışarı sızmaz.
+     */
+    private static final class TransactionAbortedException extends RuntimeException {
+
+        private final transient List<Long> failedIds;
+
+        private TransactionAbortedException(List<Long> failedIds) {
+            super("Kafka transaction aborted", null, false, false);
+            this.failedIds = failedIds;
+        }
+    }
 }
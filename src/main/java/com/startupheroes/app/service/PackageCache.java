@@ -0,0 +1,117 @@
+package com.startupheroes.app.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.github.benmanes.caffeine.cache.stats.ConcurrentStatsCounter;
+import com.startupheroes.app.config.PackageCacheProperties;
+import com.startupheroes.app.dto.EncodedPackage;
+import com.startupheroes.app.dto.response.PackageCacheStatsResponse;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Tekil gönderim yolunda paketin eşlenmiş ve encode edilmiş halini id bazında tutar; tekrar gönderilen
+ * paketler için veritabanı sorgusu, süre hesapları ve serileştirme atlanır.
+ * <p>
+ * Cache boyut ({@code maximum-size}) ve yazma sonrası süre ({@code expire-after-write}) ile sınırlıdır.
+ * Sync ve outbox relay'in gördüğü her değişiklik ilgili id'yi cache'ten siler; bu yollar dışındaki
+ * değişiklikler en geç {@code expire-after-write} sonra görünür. Not found ve cancelled paketler cache'lenmez.
+ * <p>
+ * Not – yükleme cache'in dışında yapılır ve sonuç {@code put} ile saklanır. {@code Cache.get(key, loader)} loader'ı
+ * {@code ConcurrentHashMap.compute} içinde, bin kilidi altında çalıştırır; bloklayan JDBC sorgusu virtual thread'i
+ * taşıyıcı thread'e sabitler (pinning). Aynı id için eşzamanlı miss'ler {@link PackageSendCoalescer} ile zaten tek
+ * yüklemeye indirilir. Yükleme sürerken bir invalidation olursa sonuç saklanmaz; eski hali cache'e geri yazılmaz.
+ */
+@Component
+public class PackageCache {
+
+    private final PackageCacheProperties cacheProperties;
+    private final Cache<Long, EncodedPackage> cache;
+    private final LongAdder invalidations = new LongAdder();
+    private final AtomicLong invalidationEpoch = new AtomicLong();
+    private final ConcurrentStatsCounter statsCounter = new ConcurrentStatsCounter();
+
+    public PackageCache(PackageCacheProperties cacheProperties, MeterRegistry meterRegistry) {
+        this.cacheProperties = cacheProperties;
+        // Removal listener çağıran thread'de çalışır; sayaçlar istatistiklerle aynı anda güncellenir.
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(cacheProperties.maximumSize())
+                .expireAfterWrite(cacheProperties.expireAfterWrite())
+                .executor(Runnable::run)
+                .removalListener((Long id, EncodedPackage value, RemovalCause cause) -> {
+                    if (cause == RemovalCause.EXPLICIT) {
+                        invalidations.increment();
+                    }
+                })
+                .recordStats(() -> statsCounter)
+                .build();
+        // cache.gets{result=hit|miss}, cache.evictions, cache.size, cache.load.duration
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "packages");
+    }
+
+    /**
+     * Cache'teki paketi döner; yoksa {@code loader} ile yükleyip saklar. {@code loader}'ın fırlattığı
+     * exception (ör. {@code PackageNotFoundException}) olduğu gibi iletilir ve sonuç saklanmaz.
+     */
+    public EncodedPackage get(Long id, Function<Long, EncodedPackage> loader) {
+        if (!cacheProperties.enabled()) {
+            return loader.apply(id);
+        }
+        EncodedPackage cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached;
+        }
+
+        long epoch = invalidationEpoch.get();
+        long startNanos = System.nanoTime();
+        EncodedPackage loaded;
+        try {
+            loaded = loader.apply(id);
+        } catch (RuntimeException ex) {
+            statsCounter.recordLoadFailure(System.nanoTime() - startNanos);
+            throw ex;
+        }
+        statsCounter.recordLoadSuccess(System.nanoTime() - startNanos);
+        if (invalidationEpoch.get() == epoch) {
+            cache.put(id, loaded);
+        }
+        return loaded;
+    }
+
+    public void invalidate(Long id) {
+        invalidationEpoch.incrementAndGet();
+        cache.invalidate(id);
+    }
+
+    public void invalidateAll(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            invalidationEpoch.incrementAndGet();
+            cache.invalidateAll(ids);
+        }
+    }
+
+    public PackageCacheStatsResponse stats() {
+        CacheStats stats = cache.stats();
+        return PackageCacheStatsResponse.builder()
+                .enabled(cacheProperties.enabled())
+                .size(cache.estimatedSize())
+                .maximumSize(cacheProperties.maximumSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .invalidationCount(invalidations.sum())
+                .loadFailureCount(stats.loadFailureCount())
+                .averageLoadMillis(stats.averageLoadPenalty() / TimeUnit.MILLISECONDS.toNanos(1))
+                .build();
+    }
+}
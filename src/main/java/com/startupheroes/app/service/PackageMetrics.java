@@ -0,0 +1,136 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.exception.PackageDeadLetteredException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Okuma, eşleme, serileştirme ve gönderim aşamalarının metrikleri.
+ * <ul>
+ *     <li>{@code package.fetch} / {@code package.fetch.rows} ({@code query}): sorgu süresi ve dönen satır sayısı.</li>
+ *     <li>{@code package.durations}, {@code package.map}: kayıt başına süre hesapları ve DTO eşlemesi.</li>
+ *     <li>{@code package.serialize} / {@code package.record.size} ({@code topic}): kayıt başına encode süresi ve value boyutu.</li>
+ *     <li>{@code package.send} ({@code topic}, {@code outcome}): retry'lar dahil gönderimden ack'e kadar geçen süre;
+ *     {@code outcome} başına sayısı gönderilen, başarısız ve dead-letter'a yazılan kayıt sayısıdır.</li>
+ *     <li>{@code package.send.backpressure}: bulk gönderimde uçuştaki kayıt limiti için beklenen süre.</li>
+ *     <li>{@code package.rejected} ({@code reason}): cancelled veya bulunamadığı için gönderilmeyen paketler.</li>
+ * </ul>
+ * Meter'lar kayıt başına registry araması yapmamak için tag değeri başına bir kez oluşturulur.
+ */
+@Component
+public class PackageMetrics {
+
+    private static final String OUTCOME_SENT = "sent";
+    private static final String OUTCOME_FAILED = "failed";
+    private static final String OUTCOME_DEAD_LETTERED = "dead_lettered";
+
+    private final MeterRegistry registry;
+    private final Timer durationsTimer;
+    private final Timer mapTimer;
+    private final Timer backpressureTimer;
+    private final Map<String, Timer> fetchTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> fetchRows = new ConcurrentHashMap<>();
+    private final Map<String, Timer> serializeTimers = new ConcurrentHashMap<>();
+    private final Map<String, DistributionSummary> recordSizes = new ConcurrentHashMap<>();
+    private final Map<String, Timer> sendTimers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+
+    public PackageMetrics(MeterRegistry registry) {
+        this.registry = registry;
+        this.durationsTimer = Timer.builder("package.durations")
+                .description("Time to compute collection, delivery and lead time durations of a package")
+                .register(registry);
+        this.mapTimer = Timer.builder("package.map")
+                .description("Time to map a package row to the Kafka message")
+                .register(registry);
+        this.backpressureTimer = Timer.builder("package.send.backpressure")
+                .description("Time bulk senders waited for an in-flight permit")
+                .register(registry);
+    }
+
+    public <T> List<T> fetch(String query, Supplier<List<T>> fetcher) {
+        long startNanos = System.nanoTime();
+        List<T> rows = fetcher.get();
+        recordFetch(query, System.nanoTime() - startNanos, rows.size());
+        return rows;
+    }
+
+    public <T> Optional<T> fetchOne(String query, Supplier<Optional<T>> fetcher) {
+        long startNanos = System.nanoTime();
+        Optional<T> row = fetcher.get();
+        recordFetch(query, System.nanoTime() - startNanos, row.isPresent() ? 1 : 0);
+        return row;
+    }
+
+    public void recordDurations(long nanos) {
+        durationsTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordMap(long nanos) {
+        mapTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordSerialize(String topic, long nanos, int bytes) {
+        serializeTimers.computeIfAbsent(topic, t -> Timer.builder("package.serialize")
+                        .description("Time to encode a package for the topic's wire format")
+                        .tag("topic", t)
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+        recordSizes.computeIfAbsent(topic, t -> DistributionSummary.builder("package.record.size")
+                        .description("Encoded value size of package records")
+                        .baseUnit("bytes")
+                        .tag("topic", t)
+                        .register(registry))
+                .record(bytes);
+    }
+
+    public void recordSend(String topic, long nanos, Throwable ex) {
+        String outcome = isNull(ex) ? OUTCOME_SENT
+                : ex instanceof PackageDeadLetteredException ? OUTCOME_DEAD_LETTERED : OUTCOME_FAILED;
+        sendTimers.computeIfAbsent(topic + '|' + outcome, key -> Timer.builder("package.send")
+                        .description("Time from send to broker acknowledgement, including retries")
+                        .tag("topic", topic)
+                        .tag("outcome", outcome)
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordBackpressure(long nanos) {
+        backpressureTimer.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordRejected(String reason, long count) {
+        if (count > 0) {
+            rejections.computeIfAbsent(reason, r -> Counter.builder("package.rejected")
+                            .description("Packages not sent because they are cancelled or missing")
+                            .tag("reason", r)
+                            .register(registry))
+                    .increment(count);
+        }
+    }
+
+    private void recordFetch(String query, long nanos, int rows) {
+        fetchTimers.computeIfAbsent(query, q -> Timer.builder("package.fetch")
+                        .description("Time of package queries")
+                        .tag("query", q)
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+        fetchRows.computeIfAbsent(query, q -> DistributionSummary.builder("package.fetch.rows")
+                        .description("Rows returned by package queries")
+                        .tag("query", q)
+                        .register(registry))
+                .record(rows);
+    }
+}
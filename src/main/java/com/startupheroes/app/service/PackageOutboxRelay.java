@@ -0,0 +1,159 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.config.PackageOutboxProperties;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.dto.MappedPackageLookup;
+import com.startupheroes.app.dto.ProducerProfile;
+import com.startupheroes.app.dto.response.BulkSendResult;
+import com.startupheroes.app.dto.response.PackageOutboxRelayResponse;
+import com.startupheroes.app.repository.PackageOutboxRepository;
+import com.startupheroes.app.repository.PackageOutboxRepository.OutboxEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbox satırlarını batch'ler halinde Kafka'ya aktarır.
+ * <p>
+ * Her batch iki kısa transaction'dır: ilkinde satırlar {@code FOR UPDATE SKIP LOCKED} ile seçilip
+ * {@code claimed_at} ile işaretlenir ve kilit hemen bırakılır. Paketlerin commit edilmiş son hali okunur, bulk
+ * (idempotent) profil ile event ve state topic'lerine transaction dışında gönderilir. İkinci transaction ack alan
+ * satırları tek bir {@code DELETE ... IN} ile siler, gönderilemeyenlerin claim'ini kaldırır (at-least-once).
+ * Aynı paket için birden fazla satır varsa tek kayıt gönderilir. Cancelled veya silinmiş paketler state topic'e
+ * tombstone olarak yazılır.
+ * <p>
+ * Gönderim retry ve dead-letter adımlarıyla dakikalar sürebilir; bu sürede DB bağlantısı ve satır kilidi tutulmaz.
+ * Relay gönderim sırasında çökerse satırlar {@code claim-timeout} dolunca başka bir relay tarafından tekrar alınır.
+ * Claim zamanı uygulamanın saatiyle yazılır ve karşılaştırılır; instance'lar arası saat farkı claim süresine eklenir.
+ * <p>
+ * Not – birden fazla relay paralel çalıştığında aynı paketin ardışık iki değişikliği farklı relay'lerde
+ * gönderilebilir; sıralama garantisi yoktur. Consumer'lar {@code lastUpdatedAt} ile eski kaydı ayırt etmelidir.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PackageOutboxRelay {
+
+    private final PackageOutboxRepository outboxRepository;
+    private final PackageService packageService;
+    private final KafkaProducerService kafkaProducerService;
+    private final PackageCache packageCache;
+    private final PackageOutboxProperties outboxProperties;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * Outbox boşalana veya bir batch'te gönderim hatası olana kadar batch'leri art arda işler.
+     */
+    public PackageOutboxRelayResponse drain() {
+        long startNanos = System.nanoTime();
+        long relayedCount = 0;
+        long sentCount = 0;
+        long tombstoneCount = 0;
+        List<Long> failedIds = List.of();
+        int batches = 0;
+
+        while (true) {
+            RelayedBatch batch = relayBatch();
+            if (batch.claimedCount() == 0) {
+                break;
+            }
+            batches++;
+            relayedCount += batch.deletedCount();
+            sentCount += batch.sendResult().ackedCount();
+            tombstoneCount += batch.sendResult().tombstoneCount();
+
+            if (batch.sendResult().hasFailures()) {
+                failedIds = batch.sendResult().failedIds();
+                break;
+            }
+            if (batch.claimedCount() < outboxProperties.batchSize()) {
+                break;
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        log.info("Outbox drain completed: relayed={} sent={} tombstones={} failed={} batches={} elapsed={} ms",
+                relayedCount, sentCount, tombstoneCount, failedIds.size(), batches, elapsedMillis);
+
+        return PackageOutboxRelayResponse.builder()
+                .relayedCount(relayedCount)
+                .sentCount(sentCount)
+                .tombstoneCount(tombstoneCount)
+                .failedIds(failedIds)
+                .batches(batches)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    RelayedBatch relayBatch() {
+        List<OutboxEntry> entries = claimBatch();
+        if (entries.isEmpty()) {
+            return RelayedBatch.EMPTY;
+        }
+        Set<Long> packageIds = new LinkedHashSet<>();
+        entries.forEach(entry -> packageIds.add(entry.packageId()));
+        packageCache.invalidateAll(packageIds);
+
+        MappedPackageLookup lookup = packageService.lookupMappedPackages(packageIds);
+        List<MappedPackage> packages = new ArrayList<>(packageIds.size());
+        List<Long> tombstoneIds = new ArrayList<>();
+        for (Long packageId : packageIds) {
+            MappedPackage mappedPackage = lookup.mappedPackages().get(packageId);
+            if (mappedPackage != null) {
+                packages.add(mappedPackage);
+            } else {
+                tombstoneIds.add(packageId);
+            }
+        }
+
+        BulkSendResult sendResult = kafkaProducerService.sendAll(packages, tombstoneIds, ProducerProfile.BULK);
+
+        Set<Long> failedPackageIds = new HashSet<>(sendResult.failedIds());
+        List<Long> relayedEntryIds = new ArrayList<>(entries.size());
+        List<Long> failedEntryIds = new ArrayList<>();
+        for (OutboxEntry entry : entries) {
+            if (failedPackageIds.contains(entry.packageId())) {
+                failedEntryIds.add(entry.id());
+            } else {
+                relayedEntryIds.add(entry.id());
+            }
+        }
+        int deletedCount = transactionTemplate.execute(status -> {
+            outboxRepository.releaseAll(failedEntryIds);
+            return outboxRepository.deleteAllByIds(relayedEntryIds);
+        });
+
+        log.debug("Outbox batch relayed: claimed={} packages={} tombstones={} failed={}",
+                entries.size(), packages.size(), tombstoneIds.size(), failedPackageIds.size());
+        return new RelayedBatch(entries.size(), deletedCount, sendResult);
+    }
+
+    /**
+     * Satırları seçip işaretler; kilit yalnızca bu kısa transaction boyunca tutulur.
+     */
+    private List<OutboxEntry> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEntry> entries = outboxRepository.claimBatch(outboxProperties.batchSize(),
+                    now.minus(outboxProperties.claimTimeout()));
+            outboxRepository.markClaimed(entries.stream().map(OutboxEntry::id).toList(), now);
+            return entries;
+        });
+    }
+
+    record RelayedBatch(int claimedCount, int deletedCount, BulkSendResult sendResult) {
+
+        static final RelayedBatch EMPTY = new RelayedBatch(0, 0, BulkSendResult.builder()
+                .failedIds(List.of())
+                .build());
+    }
+}
@@ -0,0 +1,124 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.config.PackageOutboxProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code app.outbox.workers} kadar relay döngüsünü uygulama ayaktayken sürekli çalıştırır.
+ * <p>
+ * Outbox doluyken batch'ler beklemeden işlenir; boşken {@code poll-interval}, hata sonrasında
+ * {@code error-backoff} kadar beklenir. Kapanışta bekleyen döngüler hemen, batch işleyen döngüler mevcut batch'i
+ * bitirip çıkar; {@link #stop(Runnable)} tüm döngüler çıkana kadar, en fazla {@code shutdown-timeout} kapanışı
+ * bekletir. Süre dolarsa executor kapanırken döngüler interrupt edilir; claim edilmiş ama silinmemiş satırlar
+ * outbox'ta kalır ve {@code claim-timeout} dolunca tekrar gönderilir.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.outbox", name = "enabled", havingValue = "true")
+public class PackageOutboxRelayRunner implements SmartLifecycle {
+
+    private final PackageOutboxRelay outboxRelay;
+    private final PackageOutboxProperties outboxProperties;
+    private final ExecutorService outboxRelayExecutor;
+    private volatile boolean running;
+    private volatile CountDownLatch stopRequested = new CountDownLatch(0);
+    private volatile CountDownLatch loopsFinished = new CountDownLatch(0);
+
+    @Override
+    public void start() {
+        stopRequested = new CountDownLatch(1);
+        loopsFinished = new CountDownLatch(outboxProperties.workers());
+        running = true;
+        for (int i = 0; i < outboxProperties.workers(); i++) {
+            outboxRelayExecutor.execute(this::runLoop);
+        }
+        log.info("Outbox relay started: workers={} batchSize={}", outboxProperties.workers(), outboxProperties.batchSize());
+    }
+
+    @Override
+    public void stop() {
+        requestStop();
+        awaitLoops();
+    }
+
+    /**
+     * Döngüler çıkınca veya {@code shutdown-timeout} dolunca callback'i çağırır.
+     */
+    @Override
+    public void stop(Runnable callback) {
+        requestStop();
+        Thread.ofVirtual().name("outbox-relay-stop").start(() -> {
+            awaitLoops();
+            callback.run();
+        });
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void requestStop() {
+        running = false;
+        stopRequested.countDown();
+        log.info("Outbox relay stopping: waiting for in-flight batches");
+    }
+
+    private void awaitLoops() {
+        try {
+            if (loopsFinished.await(outboxProperties.shutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.info("Outbox relay stopped");
+            } else {
+                log.warn("Outbox relay did not stop within {}; in-flight batches will be interrupted",
+                        outboxProperties.shutdownTimeout());
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runLoop() {
+        try {
+            relayLoop();
+        } finally {
+            loopsFinished.countDown();
+        }
+    }
+
+    private void relayLoop() {
+        while (running) {
+            Duration pause;
+            try {
+                PackageOutboxRelay.RelayedBatch batch = outboxRelay.relayBatch();
+                if (batch.sendResult().hasFailures()) {
+                    pause = outboxProperties.errorBackoff();
+                } else if (batch.claimedCount() < outboxProperties.batchSize()) {
+                    pause = outboxProperties.pollInterval();
+                } else {
+                    continue;
+                }
+            } catch (RuntimeException ex) {
+                log.error("Outbox relay batch failed", ex);
+                pause = outboxProperties.errorBackoff();
+            }
+            try {
+                if (stopRequested.await(pause.toNanos(), TimeUnit.NANOSECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+}
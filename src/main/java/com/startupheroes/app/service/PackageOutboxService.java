@@ -0,0 +1,39 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.repository.PackageOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Paket değişikliklerini outbox'a yazar.
+ * <p>
+ * Çağıran transaction'a katılmak zorundadır ({@link Propagation#MANDATORY}); bildirim paket değişikliği ile
+ * birlikte commit veya rollback olur. Kafka'ya gönderim {@link PackageOutboxRelay} tarafından yapılır.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(propagation = Propagation.MANDATORY)
+public class PackageOutboxService {
+
+    private final PackageOutboxRepository outboxRepository;
+
+    public void recordChange(Long packageId) {
+        recordChanges(List.of(packageId));
+    }
+
+    public void recordChanges(Collection<Long> packageIds) {
+        if (packageIds.isEmpty()) {
+            return;
+        }
+        log.debug("Recording package changes in outbox: count={}", packageIds.size());
+        outboxRepository.insertAll(packageIds, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,56 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.config.PackageTopicProperties;
+import com.startupheroes.app.config.PackageTopicProperties.PartitionKey;
+import com.startupheroes.app.dto.MappedPackage;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Objects.requireNonNullElse;
+
+/**
+ * {@code app.kafka.topic.partition-key}'e göre kaydın partition'ını hesaplar.
+ * <p>
+ * Hesap Kafka'nın varsayılan partitioner'ıyla aynıdır ({@code toPositive(murmur2(key)) % partitions});
+ * yönlendirme değeri String key olarak yazılmış gibi hash'lenir. Böylece PACKAGE_ID seçiliyken
+ * partition'ı producer seçer, skew aracı da aynı formülle DB üzerinden dağılımı hesaplayabilir.
+ */
+@Component
+public class PackagePartitioner {
+
+    private final PartitionKey partitionKey;
+
+    public PackagePartitioner(PackageTopicProperties topicProperties) {
+        this.partitionKey = topicProperties.partitionKey();
+    }
+
+    public PartitionKey getPartitionKey() {
+        return partitionKey;
+    }
+
+    /**
+     * Partition seçimi record key'i (package id) üzerinden Kafka'ya bırakılıyorsa true.
+     */
+    public boolean usesRecordKey() {
+        return partitionKey == PartitionKey.PACKAGE_ID;
+    }
+
+    public int partitionFor(MappedPackage pkg, int partitionCount) {
+        return partitionFor(routingValue(partitionKey, pkg), partitionCount);
+    }
+
+    public static int partitionFor(long routingValue, int partitionCount) {
+        byte[] key = Long.toString(routingValue).getBytes(StandardCharsets.UTF_8);
+        return Utils.toPositive(Utils.murmur2(key)) % partitionCount;
+    }
+
+    static long routingValue(PartitionKey partitionKey, MappedPackage pkg) {
+        return switch (partitionKey) {
+            case PACKAGE_ID -> pkg.id();
+            case STORE_ID -> requireNonNullElse(pkg.storeId(), pkg.id());
+            case CUSTOMER_ID -> requireNonNullElse(pkg.customerId(), pkg.id());
+        };
+    }
+}
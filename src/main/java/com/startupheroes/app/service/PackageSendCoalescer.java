@@ -0,0 +1,136 @@
+package com.startupheroes.app.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.startupheroes.app.config.SingleSendProperties;
+import com.startupheroes.app.dto.EncodedPackage;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Aynı paket için eşzamanlı tekil gönderimleri tek yükleme ve tek Kafka kaydına indirir (single-flight).
+ * <p>
+ * İlk istek paketi yükler ve gönderir; gönderim ack alana (veya hata alana) kadar aynı id için gelen
+ * istekler yeni kayıt üretmez, ilk isteğin yükleme sonucunu paylaşır. Yükleme hatası (ör. not found,
+ * cancelled) bekleyen tüm isteklere aynı exception ile döner.
+ * <p>
+ * {@code app.single-send.dedup-window} açıksa ack alan value'lar bu süre boyunca saklanır; aynı value ile
+ * gelen sonraki istekler de Kafka'ya yazılmaz. Value değiştiyse (paket güncellendiyse) kayıt gönderilir.
+ * <p>
+ * Not – birleştirilen istekler kendi kayıtlarının ack'ini beklemez; tekil gönderim zaten ack beklemeden döner.
+ */
+@Slf4j
+@Component
+public class PackageSendCoalescer {
+
+    private final SingleSendProperties properties;
+    private final Map<Long, CompletableFuture<EncodedPackage>> inFlight = new ConcurrentHashMap<>();
+    private final Cache<Long, byte[]> recentlySent;
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder deduplicated = new LongAdder();
+
+    public PackageSendCoalescer(SingleSendProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.recentlySent = properties.dedupWindow().isPositive()
+                ? Caffeine.newBuilder()
+                .maximumSize(properties.dedupMaximumSize())
+                .expireAfterWrite(properties.dedupWindow())
+                .build()
+                : null;
+
+        Gauge.builder("package.send.coalescer.in.flight", inFlight, Map::size)
+                .description("Single sends waiting for their acknowledgement")
+                .register(meterRegistry);
+        FunctionCounter.builder("package.send.coalesced", coalesced, LongAdder::sum)
+                .description("Single sends that joined an in-flight send of the same package")
+                .register(meterRegistry);
+        FunctionCounter.builder("package.send.deduplicated", deduplicated, LongAdder::sum)
+                .description("Single sends skipped because the same record was sent within the dedup window")
+                .register(meterRegistry);
+    }
+
+    /**
+     * {@code loader} ile paketi yükler ve {@code sender} ile gönderir; aynı id için uçuşta bir gönderim varsa
+     * ikisini de çağırmadan onun yükleme sonucunu döner.
+     */
+    public EncodedPackage send(Long packageId, Function<Long, EncodedPackage> loader,
+                               Function<EncodedPackage, ? extends CompletableFuture<?>> sender) {
+        CompletableFuture<EncodedPackage> flight = new CompletableFuture<>();
+        CompletableFuture<EncodedPackage> existing = properties.coalesce() ? inFlight.putIfAbsent(packageId, flight) : null;
+        if (nonNull(existing)) {
+            coalesced.increment();
+            log.debug("Coalesced send of package {} with in-flight send", packageId);
+            return join(existing);
+        }
+
+        EncodedPackage encodedPackage;
+        try {
+            encodedPackage = loader.apply(packageId);
+        } catch (RuntimeException ex) {
+            flight.completeExceptionally(ex);
+            inFlight.remove(packageId, flight);
+            throw ex;
+        }
+        flight.complete(encodedPackage);
+
+        if (isDuplicate(packageId, encodedPackage)) {
+            deduplicated.increment();
+            inFlight.remove(packageId, flight);
+            log.debug("Skipped send of package {}: identical record sent within {}", packageId, properties.dedupWindow());
+            return encodedPackage;
+        }
+        try {
+            sender.apply(encodedPackage).whenComplete((result, ex) -> {
+                if (isNull(ex) && nonNull(recentlySent)) {
+                    recentlySent.put(packageId, encodedPackage.eventValue());
+                }
+                inFlight.remove(packageId, flight);
+            });
+        } catch (RuntimeException ex) {
+            inFlight.remove(packageId, flight);
+            throw ex;
+        }
+        return encodedPackage;
+    }
+
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    public long getDeduplicatedCount() {
+        return deduplicated.sum();
+    }
+
+    private boolean isDuplicate(Long packageId, EncodedPackage encodedPackage) {
+        return nonNull(recentlySent) && Arrays.equals(recentlySent.getIfPresent(packageId), encodedPackage.eventValue());
+    }
+
+    private static EncodedPackage join(CompletableFuture<EncodedPackage> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
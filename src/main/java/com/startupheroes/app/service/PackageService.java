@@ -1,24 +1,36 @@
 package com.startupheroes.app.service;
 
 import com.startupheroes.app.dto.MappedPackage;
-import com.startupheroes.app.entity.Package;
-import com.startupheroes.app.entity.PackageStatus;
+import com.startupheroes.app.dto.MappedPackageLookup;
+import com.startupheroes.app.dto.PackageChangeBatch;
+import com.startupheroes.app.dto.PackageDurations;
+import com.startupheroes.app.dto.PackageFilter;
+import com.startupheroes.app.dto.PackageIdRange;
+import com.startupheroes.app.dto.PackageView;
 import com.startupheroes.app.exception.PackageCancelledException;
 import com.startupheroes.app.exception.PackageNotFoundException;
+import com.startupheroes.app.mapper.PackageDurationCalculator;
 import com.startupheroes.app.mapper.PackageMapper;
+import com.startupheroes.app.repository.MappedPackageSqlRepository;
 import com.startupheroes.app.repository.PackageRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
-import static com.startupheroes.app.entity.PackageStatus.COMPLETED;
 import static java.lang.Boolean.TRUE;
-import static java.util.Objects.isNull;
 
 @Slf4j
 @Service
@@ -28,75 +40,140 @@ public class PackageService {
 
     private final PackageRepository packageRepository;
     private final PackageMapper packageMapper;
+    private final MappedPackageSqlRepository mappedPackageSqlRepository;
+    private final PackageMetrics metrics;
 
     public MappedPackage getMappedPackageById(Long id) {
         log.debug("Fetching package: id={}", id);
 
-        Package pkg = findByIdOrThrow(id);
+        PackageView pkg = findByIdOrThrow(id);
         validateNotCancelled(pkg);
 
-        return toMappedPackage(pkg);
+        return map(pkg);
     }
 
-    public List<MappedPackage> getAllMappedPackages() {
-        log.debug("Fetching all non-cancelled packages");
+    /**
+     * {@link #getMappedPackageById(Long)} ile aynı not-found ve cancelled kontrollerini
+     * tek bir {@code IN} sorgusu üzerinden id bazında uygular.
+     */
+    public MappedPackageLookup lookupMappedPackages(Collection<Long> ids) {
+        log.debug("Fetching packages by ids: count={}", ids.size());
+
+        Map<Long, MappedPackage> mappedPackages = new HashMap<>();
+        Set<Long> cancelledIds = new HashSet<>();
+
+        for (PackageView pkg : metrics.fetch("by-ids", () -> packageRepository.findViewsByIdIn(ids))) {
+            if (TRUE.equals(pkg.cancelled())) {
+                cancelledIds.add(pkg.id());
+            } else {
+                mappedPackages.put(pkg.id(), map(pkg));
+            }
+        }
+        return new MappedPackageLookup(mappedPackages, cancelledIds);
+    }
+
+    public List<MappedPackage> getMappedPackagePage(PackageFilter filter, Long lastId, Long upperId, int pageSize) {
+        log.debug("Fetching non-cancelled packages: lastId={} upperId={} pageSize={} filter={}",
+                lastId, upperId, pageSize, filter);
 
-        List<MappedPackage> packages = packageRepository.findAllByCancelledFalse()
+        return metrics.fetch("page", () -> packageRepository.findNonCancelledViewPage(filter, lastId, upperId, pageSize))
                 .stream()
-                .map(this::toMappedPackage)
+                .map(this::map)
                 .toList();
-
-        log.debug("Found {} packages", packages.size());
-        return packages;
     }
 
-    private Package findByIdOrThrow(Long id) {
-        return packageRepository.findById(id)
-                .orElseThrow(() -> new PackageNotFoundException(id));
+    /**
+     * {@link #getMappedPackagePage(PackageFilter, Long, Long, int)} ile aynı sonucu üretir; ancak tarih formatlama ve
+     * süre hesaplamaları veritabanında yapılır ve satırlar doğrudan {@link MappedPackage}'a okunur.
+     */
+    public List<MappedPackage> getSqlMappedPackagePage(PackageFilter filter, Long lastId, Long upperId, int pageSize) {
+        log.debug("Fetching SQL-mapped non-cancelled packages: lastId={} upperId={} pageSize={} filter={}",
+                lastId, upperId, pageSize, filter);
+
+        return metrics.fetch("sql-page",
+                () -> mappedPackageSqlRepository.findNonCancelledPage(filter, lastId, upperId, pageSize));
     }
 
-    private void validateNotCancelled(Package pkg) {
-        if (TRUE.equals(pkg.getCancelled())) {
-            throw new PackageCancelledException(pkg.getId());
+    /**
+     * (lastUpdatedAt, lastId) tuple'ından sonra değişen en fazla {@code batchSize} paket.
+     * Cancelled paketler eşlenmez, id'leri tombstone için ayrıca döner.
+     */
+    public PackageChangeBatch getChangedPackages(LocalDateTime lastUpdatedAt, Long lastId,
+                                                 LocalDateTime upperUpdatedAt, int batchSize) {
+        log.debug("Fetching changed packages: after=({}, {}) upper={} batchSize={}",
+                lastUpdatedAt, lastId, upperUpdatedAt, batchSize);
+
+        List<PackageView> changed = metrics.fetch("changed", () -> packageRepository.findViewsUpdatedAfter(
+                lastUpdatedAt, lastId, upperUpdatedAt, Limit.of(batchSize)));
+        if (changed.isEmpty()) {
+            return new PackageChangeBatch(List.of(), List.of(), 0, lastUpdatedAt, lastId);
+        }
+
+        List<MappedPackage> packages = new ArrayList<>(changed.size());
+        List<Long> cancelledIds = new ArrayList<>();
+        for (PackageView pkg : changed) {
+            if (TRUE.equals(pkg.cancelled())) {
+                cancelledIds.add(pkg.id());
+            } else {
+                packages.add(map(pkg));
+            }
         }
+        PackageView last = changed.getLast();
+        return new PackageChangeBatch(packages, cancelledIds, changed.size(), last.lastUpdatedAt(), last.id());
     }
 
-    private MappedPackage toMappedPackage(Package pkg) {
-        MappedPackage base = packageMapper.toMappedPackage(pkg);
+    /**
+     * {@code upperUpdatedAt}'e kadar en son değişen paket; sync watermark'ının ilk konumu. Tablo boşsa boş döner.
+     */
+    public Optional<PackageView> getLatestChange(LocalDateTime upperUpdatedAt) {
+        return packageRepository.findLatestViewsUpdatedBefore(upperUpdatedAt, Limit.of(1)).stream().findFirst();
+    }
 
-        if (!COMPLETED.equals(pkg.getStatus())) {
-            return base;
-        }
+    /**
+     * Veritabanı saatine göre {@code settleDelay} öncesi; sync'in üst sınırı. JVM saatinin veritabanından kayması veya
+     * farklı timezone'da çalışması değişikliklerin atlanmasına yol açmaz.
+     */
+    public LocalDateTime getSettledUpperBound(Duration settleDelay) {
+        return packageRepository.findDatabaseTime().minus(settleDelay);
+    }
 
-        Integer leadTime = minutesBetween(pkg.getCreatedAt(), pkg.getCompletedAt());
-        Integer collectionDuration = minutesBetween(pkg.getCreatedAt(), pkg.getPickedUpAt());
-        Integer deliveryDuration = minutesBetween(pkg.getInDeliveryAt(), pkg.getCompletedAt());
-
-        return MappedPackage.builder()
-                .id(base.id())
-                .createdAt(base.createdAt())
-                .lastUpdatedAt(base.lastUpdatedAt())
-                .eta(base.eta())
-                .collectionDuration(collectionDuration)
-                .deliveryDuration(deliveryDuration)
-                .leadTime(leadTime)
-                .orderInTime(isOrderInTime(leadTime, base.eta()))
-                .build();
+    /**
+     * (lastId, upperId] aralığındaki filtreye uyan cancelled paketlerin id sırasına göre ilk {@code limit} id'si.
+     * State topic'e tombstone yazmak için kullanılır.
+     */
+    public List<Long> getCancelledIdsBetween(PackageFilter filter, Long lastId, Long upperId, int limit) {
+        return packageRepository.findCancelledIdsBetween(filter, lastId, upperId, limit);
     }
 
+    public long countNonCancelledPackages(PackageFilter filter) {
+        return packageRepository.countNonCancelled(filter);
+    }
 
-    private Integer minutesBetween(LocalDateTime start, LocalDateTime end) {
-        if (isNull(start) || isNull(end)) {
-            return null;
-        }
-        return (int) ChronoUnit.MINUTES.between(start, end);
+    public PackageIdRange getIdRange(PackageFilter filter) {
+        return packageRepository.findIdRange(filter);
     }
 
+    /**
+     * {@link PackageMapper#toMappedPackage(PackageView)} ile aynıdır; süre hesapları ve eşleme ayrı ölçülür.
+     */
+    private MappedPackage map(PackageView pkg) {
+        long startNanos = System.nanoTime();
+        PackageDurations durations = PackageDurationCalculator.calculate(pkg);
+        long mappedNanos = System.nanoTime();
+        MappedPackage mappedPackage = packageMapper.toMappedPackage(pkg, durations);
+        metrics.recordDurations(mappedNanos - startNanos);
+        metrics.recordMap(System.nanoTime() - mappedNanos);
+        return mappedPackage;
+    }
+
+    private PackageView findByIdOrThrow(Long id) {
+        return metrics.fetchOne("by-id", () -> packageRepository.findViewById(id))
+                .orElseThrow(() -> new PackageNotFoundException(id));
+    }
 
-    private Boolean isOrderInTime(Integer leadTime, Integer eta) {
-        if (isNull(leadTime) || isNull(eta)) {
-            return null;
+    private void validateNotCancelled(PackageView pkg) {
+        if (TRUE.equals(pkg.cancelled())) {
+            throw new PackageCancelledException(pkg.id());
         }
-        return leadTime <= eta;
     }
 }
\ No newline at end of file
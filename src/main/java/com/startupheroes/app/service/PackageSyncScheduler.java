@@ -0,0 +1,28 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.exception.PackageSyncAlreadyRunningException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "app.sync", name = "enabled", havingValue = "true")
+public class PackageSyncScheduler {
+
+    private final PackageSyncService packageSyncService;
+
+    @Scheduled(initialDelayString = "${app.sync.interval}", fixedDelayString = "${app.sync.interval}")
+    public void syncChangedPackages() {
+        try {
+            packageSyncService.sync();
+        } catch (PackageSyncAlreadyRunningException ex) {
+            log.debug("Skipping scheduled package sync: {}", ex.getMessage());
+        } catch (RuntimeException ex) {
+            log.error("Scheduled package sync failed", ex);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.config.PackageSyncProperties;
+import com.startupheroes.app.dto.PackageChangeBatch;
+import com.startupheroes.app.dto.PackageView;
+import com.startupheroes.app.dto.ProducerProfile;
+import com.startupheroes.app.dto.response.BulkSendResult;
+import com.startupheroes.app.dto.response.PackageSyncResponse;
+import com.startupheroes.app.entity.PackageSyncWatermark;
+import com.startupheroes.app.exception.PackageSyncAlreadyRunningException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bootstrap'ten sonra yalnızca değişen paketleri gönderir.
+ * <p>
+ * {@code package} tablosu (last_updated_at, id) tuple'ı üzerinden watermark'tan itibaren sayfalanır.
+ * Aynı timestamp'e sahip satırlar id ile ayrıldığı için sayfa sınırında kayıt atlanmaz. Watermark
+ * yalnızca sayfanın tüm kayıtları ack aldıktan sonra ilerletilir; hata olursa aynı sayfa bir sonraki
+ * çalışmada tekrar gönderilir (at-least-once).
+ * <p>
+ * Settle delay'in üst sınırı çalışma başında veritabanı saatinden alınır ve çalışma boyunca sabit kalır;
+ * {@code last_updated_at} ile aynı saat kullanıldığı için JVM saat kayması veya timezone farkı değişiklik atlatmaz.
+ * <p>
+ * Watermark yoksa (yeni kurulum) ilk çalışma hiçbir şey göndermez; watermark tablodaki en son değişikliğe konumlanır.
+ * Mevcut paketleri göndermek bootstrap'in işidir; sync yalnızca bu noktadan sonraki değişiklikleri gönderir.
+ * <p>
+ * Production notu: birden fazla instance çalışıyorsa zamanlanmış çalışma ShedLock gibi bir dağıtık
+ * kilitle tek instance'a indirilmelidir; buradaki kilit yalnızca aynı JVM içindeki çakışmayı engeller.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PackageSyncService {
+
+    static final String WATERMARK_NAME = "package-events";
+    private static final LocalDateTime INITIAL_UPDATED_AT = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final long INITIAL_PACKAGE_ID = 0L;
+
+    private final PackageService packageService;
+    private final KafkaProducerService kafkaProducerService;
+    private final PackageCache packageCache;
+    private final PackageSyncWatermarkService watermarkService;
+    private final PackageSyncProperties syncProperties;
+    private final ReentrantLock runLock = new ReentrantLock();
+
+    public PackageSyncResponse sync() {
+        if (!runLock.tryLock()) {
+            throw new PackageSyncAlreadyRunningException();
+        }
+        try {
+            return doSync();
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    private PackageSyncResponse doSync() {
+        long startNanos = System.nanoTime();
+        Optional<PackageSyncWatermark> watermark = watermarkService.findWatermark(WATERMARK_NAME);
+        LocalDateTime upperUpdatedAt = packageService.getSettledUpperBound(syncProperties.settleDelay());
+        if (watermark.isEmpty()) {
+            return seedWatermark(upperUpdatedAt, startNanos);
+        }
+        LocalDateTime lastUpdatedAt = watermark.get().getLastUpdatedAt();
+        long lastPackageId = watermark.get().getLastPackageId();
+        int batchSize = syncProperties.batchSize();
+
+        long changedCount = 0;
+        long sentCount = 0;
+        long tombstoneCount = 0;
+        List<Long> failedIds = List.of();
+        int batches = 0;
+        boolean caughtUp = false;
+
+        while (batches < syncProperties.maxBatchesPerRun()) {
+            PackageChangeBatch batch = packageService.getChangedPackages(
+                    lastUpdatedAt, lastPackageId, upperUpdatedAt, batchSize);
+            if (batch.isEmpty()) {
+                caughtUp = true;
+                break;
+            }
+            batches++;
+            changedCount += batch.size();
+            invalidateCached(batch);
+
+            BulkSendResult sendResult = kafkaProducerService.sendAll(
+                    batch.packages(), batch.cancelledIds(), ProducerProfile.BULK);
+            sentCount += sendResult.ackedCount();
+            tombstoneCount += sendResult.tombstoneCount();
+
+            if (sendResult.hasFailures()) {
+                failedIds = sendResult.failedIds();
+                log.warn("Package sync stopped after ({}, {}): {} packages failed",
+                        lastUpdatedAt, lastPackageId, failedIds.size());
+                break;
+            }
+            lastUpdatedAt = batch.lastUpdatedAt();
+            lastPackageId = batch.lastPackageId();
+            watermarkService.saveWatermark(WATERMARK_NAME, lastUpdatedAt, lastPackageId);
+
+            if (batch.size() < batchSize) {
+                caughtUp = true;
+                break;
+            }
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        log.info("Package sync completed: changed={} sent={} tombstones={} failed={} batches={} elapsed={} ms",
+                changedCount, sentCount, tombstoneCount, failedIds.size(), batches, elapsedMillis);
+
+        return PackageSyncResponse.builder()
+                .changedCount(changedCount)
+                .sentCount(sentCount)
+                .tombstoneCount(tombstoneCount)
+                .failedIds(failedIds)
+                .batches(batches)
+                .caughtUp(caughtUp)
+                .watermarkUpdatedAt(lastUpdatedAt)
+                .watermarkPackageId(lastPackageId)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    /**
+     * Settle delay'e kadar en son değişen pakete, tablo boşsa başlangıca konumlanır; bu noktaya kadarki paketler
+     * bootstrap ile gönderilir.
+     */
+    private PackageSyncResponse seedWatermark(LocalDateTime upperUpdatedAt, long startNanos) {
+        Optional<PackageView> latest = packageService.getLatestChange(upperUpdatedAt);
+        LocalDateTime lastUpdatedAt = latest.map(PackageView::lastUpdatedAt).orElse(INITIAL_UPDATED_AT);
+        long lastPackageId = latest.map(PackageView::id).orElse(INITIAL_PACKAGE_ID);
+        watermarkService.saveWatermark(WATERMARK_NAME, lastUpdatedAt, lastPackageId);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        log.info("Package sync watermark seeded at ({}, {}); existing packages are published by bootstrap",
+                lastUpdatedAt, lastPackageId);
+
+        return PackageSyncResponse.builder()
+                .changedCount(0)
+                .sentCount(0)
+                .tombstoneCount(0)
+                .failedIds(List.of())
+                .batches(0)
+                .caughtUp(true)
+                .watermarkUpdatedAt(lastUpdatedAt)
+                .watermarkPackageId(lastPackageId)
+                .elapsedMillis(elapsedMillis)
+                .build();
+    }
+
+    private void invalidateCached(PackageChangeBatch batch) {
+        batch.packages().forEach(pkg -> packageCache.invalidate(pkg.id()));
+        packageCache.invalidateAll(batch.cancelledIds());
+    }
+}
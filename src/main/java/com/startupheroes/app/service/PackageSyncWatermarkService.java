@@ -0,0 +1,38 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.entity.PackageSyncWatermark;
+import com.startupheroes.app.repository.PackageSyncWatermarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class PackageSyncWatermarkService {
+
+    private final PackageSyncWatermarkRepository watermarkRepository;
+
+    @Transactional(readOnly = true)
+    public Optional<PackageSyncWatermark> findWatermark(String name) {
+        return watermarkRepository.findById(name);
+    }
+
+    public void saveWatermark(String name, LocalDateTime lastUpdatedAt, Long lastPackageId) {
+        PackageSyncWatermark watermark = watermarkRepository.findById(name)
+                .orElseGet(() -> PackageSyncWatermark.builder().name(name).build());
+
+        watermark.setLastUpdatedAt(lastUpdatedAt);
+        watermark.setLastPackageId(lastPackageId);
+        watermark.setUpdatedAt(LocalDateTime.now());
+        watermarkRepository.save(watermark);
+
+        log.debug("Package sync watermark saved: name={} lastUpdatedAt={} lastPackageId={}",
+                name, lastUpdatedAt, lastPackageId);
+    }
+}
@@ -0,0 +1,72 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.config.PackageTopicProperties.PartitionKey;
+import com.startupheroes.app.dto.response.PartitionSkewResponse;
+import com.startupheroes.app.repository.PackageRoutingKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+
+/**
+ * Mevcut tablo verilen partition key ve partition sayısıyla yazılsaydı partition'ların ne kadar
+ * dengesiz dolacağını hesaplar. Partition key veya partition sayısı değiştirilmeden önce kullanılır.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PartitionSkewService {
+
+    private final PackageRoutingKeyRepository routingKeyRepository;
+
+    @Transactional(readOnly = true)
+    public PartitionSkewResponse analyze(PartitionKey partitionKey, int partitions) {
+        Distribution distribution = new Distribution(partitions);
+        routingKeyRepository.forEachNonCancelledRoutingKey(partitionKey, distribution);
+
+        long[] counts = distribution.counts;
+        long total = Arrays.stream(counts).sum();
+        long max = Arrays.stream(counts).max().orElse(0);
+        long min = Arrays.stream(counts).min().orElse(0);
+
+        log.info("Partition skew for {} over {} partitions: total={} keys={} min={} max={}",
+                partitionKey, partitions, total, distribution.distinctKeys, min, max);
+
+        return PartitionSkewResponse.builder()
+                .partitionKey(partitionKey)
+                .partitions(partitions)
+                .totalRecords(total)
+                .distinctKeys(distribution.distinctKeys)
+                .minRecords(min)
+                .maxRecords(max)
+                .skewRatio(total == 0 ? 0 : max * partitions / (double) total)
+                .hottestKey(distribution.hottestKey)
+                .hottestKeyRecords(distribution.hottestKeyRecords)
+                .recordsPerPartition(Arrays.stream(counts).boxed().toList())
+                .build();
+    }
+
+    private static final class Distribution implements PackageRoutingKeyRepository.RoutingKeyCallback {
+
+        private final long[] counts;
+        private long distinctKeys;
+        private Long hottestKey;
+        private long hottestKeyRecords;
+
+        private Distribution(int partitions) {
+            this.counts = new long[partitions];
+        }
+
+        @Override
+        public void accept(long routingKey, long recordCount) {
+            counts[PackagePartitioner.partitionFor(routingKey, counts.length)] += recordCount;
+            distinctKeys++;
+            if (recordCount > hottestKeyRecords) {
+                hottestKey = routingKey;
+                hottestKeyRecords = recordCount;
+            }
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.startupheroes.app.service;
+
+import com.startupheroes.app.config.DeadLetterTopicProperties;
+import com.startupheroes.app.config.SendRetryProperties;
+import com.startupheroes.app.exception.PackageDeadLetteredException;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.RetriableException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaProducerException;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.Objects.requireNonNullElse;
+
+/**
+ * Kaydı gönderir; başarısız olursa {@link SendRetryProperties} ile yeniden dener, denemeler tükenirse
+ * dead-letter topic'e yazar.
+ * <p>
+ * Beklemeler {@code kafkaRetryExecutor} üzerinde zamanlanır; çağıran thread ve producer'ın I/O thread'i
+ * bloklanmaz. Yalnızca {@link RetriableException} (ör. {@code delivery.timeout.ms} aşımı) yeniden denenir;
+ * diğer hatalar (ör. {@code RecordTooLargeException}) doğrudan dead-letter topic'e gider.
+ * <p>
+ * Dönen future başarılı gönderimde {@link SendResult} ile, dead-letter'a yazıldığında
+ * {@link PackageDeadLetteredException} ile, dead-letter'a da yazılamazsa orijinal hata ile tamamlanır.
+ * <p>
+ * Not – retry'lar kayıt sırasını bozabilir: aynı key'in sonraki bir kaydı, geri çekilen kayıttan önce yazılabilir.
+ * Consumer'lar {@code lastUpdatedAt} ile eski kaydı ayırt etmelidir.
+ */
+@Slf4j
+@Component
+public class RetryingKafkaSender {
+
+    /**
+     * Dead-letter kaydına kadar yapılan gönderim denemesi sayısı (4 byte int).
+     */
+    public static final String DLT_SEND_ATTEMPTS = "kafka_dlt-send-attempts";
+
+    private final SendRetryProperties retryProperties;
+    private final DeadLetterTopicProperties deadLetterProperties;
+    private final Executor kafkaRetryExecutor;
+    private final String deadLetterTopic;
+
+    public RetryingKafkaSender(SendRetryProperties retryProperties,
+                               DeadLetterTopicProperties deadLetterProperties,
+                               KafkaProperties springKafkaProperties,
+                               Executor kafkaRetryExecutor) {
+        this.retryProperties = retryProperties;
+        this.deadLetterProperties = deadLetterProperties;
+        this.kafkaRetryExecutor = kafkaRetryExecutor;
+        this.deadLetterTopic = springKafkaProperties.getTemplate().getDefaultTopic() + deadLetterProperties.suffix();
+    }
+
+    public String getDeadLetterTopic() {
+        return deadLetterTopic;
+    }
+
+    public CompletableFuture<SendResult<String, byte[]>> send(KafkaOperations<String, byte[]> template,
+                                                              ProducerRecord<String, byte[]> record) {
+        CompletableFuture<SendResult<String, byte[]>> result = new CompletableFuture<>();
+        attempt(template, record, 1, result);
+        return result;
+    }
+
+    private void attempt(KafkaOperations<String, byte[]> template, ProducerRecord<String, byte[]> record, int attempt,
+                         CompletableFuture<SendResult<String, byte[]>> result) {
+        CompletableFuture<SendResult<String, byte[]>> future;
+        try {
+            future = template.send(record);
+        } catch (RuntimeException ex) {
+            onFailure(template, record, attempt, ex, result);
+            return;
+        }
+        future.whenComplete((sendResult, ex) -> {
+            if (isNull(ex)) {
+                result.complete(sendResult);
+            } else {
+                onFailure(template, record, attempt, ex, result);
+            }
+        });
+    }
+
+    private void onFailure(KafkaOperations<String, byte[]> template, ProducerRecord<String, byte[]> record, int attempt,
+                           Throwable ex, CompletableFuture<SendResult<String, byte[]>> result) {
+        Throwable cause = unwrap(ex);
+
+        if (attempt < retryProperties.maxAttempts() && cause instanceof RetriableException) {
+            long delayMillis = retryProperties.backoffMillis(attempt, ThreadLocalRandom.current().nextDouble());
+            log.warn("Retrying record {} to {} in {} ms (attempt {}/{}): {}",
+                    record.key(), record.topic(), delayMillis, attempt + 1, retryProperties.maxAttempts(), cause.toString());
+            CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS, kafkaRetryExecutor)
+                    .execute(() -> attempt(template, record, attempt + 1, result));
+            return;
+        }
+        if (!deadLetterProperties.enabled()) {
+            log.error("Failed to send record {} to {} after {} attempts", record.key(), record.topic(), attempt, cause);
+            result.completeExceptionally(cause);
+            return;
+        }
+        kafkaRetryExecutor.execute(() -> deadLetter(template, record, attempt, cause, result));
+    }
+
+    private void deadLetter(KafkaOperations<String, byte[]> template, ProducerRecord<String, byte[]> record, int attempts,
+                            Throwable cause, CompletableFuture<SendResult<String, byte[]>> result) {
+        ProducerRecord<String, byte[]> deadLetterRecord = new ProducerRecord<>(deadLetterTopic, null, record.key(),
+                record.value(), deadLetterHeaders(record, attempts, cause));
+        try {
+            template.send(deadLetterRecord).whenComplete((sendResult, ex) -> {
+                if (isNull(ex)) {
+                    log.warn("Record {} to {} moved to {} after {} attempts: {}",
+                            record.key(), record.topic(), deadLetterTopic, attempts, cause.toString());
+                    result.completeExceptionally(new PackageDeadLetteredException(record.key(), attempts, cause));
+                } else {
+                    log.error("Failed to write record {} to {}", record.key(), deadLetterTopic, unwrap(ex));
+                    result.completeExceptionally(cause);
+                }
+            });
+        } catch (RuntimeException ex) {
+            log.error("Failed to write record {} to {}", record.key(), deadLetterTopic, ex);
+            result.completeExceptionally(cause);
+        }
+    }
+
+    private static Headers deadLetterHeaders(ProducerRecord<String, byte[]> record, int attempts, Throwable cause) {
+        Headers headers = new RecordHeaders(record.headers().toArray());
+        long timestamp = requireNonNullElse(record.timestamp(), System.currentTimeMillis());
+
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TOPIC, record.topic().getBytes(StandardCharsets.UTF_8));
+        if (nonNull(record.partition())) {
+            headers.add(KafkaHeaders.DLT_ORIGINAL_PARTITION, ByteBuffer.allocate(Integer.BYTES).putInt(record.partition()).array());
+        }
+        headers.add(KafkaHeaders.DLT_ORIGINAL_TIMESTAMP, ByteBuffer.allocate(Long.BYTES).putLong(timestamp).array());
+        headers.add(KafkaHeaders.DLT_EXCEPTION_FQCN, cause.getClass().getName().getBytes(StandardCharsets.UTF_8));
+        headers.add(KafkaHeaders.DLT_EXCEPTION_MESSAGE,
+                String.valueOf(cause.getMessage()).getBytes(StandardCharsets.UTF_8));
+        headers.add(DLT_SEND_ATTEMPTS, ByteBuffer.allocate(Integer.BYTES).putInt(attempts).array());
+        return headers;
+    }
+
+    static Throwable unwrap(Throwable ex) {
+        Throwable cause = ex;
+        while ((cause instanceof CompletionException || cause instanceof KafkaProducerException)
+                && nonNull(cause.getCause())) {
+            cause = cause.getCause();
+        }
+        return cause;
+    }
+}
@@ -2,33 +2,72 @@ package com.startupheroes.app;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startupheroes.app.entity.BootstrapCheckpoint;
 import com.startupheroes.app.entity.Package;
 import com.startupheroes.app.entity.PackageStatus;
+import com.startupheroes.app.exception.PackageDeadLetteredException;
+import com.startupheroes.app.repository.BootstrapCheckpointRepository;
+import com.startupheroes.app.repository.PackageOutboxRepository;
 import com.startupheroes.app.repository.PackageRepository;
+import com.startupheroes.app.repository.PackageSyncWatermarkRepository;
+import com.startupheroes.app.serializer.MappedPackageSchema;
+import com.startupheroes.app.service.PackageOutboxRelay;
+import com.startupheroes.app.service.PackageOutboxService;
+import com.startupheroes.app.service.PackageSendCoalescer;
+import com.startupheroes.app.service.RetryingKafkaSender;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.apache.kafka.clients.consumer.Consumer;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.errors.TimeoutException;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
 import org.springframework.kafka.test.EmbeddedKafkaBroker;
 import org.springframework.kafka.test.context.EmbeddedKafka;
 import org.springframework.kafka.test.utils.KafkaTestUtils;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.IllegalTransactionStateException;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasItems;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -46,6 +85,12 @@ class AppApplicationTests {
     @Autowired
     private PackageRepository packageRepository;
 
+    @Autowired
+    private BootstrapCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private PackageSyncWatermarkRepository watermarkRepository;
+
     @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
     @Autowired
     private EmbeddedKafkaBroker embeddedKafkaBroker;
@@ -53,20 +98,40 @@ class AppApplicationTests {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PackageOutboxService outboxService;
+
+    @Autowired
+    private PackageOutboxRepository outboxRepository;
+
+    @Autowired
+    private PackageOutboxRelay outboxRelay;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private PackageSendCoalescer sendCoalescer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @MockitoSpyBean
+    private RetryingKafkaSender retryingSender;
+
+    @Autowired
+    @Qualifier("bulkKafkaTemplate")
+    private KafkaTemplate<String, byte[]> bulkKafkaTemplate;
+
     private Consumer<String, String> consumer;
 
     @BeforeEach
     void setUp() {
         packageRepository.deleteAll();
+        checkpointRepository.deleteAll();
+        watermarkRepository.deleteAll();
 
-        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("test-group", "true", embeddedKafkaBroker);
-        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
-
-        DefaultKafkaConsumerFactory<String, String> consumerFactory = new DefaultKafkaConsumerFactory<>(consumerProps);
-        consumer = consumerFactory.createConsumer();
-        consumer.subscribe(Collections.singletonList("package-events-test"));
+        consumer = createConsumer("test-group", "package-events-test");
     }
 
     @Test
@@ -110,20 +175,483 @@ class AppApplicationTests {
     }
 
     @Test
-    void shouldSendAllNonCancelledPackagesToKafka() throws Exception {
+    void shouldRecordStageMetricsForSendsAndRejections() throws Exception {
+        packageRepository.save(createCompletedPackage(1L));
+        packageRepository.save(createCancelledPackage(2L));
+
+        mockMvc.perform(post("/kafka/send/1")).andExpect(status().isOk());
+        mockMvc.perform(post("/kafka/send/2")).andExpect(status().isBadRequest());
+        KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 1);
+
+        await().atMost(Duration.ofSeconds(10)).until(() ->
+                meterRegistry.find("package.send").tags("topic", "package-events-test", "outcome", "sent").timer() != null);
+        assertThat(meterRegistry.get("package.fetch").tag("query", "by-id").timer().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("package.map").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("package.durations").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("package.record.size").tag("topic", "package-events-test").summary().mean())
+                .isPositive();
+        assertThat(meterRegistry.get("package.rejected").tag("reason", "cancelled").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("kafka.producer.record.send.total").meters()).isNotEmpty();
+
+        mockMvc.perform(get("/actuator/metrics/package.send"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.availableTags[*].tag").value(hasItems("topic", "outcome")));
+    }
+
+    @Test
+    void shouldSendPackageBatchToKafkaWithPerIdStatus() throws Exception {
         packageRepository.save(createCompletedPackage(1L));
         packageRepository.save(createCancelledPackage(2L));
         packageRepository.save(createInProgressPackage(3L));
 
-        mockMvc.perform(post("/kafka/bootstrap"))
+        mockMvc.perform(post("/kafka/send")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"packageIds\": [1, 2, 999, 3, 1]}"))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.success").value(true))
-                .andExpect(jsonPath("$.data").value(2));
+                .andExpect(jsonPath("$.data.requestedCount").value(4))
+                .andExpect(jsonPath("$.data.sentCount").value(2))
+                .andExpect(jsonPath("$.data.results[*].packageId").value(contains(1, 2, 999, 3)))
+                .andExpect(jsonPath("$.data.results[*].status").value(contains("SENT", "CANCELLED", "NOT_FOUND", "SENT")));
+
+        ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10));
+        assertThat(records).extracting(ConsumerRecord::key).containsExactlyInAnyOrder("1", "3");
+    }
+
+    @Test
+    void shouldRejectEmptyPackageBatch() throws Exception {
+        mockMvc.perform(post("/kafka/send")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"packageIds\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void shouldSendAllNonCancelledPackagesToKafka() throws Exception {
+        packageRepository.save(createCompletedPackage(1L));
+        packageRepository.save(createCancelledPackage(2L));
+        packageRepository.save(createInProgressPackage(3L));
+
+        String jobId = startBootstrapJob("/kafka/bootstrap");
+
+        awaitBootstrapJob(jobId)
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.ackedCount").value(2))
+                .andExpect(jsonPath("$.data.etaSeconds").value(0))
+                .andExpect(jsonPath("$.data.result.sentCount").value(2))
+                .andExpect(jsonPath("$.data.result.failedIds").isEmpty())
+                .andExpect(jsonPath("$.data.result.bytes").value(greaterThan(0)))
+                .andExpect(jsonPath("$.data.result.partitions.length()").value(2));
 
         ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10));
         assertThat(records.count()).isEqualTo(2);
     }
 
+    @Test
+    void shouldWriteLatestStateAndTombstonesToStateTopic() throws Exception {
+        packageRepository.save(createCompletedPackage(1L));
+        packageRepository.save(createCancelledPackage(2L));
+        packageRepository.save(createInProgressPackage(3L));
+        packageRepository.save(createCancelledPackage(4L));
+
+        String jobId = startBootstrapJob("/kafka/bootstrap");
+
+        awaitBootstrapJob(jobId)
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.result.sentCount").value(2))
+                .andExpect(jsonPath("$.data.result.tombstoneCount").value(2));
+
+        try (Consumer<String, String> stateConsumer = createConsumer("state-test-group", "package-state-test")) {
+            ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(stateConsumer, Duration.ofSeconds(10), 4);
+            Map<String, String> latestState = new HashMap<>();
+            records.forEach(record -> latestState.put(record.key(), record.value()));
+
+            assertThat(latestState).containsOnlyKeys("1", "2", "3", "4");
+            assertThat(latestState.get("2")).isNull();
+            assertThat(latestState.get("4")).isNull();
+            assertThat(objectMapper.readTree(latestState.get("1")).get("id").asLong()).isEqualTo(1L);
+        }
+    }
+
+    @Test
+    void shouldContinueBootstrapPartitionAfterDeadLetteredPackage() throws Exception {
+        for (long id = 1; id <= 6; id++) {
+            packageRepository.save(createCompletedPackage(id));
+        }
+        doAnswer(invocation -> {
+            ProducerRecord<String, byte[]> record = invocation.getArgument(1);
+            if ("package-events-test".equals(record.topic()) && "1".equals(record.key())) {
+                return CompletableFuture.failedFuture(
+                        new PackageDeadLetteredException(record.key(), 3, new TimeoutException("expired")));
+            }
+            return invocation.callRealMethod();
+        }).when(retryingSender).send(any(), any());
+
+        String jobId = startBootstrapJob("/kafka/bootstrap");
+
+        awaitBootstrapJob(jobId)
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.result.sentCount").value(5))
+                .andExpect(jsonPath("$.data.result.failedIds").isEmpty())
+                .andExpect(jsonPath("$.data.result.deadLetteredIds", contains(1)));
+
+        ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 5);
+        assertThat(records).extracting(ConsumerRecord::key).containsExactlyInAnyOrder("2", "3", "4", "5", "6");
+    }
+
+    @Test
+    void shouldBootstrapOnlyPackagesMatchingFilter() throws Exception {
+        packageRepository.save(createCompletedPackage(1L));
+        packageRepository.save(createCancelledPackage(2L));
+        packageRepository.save(createInProgressPackage(3L));
+        packageRepository.save(createCompletedPackage(5L));
+
+        String response = mockMvc.perform(post("/kafka/bootstrap")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"statuses\": [\"COMPLETED\"], \"idFrom\": 2}"))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.data.filter.statuses", contains("COMPLETED")))
+                .andReturn().getResponse().getContentAsString();
+
+        awaitBootstrapJob(objectMapper.readTree(response).at("/data/jobId").asText())
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.totalEstimate").value(1))
+                .andExpect(jsonPath("$.data.result.sentCount").value(1))
+                .andExpect(jsonPath("$.data.result.tombstoneCount").value(0));
+
+        ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10));
+        assertThat(records).extracting(ConsumerRecord::key).containsExactly("5");
+        assertThat(checkpointRepository.findAll())
+                .allSatisfy(checkpoint -> assertThat(checkpoint.getPackageFilter()).contains("COMPLETED"));
+    }
+
+    @Test
+    void shouldRejectBootstrapFilterWithInvertedRange() throws Exception {
+        mockMvc.perform(post("/kafka/bootstrap")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"idFrom\": 5, \"idTo\": 1}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void shouldSyncOnlyPackagesChangedSinceWatermark() throws Exception {
+        // Boş tabloda ilk çalışma watermark'ı başlangıca konumlar.
+        mockMvc.perform(post("/kafka/sync"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changedCount").value(0))
+                .andExpect(jsonPath("$.data.watermarkPackageId").value(0));
+
+        packageRepository.save(createCompletedPackage(1L));
+        packageRepository.save(createCompletedPackage(5L));
+        packageRepository.save(createCancelledPackage(2L));
+
+        // batch-size 1: 1 ve 5 aynı last_updated_at'e sahip, sayfa sınırında id ile ayrılmalı.
+        mockMvc.perform(post("/kafka/sync"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changedCount").value(3))
+                .andExpect(jsonPath("$.data.sentCount").value(2))
+                .andExpect(jsonPath("$.data.tombstoneCount").value(1))
+                .andExpect(jsonPath("$.data.caughtUp").value(true))
+                .andExpect(jsonPath("$.data.watermarkPackageId").value(5));
+
+        ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 2);
+        assertThat(records).extracting(ConsumerRecord::key).containsExactly("1", "5");
+
+        mockMvc.perform(post("/kafka/sync"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changedCount").value(0));
+
+        Package updated = createInProgressPackage(3L);
+        updated.setLastUpdatedAt(LocalDateTime.of(2021, 11, 14, 9, 0));
+        packageRepository.save(updated);
+
+        mockMvc.perform(post("/kafka/sync"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changedCount").value(1))
+                .andExpect(jsonPath("$.data.watermarkPackageId").value(3));
+
+        records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 1);
+        assertThat(records).extracting(ConsumerRecord::key).containsExactly("3");
+    }
+
+    @Test
+    void shouldSeedSyncWatermarkWithoutRepublishingExistingPackages() throws Exception {
+        packageRepository.save(createCompletedPackage(1L));
+        packageRepository.save(createCompletedPackage(5L));
+
+        mockMvc.perform(post("/kafka/sync"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changedCount").value(0))
+                .andExpect(jsonPath("$.data.sentCount").value(0))
+                .andExpect(jsonPath("$.data.caughtUp").value(true))
+                .andExpect(jsonPath("$.data.watermarkPackageId").value(5));
+
+        Package updated = createInProgressPackage(3L);
+        updated.setLastUpdatedAt(LocalDateTime.of(2021, 11, 14, 9, 0));
+        packageRepository.save(updated);
+
+        mockMvc.perform(post("/kafka/sync"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changedCount").value(1))
+                .andExpect(jsonPath("$.data.watermarkPackageId").value(3));
+
+        ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 1);
+        assertThat(records).extracting(ConsumerRecord::key).containsExactly("3");
+    }
+
+    @Test
+    void shouldServeRepeatedSendsFromCacheUntilSyncSeesChange() throws Exception {
+        packageRepository.save(createCompletedPackage(1L));
+        mockMvc.perform(post("/kafka/sync")).andExpect(status().isOk());
+
+        mockMvc.perform(post("/kafka/send/1")).andExpect(status().isOk());
+        // Ack gelmeden gönderilen ikinci istek birleştirilir; cache'e düşmesi için ilk gönderim tamamlanmalı.
+        await().atMost(Duration.ofSeconds(10)).until(() -> sendCoalescer.getInFlightCount() == 0);
+        mockMvc.perform(post("/kafka/send/1")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/kafka/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.size").value(1))
+                .andExpect(jsonPath("$.data.missCount").value(1))
+                .andExpect(jsonPath("$.data.hitCount").value(1));
+
+        Package updated = createCompletedPackage(1L);
+        updated.setEta(300);
+        updated.setLastUpdatedAt(LocalDateTime.of(2021, 11, 14, 9, 0));
+        packageRepository.save(updated);
+
+        mockMvc.perform(post("/kafka/sync"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.changedCount").value(1));
+        mockMvc.perform(post("/kafka/send/1")).andExpect(status().isOk());
+
+        mockMvc.perform(get("/kafka/cache/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.missCount").value(2))
+                .andExpect(jsonPath("$.data.invalidationCount").value(1));
+
+        ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 4);
+        List<Integer> etas = new ArrayList<>();
+        for (ConsumerRecord<String, String> record : records) {
+            etas.add(objectMapper.readTree(record.value()).get("eta").asInt());
+        }
+        assertThat(etas).containsExactly(277, 277, 300, 300);
+    }
+
+    @Test
+    void shouldCoalesceConcurrentSendsOfSamePackage() throws Exception {
+        packageRepository.save(createCompletedPackage(1L));
+
+        // Birleştirilen istek sayısı zamanlamaya bağlıdır; her istek ya kayıt üretmeli ya da birleştirilmiş olmalı.
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<CompletableFuture<Void>> requests = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                requests.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        mockMvc.perform(post("/kafka/send/1"))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data").value(1));
+                    } catch (Exception ex) {
+                        throw new IllegalStateException(ex);
+                    }
+                }, executor));
+            }
+            CompletableFuture.allOf(requests.toArray(CompletableFuture[]::new)).join();
+        }
+        await().atMost(Duration.ofSeconds(10)).until(() -> sendCoalescer.getInFlightCount() == 0);
+
+        int produced = 8 - (int) sendCoalescer.getCoalescedCount();
+        assertThat(produced).isPositive();
+        assertThat(KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), produced).count()).isEqualTo(produced);
+        assertThat(consumer.poll(Duration.ofSeconds(1)).isEmpty()).isTrue();
+    }
+
+    @Test
+    void shouldRelayOutboxRowsCommittedWithPackageChanges() throws Exception {
+        transactionTemplate.executeWithoutResult(status -> {
+            packageRepository.save(createCompletedPackage(1L));
+            packageRepository.save(createCancelledPackage(2L));
+            packageRepository.save(createInProgressPackage(3L));
+            outboxService.recordChanges(List.of(1L, 3L, 1L, 2L, 999L));
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            packageRepository.save(createInProgressPackage(5L));
+            outboxService.recordChange(5L);
+            status.setRollbackOnly();
+        });
+        assertThat(outboxRepository.count()).isEqualTo(5);
+
+        // batch-size 2: [1, 3], [1, 2], [999]; cancelled 2 ve olmayan 999 tombstone olarak yazılır.
+        mockMvc.perform(post("/kafka/outbox/relay"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.relayedCount").value(5))
+                .andExpect(jsonPath("$.data.sentCount").value(3))
+                .andExpect(jsonPath("$.data.tombstoneCount").value(2))
+                .andExpect(jsonPath("$.data.batches").value(3))
+                .andExpect(jsonPath("$.data.failedIds").isEmpty());
+
+        ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 3);
+        assertThat(records).extracting(ConsumerRecord::key).containsExactly("1", "3", "1");
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldSkipOutboxRowsLockedByAnotherRelay() throws Exception {
+        packageRepository.save(createCompletedPackage(1L));
+        packageRepository.save(createInProgressPackage(3L));
+        transactionTemplate.executeWithoutResult(status -> outboxService.recordChanges(List.of(1L, 3L)));
+
+        transactionTemplate.executeWithoutResult(status -> {
+            assertThat(outboxRepository.claimBatch(1, LocalDateTime.now()))
+                    .extracting(PackageOutboxRepository.OutboxEntry::packageId)
+                    .containsExactly(1L);
+
+            assertThat(CompletableFuture.supplyAsync(outboxRelay::drain).join().relayedCount()).isEqualTo(1);
+        });
+        ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 1);
+        assertThat(records).extracting(ConsumerRecord::key).containsExactly("3");
+
+        assertThat(outboxRelay.drain().relayedCount()).isEqualTo(1);
+        records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 1);
+        assertThat(records).extracting(ConsumerRecord::key).containsExactly("1");
+    }
+
+    @Test
+    void shouldNotRelayOutboxRowsUntilAnotherRelaysClaimExpires() throws Exception {
+        packageRepository.save(createCompletedPackage(1L));
+        packageRepository.save(createInProgressPackage(3L));
+        transactionTemplate.executeWithoutResult(status -> outboxService.recordChanges(List.of(1L, 3L)));
+
+        // Başka bir relay 1'i claim edip gönderirken: kilit yok, claim commit edilmiş.
+        List<Long> claimedIds = transactionTemplate.execute(status -> {
+            List<Long> ids = outboxRepository.claimBatch(1, LocalDateTime.now()).stream()
+                    .map(PackageOutboxRepository.OutboxEntry::id)
+                    .toList();
+            outboxRepository.markClaimed(ids, LocalDateTime.now());
+            return ids;
+        });
+
+        assertThat(outboxRelay.drain().relayedCount()).isEqualTo(1);
+        ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 1);
+        assertThat(records).extracting(ConsumerRecord::key).containsExactly("3");
+        assertThat(outboxRepository.count()).isEqualTo(1);
+
+        // Claim eden relay çöktü; claim-timeout dolunca satır tekrar alınır.
+        transactionTemplate.executeWithoutResult(status ->
+                outboxRepository.markClaimed(claimedIds, LocalDateTime.now().minusHours(1)));
+
+        assertThat(outboxRelay.drain().relayedCount()).isEqualTo(1);
+        records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), 1);
+        assertThat(records).extracting(ConsumerRecord::key).containsExactly("1");
+        assertThat(outboxRepository.count()).isZero();
+    }
+
+    @Test
+    void shouldRejectOutboxWriteOutsideTransaction() {
+        assertThatThrownBy(() -> outboxService.recordChange(1L))
+                .isInstanceOf(IllegalTransactionStateException.class);
+    }
+
+    @Test
+    void shouldReplayDeadLetteredRecordToOriginalTopic() throws Exception {
+        ProducerRecord<String, byte[]> deadLetter = new ProducerRecord<>("package-events-test.DLT", "42",
+                "{\"id\":42}".getBytes(StandardCharsets.UTF_8));
+        deadLetter.headers()
+                .add(KafkaHeaders.DLT_ORIGINAL_TOPIC, "package-events-test".getBytes(StandardCharsets.UTF_8))
+                .add(KafkaHeaders.DLT_EXCEPTION_FQCN, "org.apache.kafka.common.errors.TimeoutException".getBytes(StandardCharsets.UTF_8))
+                .add(RetryingKafkaSender.DLT_SEND_ATTEMPTS, ByteBuffer.allocate(Integer.BYTES).putInt(4).array());
+        bulkKafkaTemplate.send(deadLetter).get(10, TimeUnit.SECONDS);
+
+        mockMvc.perform(post("/kafka/dlt/replay"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.readCount").value(1))
+                .andExpect(jsonPath("$.data.replayedCount").value(1))
+                .andExpect(jsonPath("$.data.remainingCount").value(0));
+
+        ConsumerRecord<String, String> replayed = KafkaTestUtils.getSingleRecord(consumer, "package-events-test", Duration.ofSeconds(10));
+        assertThat(replayed.key()).isEqualTo("42");
+        assertThat(replayed.value()).isEqualTo("{\"id\":42}");
+        assertThat(replayed.headers().lastHeader(KafkaHeaders.DLT_ORIGINAL_TOPIC)).isNull();
+
+        // Konum commit edildi; ikinci replay aynı kaydı tekrar göndermez.
+        mockMvc.perform(post("/kafka/dlt/replay"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.readCount").value(0));
+    }
+
+    @Test
+    void shouldResumeBootstrapFromLastCheckpoint() throws Exception {
+        packageRepository.save(createCompletedPackage(1L));
+        packageRepository.save(createInProgressPackage(3L));
+        packageRepository.save(createInProgressPackage(5L));
+        checkpointRepository.save(BootstrapCheckpoint.builder()
+                .partitionNo(0)
+                .lastPackageId(1L)
+                .sentCount(1L)
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        String jobId = startBootstrapJob("/kafka/bootstrap/resume");
+
+        awaitBootstrapJob(jobId)
+                .andExpect(jsonPath("$.data.status").value("COMPLETED"))
+                .andExpect(jsonPath("$.data.totalEstimate").value(2))
+                .andExpect(jsonPath("$.data.result.sentCount").value(2));
+
+        ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10));
+        assertThat(records).extracting(ConsumerRecord::key).containsExactly("3", "5");
+        assertThat(checkpointRepository.findById(0))
+                .hasValueSatisfying(checkpoint -> {
+                    assertThat(checkpoint.getLastPackageId()).isEqualTo(5L);
+                    assertThat(checkpoint.getSentCount()).isEqualTo(3L);
+                });
+    }
+
+    @Test
+    void shouldReturnNotFoundForUnknownBootstrapJob() throws Exception {
+        mockMvc.perform(get("/kafka/bootstrap/unknown-job"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("Bootstrap job not found with id: unknown-job"));
+    }
+
+    @Test
+    void shouldServePackageSchemaByFingerprint() throws Exception {
+        mockMvc.perform(get("/kafka/schemas/" + Long.toHexString(MappedPackageSchema.V1_FINGERPRINT)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.schema").value(MappedPackageSchema.V1));
+
+        mockMvc.perform(get("/kafka/schemas/abc"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    void shouldComputePartitionSkewForStoreKey() throws Exception {
+        packageRepository.save(createCompletedPackage(1L));
+        packageRepository.save(createCancelledPackage(2L));
+        packageRepository.save(createInProgressPackage(3L));
+
+        mockMvc.perform(get("/kafka/partitions/skew")
+                        .param("partitionKey", "STORE_ID")
+                        .param("partitions", "4"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalRecords").value(2))
+                .andExpect(jsonPath("$.data.distinctKeys").value(1))
+                .andExpect(jsonPath("$.data.maxRecords").value(2))
+                .andExpect(jsonPath("$.data.skewRatio").value(4.0))
+                .andExpect(jsonPath("$.data.hottestKey").value(20000000004103L))
+                .andExpect(jsonPath("$.data.recordsPerPartition.length()").value(4));
+
+        mockMvc.perform(get("/kafka/partitions/skew"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.partitionKey").value("PACKAGE_ID"))
+                .andExpect(jsonPath("$.data.partitions").value(1))
+                .andExpect(jsonPath("$.data.distinctKeys").value(2));
+    }
+
     @Test
     void shouldSetNullFieldsForNonCompletedPackage() throws Exception {
         Package pkg = createInProgressPackage(4L);
@@ -151,6 +679,37 @@ class AppApplicationTests {
                 .andExpect(jsonPath("$.success").value(false));
     }
 
+    private Consumer<String, String> createConsumer(String groupId, String topic) {
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps(groupId, "true", embeddedKafkaBroker);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        DefaultKafkaConsumerFactory<String, String> consumerFactory = new DefaultKafkaConsumerFactory<>(consumerProps);
+        Consumer<String, String> createdConsumer = consumerFactory.createConsumer();
+        createdConsumer.subscribe(Collections.singletonList(topic));
+        return createdConsumer;
+    }
+
+        private String startBootstrapJob(String path) throws Exception {
+        String response = mockMvc.perform(post(path))
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.success").value(true))
+                .andReturn().getResponse().getContentAsString();
+
+        return objectMapper.readTree(response).at("/data/jobId").asText();
+    }
+
+    private ResultActions awaitBootstrapJob(String jobId) throws Exception {
+        await().atMost(Duration.ofSeconds(30)).until(() -> {
+            String response = mockMvc.perform(get("/kafka/bootstrap/" + jobId))
+                    .andReturn().getResponse().getContentAsString();
+            return objectMapper.readTree(response).at("/data/finishedAt").isTextual();
+        });
+        return mockMvc.perform(get("/kafka/bootstrap/" + jobId))
+                .andExpect(status().isOk());
+    }
+
     private Package createCompletedPackage(Long id) {
         return Package.builder()
                 .id(id)
@@ -0,0 +1,141 @@
+package com.startupheroes.app;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startupheroes.app.config.BootstrapProperties;
+import com.startupheroes.app.config.BootstrapProperties.MappingEngine;
+import com.startupheroes.app.config.BootstrapProperties.Transactions;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.dto.PackageFilter;
+import com.startupheroes.app.dto.PackageIdRange;
+import com.startupheroes.app.dto.ProducerProfile;
+import com.startupheroes.app.dto.response.BootstrapResult;
+import com.startupheroes.app.dto.response.BulkSendResult;
+import com.startupheroes.app.entity.BootstrapCheckpoint;
+import com.startupheroes.app.service.BootstrapCheckpointService;
+import com.startupheroes.app.service.BootstrapProgress;
+import com.startupheroes.app.service.BootstrapProgressLog;
+import com.startupheroes.app.service.BootstrapService;
+import com.startupheroes.app.service.KafkaProducerService;
+import com.startupheroes.app.service.PackageService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BootstrapServiceTests {
+
+    private static final PackageFilter NO_FILTER = PackageFilter.builder().build();
+
+    @Mock
+    private PackageService packageService;
+
+    @Mock
+    private KafkaProducerService kafkaProducerService;
+
+    @Mock
+    private BootstrapCheckpointService checkpointService;
+
+    @Mock
+    private BootstrapProgressLog progressLog;
+
+    @Captor
+    private ArgumentCaptor<List<BootstrapCheckpoint>> plan;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shouldWidenRangeSizeThatWouldExceedPartitionLimit() {
+        when(packageService.getIdRange(NO_FILTER)).thenReturn(new PackageIdRange(1L, Long.MAX_VALUE - 1));
+        when(checkpointService.replaceCheckpoints(any())).thenReturn(List.of());
+
+        service(2, 1).bootstrap(new BootstrapProgress(), NO_FILTER);
+
+        verify(checkpointService).replaceCheckpoints(plan.capture());
+        assertThat(plan.getValue()).hasSize(32);
+        assertThat(plan.getValue().getFirst().getLastPackageId()).isZero();
+        assertThat(plan.getValue().getLast().getRangeEnd()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void shouldKeepRangeSizeWithinPartitionLimit() {
+        when(packageService.getIdRange(NO_FILTER)).thenReturn(new PackageIdRange(1L, 100L));
+        when(checkpointService.replaceCheckpoints(any())).thenReturn(List.of());
+
+        service(2, 10).bootstrap(new BootstrapProgress(), NO_FILTER);
+
+        verify(checkpointService).replaceCheckpoints(plan.capture());
+        assertThat(plan.getValue()).extracting(BootstrapCheckpoint::getLastPackageId)
+                .containsExactly(0L, 10L, 20L, 30L, 40L, 50L, 60L, 70L, 80L, 90L);
+    }
+
+    @Test
+    void shouldPageCancelledIdsWithPageSize() {
+        List<Long> activeIds = List.of(1L, 6L);
+        List<Long> cancelledIds = List.of(2L, 3L, 4L, 5L);
+        when(packageService.getIdRange(NO_FILTER)).thenReturn(new PackageIdRange(1L, 6L));
+        when(checkpointService.replaceCheckpoints(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(kafkaProducerService.isStateTopicEnabled()).thenReturn(true);
+        when(packageService.getMappedPackagePage(eq(NO_FILTER), anyLong(), anyLong(), eq(2)))
+                .thenAnswer(invocation -> between(activeIds, invocation.getArgument(1), invocation.getArgument(2))
+                        .map(id -> MappedPackage.builder().id(id).build())
+                        .toList());
+        when(packageService.getCancelledIdsBetween(eq(NO_FILTER), anyLong(), anyLong(), eq(2)))
+                .thenAnswer(invocation -> between(cancelledIds, invocation.getArgument(1), invocation.getArgument(2))
+                        .toList());
+        when(kafkaProducerService.sendAll(any(), any(), eq(ProducerProfile.BULK)))
+                .thenAnswer(invocation -> sent(invocation.getArgument(0), invocation.getArgument(1)));
+
+        BootstrapResult result = service(1, 0).bootstrap(new BootstrapProgress(), NO_FILTER);
+
+        verify(kafkaProducerService).sendAll(packages(1L), List.of(2L, 3L), ProducerProfile.BULK);
+        verify(kafkaProducerService).sendAll(packages(), List.of(4L, 5L), ProducerProfile.BULK);
+        verify(kafkaProducerService).sendAll(packages(6L), List.of(), ProducerProfile.BULK);
+        assertThat(result.sentCount()).isEqualTo(2);
+        assertThat(result.tombstoneCount()).isEqualTo(4);
+    }
+
+    private static Stream<Long> between(List<Long> ids, long lastId, long upperId) {
+        return ids.stream().filter(id -> id > lastId && id <= upperId).limit(2);
+    }
+
+    private static List<MappedPackage> packages(Long... ids) {
+        return Stream.of(ids).map(id -> MappedPackage.builder().id(id).build()).toList();
+    }
+
+    private static BulkSendResult sent(List<MappedPackage> packages, Collection<Long> cancelledIds) {
+        return BulkSendResult.builder()
+                .ackedCount(packages.size())
+                .tombstoneCount(cancelledIds.size())
+                .failedIds(List.of())
+                .build();
+    }
+
+    private BootstrapService service(int workers, long rangeSize) {
+        BootstrapProperties properties = new BootstrapProperties(2, workers, rangeSize, MappingEngine.JAVA,
+                new Transactions(false, "package-bootstrap-tx-", 10, "package-bootstrap-progress"));
+        return new BootstrapService(packageService, kafkaProducerService, checkpointService, progressLog,
+                properties, executor, new ObjectMapper());
+    }
+}
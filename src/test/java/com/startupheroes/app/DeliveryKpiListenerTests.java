@@ -0,0 +1,85 @@
+package com.startupheroes.app;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startupheroes.app.config.DeliveryKpiProperties;
+import com.startupheroes.app.exception.DeliveryKpiUnavailableException;
+import com.startupheroes.app.serializer.MappedPackageBinaryCodec;
+import com.startupheroes.app.service.DeliveryKpiAggregator;
+import com.startupheroes.app.service.DeliveryKpiCheckpointService;
+import com.startupheroes.app.service.DeliveryKpiListener;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConsumerSeekAware.ConsumerSeekCallback;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeliveryKpiListenerTests {
+
+    private static final String TOPIC = "package-events-test";
+    private static final TopicPartition PARTITION_0 = new TopicPartition(TOPIC, 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition(TOPIC, 1);
+
+    @Mock
+    private DeliveryKpiCheckpointService checkpointService;
+
+    @Mock
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Mock
+    private ConsumerSeekCallback callback;
+
+    private DeliveryKpiAggregator aggregator;
+    private DeliveryKpiListener listener;
+
+    @BeforeEach
+    void setUp() {
+        DeliveryKpiProperties properties = new DeliveryKpiProperties(true, "package-delivery-kpi", Duration.ZERO, 90, 1440);
+        KafkaProperties kafkaProperties = new KafkaProperties();
+        kafkaProperties.getTemplate().setDefaultTopic(TOPIC);
+
+        aggregator = new DeliveryKpiAggregator(properties);
+        listener = new DeliveryKpiListener(aggregator, checkpointService, new MappedPackageBinaryCodec(),
+                new ObjectMapper(), properties, kafkaTemplate, kafkaProperties);
+
+        when(kafkaTemplate.partitionsFor(TOPIC)).thenReturn(List.of(
+                new PartitionInfo(TOPIC, 0, null, null, null),
+                new PartitionInfo(TOPIC, 1, null, null, null)));
+    }
+
+    @Test
+    void shouldNotServeOrCheckpointUntilInstanceOwnsAllPartitions() {
+        listener.onPartitionsAssigned(Map.of(PARTITION_0, 0L), callback);
+        listener.onPackageEvents(List.of(new ConsumerRecord<>(TOPIC, 0, 3L, "1", null)));
+
+        assertThatThrownBy(() -> aggregator.getAll()).isInstanceOf(DeliveryKpiUnavailableException.class);
+        verify(callback).seekToBeginning(List.of(PARTITION_0));
+        verify(checkpointService, never()).save(any(), any(), any(), any());
+
+        when(checkpointService.restore(aggregator, TOPIC)).thenReturn(Map.of(0, 2L, 1, 7L));
+        listener.onPartitionsAssigned(Map.of(PARTITION_1, 0L), callback);
+        listener.onPackageEvents(List.of(new ConsumerRecord<>(TOPIC, 1, 7L, "2", null)));
+
+        assertThat(aggregator.getAll()).isEmpty();
+        verify(callback).seek(TOPIC, 0, 2L);
+        verify(callback).seek(TOPIC, 1, 7L);
+        verify(checkpointService).save(Map.of(), null, TOPIC, Map.of(0, 2L, 1, 8L));
+    }
+}
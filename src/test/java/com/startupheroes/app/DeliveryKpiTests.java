@@ -0,0 +1,124 @@
+package com.startupheroes.app;
+
+import com.startupheroes.app.config.DeliveryKpiProperties;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.repository.DeliveryKpiCheckpointRepository;
+import com.startupheroes.app.repository.DeliveryKpiOffsetRepository;
+import com.startupheroes.app.serializer.MappedPackageBinaryCodec;
+import com.startupheroes.app.serializer.MappedPackageJsonWriter;
+import com.startupheroes.app.service.DeliveryKpiAggregator;
+import com.startupheroes.app.service.DeliveryKpiCheckpointService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.hamcrest.Matchers.closeTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "app.kpi.enabled=true",
+        "app.kpi.checkpoint-interval=100ms"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = {"package-events-test"})
+class DeliveryKpiTests {
+
+    private static final String TOPIC = "package-events-test";
+    private static final LocalDate DAY = LocalDate.of(2021, 11, 13);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Autowired
+    private MappedPackageJsonWriter jsonWriter;
+
+    @Autowired
+    private MappedPackageBinaryCodec binaryCodec;
+
+    @Autowired
+    private DeliveryKpiCheckpointService checkpointService;
+
+    @Autowired
+    private DeliveryKpiCheckpointRepository checkpointRepository;
+
+    @Autowired
+    private DeliveryKpiOffsetRepository offsetRepository;
+
+    @Autowired
+    private DeliveryKpiProperties kpiProperties;
+
+    @Test
+    void shouldAggregateCompletedPackageEventsPerDayAndCheckpoint() throws Exception {
+        kafkaTemplate.send(TOPIC, "1", jsonWriter.write(completed(1L, 52, 2, 34, true)));
+        kafkaTemplate.send(TOPIC, "2", binaryCodec.encode(completed(2L, 90, 10, 60, true)));
+        kafkaTemplate.send(TOPIC, "3", jsonWriter.write(completed(3L, 400, 30, 300, false)));
+        kafkaTemplate.send(TOPIC, "4", jsonWriter.write(MappedPackage.builder()
+                .id(4L).createdAt("2021-11-13 11:50:00.000000").eta(250).build()));
+        kafkaTemplate.send(TOPIC, "5", "not a package".getBytes(StandardCharsets.UTF_8));
+
+        await().atMost(Duration.ofSeconds(30)).untilAsserted(() ->
+                mockMvc.perform(get("/kafka/kpi/" + DAY))
+                        .andExpect(status().isOk())
+                        .andExpect(jsonPath("$.data.completedCount").value(3)));
+
+        mockMvc.perform(get("/kafka/kpi/" + DAY))
+                .andExpect(jsonPath("$.data.onTimeCount").value(2))
+                .andExpect(jsonPath("$.data.onTimeRatio").value(closeTo(0.667, 0.001)))
+                .andExpect(jsonPath("$.data.leadTime.p50").value(90))
+                .andExpect(jsonPath("$.data.leadTime.max").value(400))
+                .andExpect(jsonPath("$.data.leadTime.mean").value(closeTo(180.667, 0.001)))
+                .andExpect(jsonPath("$.data.collectionDuration.min").value(2))
+                .andExpect(jsonPath("$.data.deliveryDuration.p99").value(300));
+        mockMvc.perform(get("/kafka/kpi/2021-11-14"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.success").value(false));
+
+        await().atMost(Duration.ofSeconds(10)).untilAsserted(() -> {
+            assertThat(offsetRepository.findById(0)).hasValueSatisfying(offset ->
+                    assertThat(offset.getNextOffset()).isEqualTo(5L));
+            assertThat(checkpointRepository.findById(DAY)).isPresent();
+        });
+
+        DeliveryKpiAggregator restored = new DeliveryKpiAggregator(kpiProperties);
+        Map<Integer, Long> nextOffsets = checkpointService.restore(restored, TOPIC);
+
+        assertThat(nextOffsets).containsExactly(Map.entry(0, 5L));
+        assertThat(restored.get(DAY)).satisfies(kpi -> {
+            assertThat(kpi.completedCount()).isEqualTo(3);
+            assertThat(kpi.onTimeCount()).isEqualTo(2);
+            assertThat(kpi.leadTime().p50()).isEqualTo(90);
+        });
+    }
+
+    private static MappedPackage completed(Long id, int leadTime, int collectionDuration, int deliveryDuration,
+                                           boolean orderInTime) {
+        return MappedPackage.builder()
+                .id(id)
+                .createdAt("2021-11-13 10:47:52.675248")
+                .lastUpdatedAt("2021-11-13 11:40:15.314340")
+                .collectionDuration(collectionDuration)
+                .deliveryDuration(deliveryDuration)
+                .eta(277)
+                .leadTime(leadTime)
+                .orderInTime(orderInTime)
+                .build();
+    }
+}
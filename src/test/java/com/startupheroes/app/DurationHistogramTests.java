@@ -0,0 +1,68 @@
+package com.startupheroes.app;
+
+import com.startupheroes.app.service.DurationHistogram;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DurationHistogramTests {
+
+    @Test
+    void shouldComputePercentilesWithMinuteResolution() {
+        DurationHistogram histogram = new DurationHistogram(1440);
+        IntStream.rangeClosed(1, 100).forEach(histogram::record);
+
+        assertThat(histogram.count()).isEqualTo(100);
+        assertThat(histogram.mean()).isEqualTo(50.5);
+        assertThat(histogram.percentile(0.5)).isEqualTo(50);
+        assertThat(histogram.percentile(0.99)).isEqualTo(99);
+        assertThat(histogram.percentile(1.0)).isEqualTo(100);
+    }
+
+    @Test
+    void shouldReportObservedMaximumForOverflowPercentiles() {
+        DurationHistogram histogram = new DurationHistogram(60);
+        histogram.record(30);
+        histogram.record(500);
+
+        assertThat(histogram.percentile(0.5)).isEqualTo(30);
+        assertThat(histogram.percentile(0.99)).isEqualTo(500);
+        assertThat(histogram.max()).isEqualTo(500);
+    }
+
+    @Test
+    void shouldMergeAndRoundTripThroughCheckpointFormat() throws IOException {
+        DurationHistogram first = new DurationHistogram(1440);
+        DurationHistogram second = new DurationHistogram(1440);
+        IntStream.rangeClosed(1, 50).forEach(first::record);
+        IntStream.rangeClosed(51, 100).forEach(second::record);
+        first.merge(second);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        first.writeTo(new DataOutputStream(bytes));
+        DurationHistogram restored = DurationHistogram.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())), 1440);
+
+        assertThat(restored.count()).isEqualTo(100);
+        assertThat(restored.min()).isEqualTo(1);
+        assertThat(restored.max()).isEqualTo(100);
+        assertThat(restored.percentile(0.9)).isEqualTo(90);
+        assertThat(restored.mean()).isEqualTo(first.mean());
+    }
+
+    @Test
+    void shouldReturnNullStatisticsWhenEmpty() {
+        DurationHistogram histogram = new DurationHistogram(1440);
+
+        assertThat(histogram.mean()).isNull();
+        assertThat(histogram.percentile(0.5)).isNull();
+        assertThat(histogram.max()).isNull();
+    }
+}
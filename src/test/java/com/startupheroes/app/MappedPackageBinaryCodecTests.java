@@ -0,0 +1,68 @@
+package com.startupheroes.app;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.exception.PackageSchemaNotFoundException;
+import com.startupheroes.app.serializer.MappedPackageBinaryCodec;
+import com.startupheroes.app.serializer.MappedPackageJsonWriter;
+import com.startupheroes.app.serializer.MappedPackageSchema;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MappedPackageBinaryCodecTests {
+
+    private static final MappedPackage COMPLETED_PACKAGE = MappedPackage.builder()
+            .id(19604L)
+            .createdAt("2021-11-13 10:47:52.675248")
+            .lastUpdatedAt("2021-11-13 11:40:15.314340")
+            .collectionDuration(7)
+            .deliveryDuration(45)
+            .eta(30)
+            .leadTime(52)
+            .orderInTime(false)
+            .build();
+
+    private final MappedPackageBinaryCodec codec = new MappedPackageBinaryCodec();
+
+    @Test
+    void shouldRoundTripPackages() {
+        MappedPackage nonCompleted = MappedPackage.builder()
+                .id(Long.MAX_VALUE)
+                .createdAt("1969-12-31 23:59:59.999999")
+                .eta(-5)
+                .build();
+
+        assertThat(codec.decode(codec.encode(COMPLETED_PACKAGE))).isEqualTo(COMPLETED_PACKAGE);
+        assertThat(codec.decode(codec.encode(nonCompleted))).isEqualTo(nonCompleted);
+    }
+
+    @Test
+    void shouldWriteSchemaFingerprintHeader() {
+        byte[] encoded = codec.encode(COMPLETED_PACKAGE);
+
+        assertThat(MappedPackageBinaryCodec.isBinary(encoded)).isTrue();
+        assertThat(ByteBuffer.wrap(encoded, 2, 8).order(ByteOrder.LITTLE_ENDIAN).getLong())
+                .isEqualTo(MappedPackageSchema.V1_FINGERPRINT);
+    }
+
+    @Test
+    void shouldBeAtLeastThreeTimesSmallerThanJson() {
+        byte[] json = new MappedPackageJsonWriter(new ObjectMapper()).write(COMPLETED_PACKAGE);
+        byte[] binary = codec.encode(COMPLETED_PACKAGE);
+
+        assertThat(binary.length * 3).isLessThanOrEqualTo(json.length);
+    }
+
+    @Test
+    void shouldRejectUnknownFingerprint() {
+        byte[] encoded = codec.encode(COMPLETED_PACKAGE);
+        encoded[2] ^= 0x01;
+
+        assertThatThrownBy(() -> codec.decode(encoded)).isInstanceOf(PackageSchemaNotFoundException.class);
+    }
+}
@@ -0,0 +1,78 @@
+package com.startupheroes.app;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.mapper.PackageMapper;
+import com.startupheroes.app.mapper.TimestampFormatter;
+import com.startupheroes.app.serializer.MappedPackageJsonWriter;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.json.JsonTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@JsonTest
+@Import(MappedPackageJsonWriter.class)
+class MappedPackageJsonWriterTests {
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MappedPackageJsonWriter jsonWriter;
+
+    @Test
+    void shouldWriteSameBytesAsJackson() throws Exception {
+        List<MappedPackage> packages = List.of(
+                MappedPackage.builder()
+                        .id(19604L)
+                        .createdAt("2021-11-13 10:47:52.675248")
+                        .lastUpdatedAt("2021-11-13 11:40:15.314340")
+                        .collectionDuration(7)
+                        .deliveryDuration(45)
+                        .eta(30)
+                        .leadTime(52)
+                        .orderInTime(false)
+                        .storeId(20000000004103L)
+                        .customerId(20002011575015L)
+                        .build(),
+                MappedPackage.builder().id(1L).orderInTime(true).build(),
+                MappedPackage.builder().build(),
+                MappedPackage.builder()
+                        .id(Long.MIN_VALUE)
+                        .createdAt("")
+                        .lastUpdatedAt("quote \" and \\ backslash")
+                        .collectionDuration(-1)
+                        .deliveryDuration(Integer.MIN_VALUE)
+                        .eta(Integer.MAX_VALUE)
+                        .leadTime(0)
+                        .build(),
+                MappedPackage.builder().id(Long.MAX_VALUE).createdAt("çğüşöı").build());
+
+        for (MappedPackage pkg : packages) {
+            assertThat(jsonWriter.write(pkg)).isEqualTo(objectMapper.writeValueAsBytes(pkg));
+        }
+    }
+
+    @Test
+    void timestampFormatterShouldMatchDateTimeFormatter() {
+        Random random = new Random(42);
+        for (int i = 0; i < 10_000; i++) {
+            LocalDateTime dateTime = LocalDateTime.of(
+                    1 + random.nextInt(9_999), 1 + random.nextInt(12), 1 + random.nextInt(28),
+                    random.nextInt(24), random.nextInt(60), random.nextInt(60), random.nextInt(1_000_000_000));
+
+            assertThat(TimestampFormatter.format(dateTime)).isEqualTo(dateTime.format(PackageMapper.FORMATTER));
+        }
+
+        LocalDateTime farFuture = LocalDateTime.of(12_345, 1, 1, 0, 0);
+        LocalDateTime yearZero = LocalDateTime.of(0, 6, 1, 12, 0);
+        assertThat(TimestampFormatter.format(yearZero)).isEqualTo(yearZero.format(PackageMapper.FORMATTER));
+        assertThat(TimestampFormatter.format(farFuture)).isEqualTo(farFuture.format(PackageMapper.FORMATTER));
+    }
+}
@@ -0,0 +1,162 @@
+package com.startupheroes.app;
+
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.dto.PackageFilter;
+import com.startupheroes.app.entity.Package;
+import com.startupheroes.app.entity.PackageStatus;
+import com.startupheroes.app.mapper.PackageMapperImpl;
+import com.startupheroes.app.repository.MappedPackageSqlRepository;
+import com.startupheroes.app.repository.PackageRepository;
+import com.startupheroes.app.service.PackageMetrics;
+import com.startupheroes.app.service.PackageService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * SQL ve Java mapping motorlarının aynı çıktıyı ürettiğini H2 üzerinde doğrular.
+ * <p>
+ * Not – H2 {@code TO_CHAR(... FF6)} ve {@code EXTRACT(EPOCH ...)} için PostgreSQL semantiğini kanıtlamaz;
+ * aynı testler {@link MappedPackageSqlParityPostgresTests} ile gerçek PostgreSQL'de de çalışır.
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({PackageService.class, PackageMapperImpl.class, MappedPackageSqlRepository.class, PackageMetrics.class,
+        SimpleMeterRegistry.class})
+class MappedPackageSqlParityTests {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2021, 11, 13, 10, 47, 52, 675248000);
+
+    @Autowired
+    private PackageRepository packageRepository;
+
+    @Autowired
+    private PackageService packageService;
+
+    @Test
+    void shouldProduceSameOutputAsJavaEngineForEdgeCases() {
+        List<Package> packages = List.of(
+                completed(1L, BASE, BASE.plusMinutes(2).plusSeconds(1), BASE.plusMinutes(18), BASE.plusMinutes(52), 277),
+                completed(2L, at(10, 0, 0, 0), at(10, 5, 0, 0), at(10, 5, 0, 0), at(10, 5, 0, 0), 5),
+                completed(3L, at(10, 0, 0, 0), at(10, 4, 59, 999999000), at(10, 1, 0, 0), at(10, 4, 59, 999999000), 4),
+                completed(4L, at(10, 0, 0, 0), at(9, 59, 0, 500000000), null, at(9, 58, 59, 0), 30),
+                completed(5L, at(10, 0, 0, 0), null, null, at(11, 0, 0, 1000), null),
+                completed(6L, at(10, 0, 0, 0), at(10, 30, 0, 0), at(11, 0, 0, 0), null, 60),
+                completed(7L, at(23, 59, 59, 999999000), BASE.plusDays(2), BASE.plusDays(2).plusHours(3), BASE.plusDays(2).plusHours(5), 3000),
+                completed(8L, null, at(10, 30, 0, 0), at(11, 0, 0, 0), at(11, 30, 0, 0), 60),
+                withStatus(9L, PackageStatus.IN_DELIVERY, at(10, 0, 0, 0), at(10, 10, 0, 0), at(10, 20, 0, 0), null, 90),
+                withStatus(10L, PackageStatus.WAITING_FOR_ASSIGNMENT, null, null, null, null, null));
+        packageRepository.saveAll(packages);
+
+        assertEnginesMatch(packages.size());
+    }
+
+    @Test
+    void shouldProduceSameOutputAsJavaEngineForRandomPackages() {
+        Random random = new Random(42);
+        PackageStatus[] statuses = PackageStatus.values();
+        List<Package> packages = new ArrayList<>();
+
+        for (long id = 1; id <= 500; id++) {
+            LocalDateTime createdAt = BASE.plusSeconds(random.nextInt(86_400 * 30)).plusNanos(random.nextInt(1_000_000) * 1000L);
+            PackageStatus status = statuses[random.nextInt(statuses.length - 1)];
+            packages.add(withStatus(id, status, createdAt,
+                    maybeAfter(random, createdAt),
+                    maybeAfter(random, createdAt),
+                    maybeAfter(random, createdAt),
+                    random.nextInt(10) == 0 ? null : random.nextInt(300)));
+        }
+        packageRepository.saveAll(packages);
+
+        assertEnginesMatch(packages.size());
+    }
+
+    @Test
+    void shouldApplySameFilterInBothEngines() {
+        Random random = new Random(7);
+        PackageStatus[] statuses = PackageStatus.values();
+        List<Package> packages = new ArrayList<>();
+
+        for (long id = 1; id <= 200; id++) {
+            LocalDateTime createdAt = BASE.plusHours(random.nextInt(24 * 10));
+            Package pkg = withStatus(id, statuses[random.nextInt(statuses.length - 1)], createdAt,
+                    createdAt.plusMinutes(10), createdAt.plusMinutes(20), createdAt.plusMinutes(40), 60);
+            pkg.setStoreId(random.nextLong(3));
+            pkg.setDeliveryDate(createdAt.toLocalDate());
+            packages.add(pkg);
+        }
+        packageRepository.saveAll(packages);
+
+        PackageFilter filter = PackageFilter.builder()
+                .statuses(Set.of(PackageStatus.COMPLETED, PackageStatus.IN_DELIVERY))
+                .storeId(1L)
+                .deliveryDateFrom(BASE.toLocalDate().plusDays(2))
+                .createdTo(BASE.plusDays(8))
+                .idTo(180L)
+                .build();
+        List<MappedPackage> javaMapped = packageService.getMappedPackagePage(filter, 0L, Long.MAX_VALUE, 1000);
+        List<MappedPackage> sqlMapped = packageService.getSqlMappedPackagePage(filter, 0L, Long.MAX_VALUE, 1000);
+
+        List<Long> expectedIds = packages.stream()
+                .filter(pkg -> filter.statuses().contains(pkg.getStatus()))
+                .filter(pkg -> pkg.getStoreId() == 1L)
+                .filter(pkg -> !pkg.getDeliveryDate().isBefore(filter.deliveryDateFrom()))
+                .filter(pkg -> pkg.getCreatedAt().isBefore(filter.createdTo()))
+                .filter(pkg -> pkg.getId() <= filter.idTo())
+                .map(Package::getId)
+                .toList();
+        assertThat(expectedIds).isNotEmpty();
+        assertThat(javaMapped).extracting(MappedPackage::id).containsExactlyElementsOf(expectedIds);
+        assertThat(sqlMapped).containsExactlyElementsOf(javaMapped);
+    }
+
+    private void assertEnginesMatch(int expectedSize) {
+        List<MappedPackage> javaMapped = packageService.getMappedPackagePage(PackageFilter.NONE, 0L, Long.MAX_VALUE, 1000);
+        List<MappedPackage> sqlMapped = packageService.getSqlMappedPackagePage(PackageFilter.NONE, 0L, Long.MAX_VALUE, 1000);
+
+        assertThat(javaMapped).hasSize(expectedSize);
+        assertThat(sqlMapped).containsExactlyElementsOf(javaMapped);
+    }
+
+    private static LocalDateTime maybeAfter(Random random, LocalDateTime start) {
+        if (random.nextInt(8) == 0) {
+            return null;
+        }
+        return start.plusSeconds(random.nextInt(6 * 3600) - 120).plusNanos(random.nextInt(1_000_000) * 1000L);
+    }
+
+    private static LocalDateTime at(int hour, int minute, int second, int nanos) {
+        return LocalDateTime.of(2021, 11, 13, hour, minute, second, nanos);
+    }
+
+    private static Package completed(Long id, LocalDateTime createdAt, LocalDateTime pickedUpAt,
+                                     LocalDateTime inDeliveryAt, LocalDateTime completedAt, Integer eta) {
+        return withStatus(id, PackageStatus.COMPLETED, createdAt, pickedUpAt, inDeliveryAt, completedAt, eta);
+    }
+
+    private static Package withStatus(Long id, PackageStatus status, LocalDateTime createdAt, LocalDateTime pickedUpAt,
+                                      LocalDateTime inDeliveryAt, LocalDateTime completedAt, Integer eta) {
+        return Package.builder()
+                .id(id)
+                .status(status)
+                .cancelled(false)
+                .createdAt(createdAt)
+                .lastUpdatedAt(completedAt)
+                .pickedUpAt(pickedUpAt)
+                .inDeliveryAt(inDeliveryAt)
+                .completedAt(completedAt)
+                .eta(eta)
+                .build();
+    }
+}
@@ -0,0 +1,66 @@
+package com.startupheroes.app;
+
+import com.startupheroes.app.config.PackageCacheProperties;
+import com.startupheroes.app.dto.EncodedPackage;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.exception.PackageNotFoundException;
+import com.startupheroes.app.service.PackageCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PackageCacheTests {
+
+    private PackageCache cache;
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        cache = new PackageCache(new PackageCacheProperties(true, 100, Duration.ofMinutes(10)), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldLoadOnceAndServeHitsFromCache() {
+        assertThat(cache.get(1L, this::load).mappedPackage().id()).isEqualTo(1L);
+        assertThat(cache.get(1L, this::load).mappedPackage().id()).isEqualTo(1L);
+
+        assertThat(loads).hasValue(1);
+        assertThat(cache.stats()).satisfies(stats -> {
+            assertThat(stats.hitCount()).isEqualTo(1);
+            assertThat(stats.missCount()).isEqualTo(1);
+            assertThat(stats.size()).isEqualTo(1);
+        });
+    }
+
+    @Test
+    void shouldNotStoreResultLoadedWhileInvalidated() {
+        cache.get(1L, id -> {
+            cache.invalidate(id);
+            return load(id);
+        });
+        cache.get(1L, this::load);
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void shouldRecordLoadFailureWithoutStoringResult() {
+        assertThatThrownBy(() -> cache.get(1L, id -> {
+            throw new PackageNotFoundException(id);
+        })).isInstanceOf(PackageNotFoundException.class);
+
+        assertThat(cache.stats().loadFailureCount()).isEqualTo(1);
+        assertThat(cache.stats().size()).isZero();
+    }
+
+    private EncodedPackage load(Long id) {
+        loads.incrementAndGet();
+        return new EncodedPackage(MappedPackage.builder().id(id).build(), new byte[]{1}, null);
+    }
+}
@@ -0,0 +1,218 @@
+package com.startupheroes.app;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.startupheroes.app.SyntheticPackageGenerator.GeneratedPackages;
+import com.startupheroes.app.service.PackageSendCoalescer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static java.util.Objects.isNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * Sentetik paketlerle {@code POST /kafka/send/{id}} ve {@code POST /kafka/bootstrap} yük testi; H2 ve embedded
+ * Kafka dışında servis gerektirmez. Normal test görevinde çalışmaz: {@code gradle loadTest}.
+ * <p>
+ * Paket ve istek sayıları {@code -PloadTestPackages} ve {@code -PloadTestSingleSends} ile değiştirilebilir.
+ * Her aşama için throughput, heap high-water mark (heap havuzlarının tepe kullanımlarının toplamı) ve gecikme
+ * yüzdelikleri yazdırılır.
+ * <p>
+ * Not – embedded broker ve H2 aynı JVM'de çalıştığı için mutlak sayılar gerçek bir kurulumu temsil etmez;
+ * aynı makinedeki commit'ler arası karşılaştırma anlamlıdır.
+ */
+@Slf4j
+@Tag("loadtest")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "logging.level.com.startupheroes.app=INFO",
+        "logging.level.com.startupheroes.app.controller=WARN",
+        "logging.level.com.startupheroes.app.exception=ERROR",
+        "app.bootstrap.page-size=5000",
+        "app.bootstrap.workers=4",
+        "management.metrics.distribution.percentiles.package.send=0.5,0.95,0.99"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = {"package-events-test"})
+class PackageLoadTests {
+
+    private static final long PACKAGES = Long.getLong("loadtest.packages", 200_000);
+    private static final int SINGLE_SENDS = Integer.getInteger("loadtest.single-sends", 20_000);
+    private static final int SINGLE_SEND_THREADS = 8;
+    private static final double CANCELLED_RATIO = 0.1;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private PackageSendCoalescer sendCoalescer;
+
+    @Test
+    void measureSingleSendsAndBootstrap() throws Exception {
+        long start = System.nanoTime();
+        GeneratedPackages packages = new SyntheticPackageGenerator(jdbcTemplate, CANCELLED_RATIO)
+                .generate(1, PACKAGES, 42);
+        double insertSeconds = seconds(System.nanoTime() - start);
+        log.info("Generated {} packages in {} s ({} rows/s): {}", packages.count(), "%.1f".formatted(insertSeconds),
+                "%.0f".formatted(packages.count() / insertSeconds), packages.statusCounts());
+
+        // Tekil gönderimler önce ölçülür; package.send yüzdelikleri bootstrap kayıtlarıyla karışmaz.
+        Result singleSends = runSingleSends(packages);
+        Result bootstrap = runBootstrap(packages);
+
+        log.info("Package load test:\n{}{}{}",
+                "%-12s %10s %12s %10s %22s %22s%n".formatted(
+                        "phase", "records", "records/s", "heap MB", "request p50/p95/p99 ms", "ack p50/p95/p99 ms"),
+                row("single-send", singleSends),
+                row("bootstrap", bootstrap));
+
+        assertThat(singleSends.recordsPerSecond()).isPositive();
+        assertThat(bootstrap.records()).isEqualTo(packages.sendableCount());
+    }
+
+    private Result runSingleSends(GeneratedPackages packages) throws Exception {
+        long[] latencies = new long[SINGLE_SENDS];
+        AtomicLong sent = new AtomicLong();
+        SplittableRandom random = new SplittableRandom(7);
+        long[] ids = random.longs(SINGLE_SENDS, packages.firstId(), packages.lastId() + 1).toArray();
+
+        resetHeapPeak();
+        long start = System.nanoTime();
+        ExecutorService executor = Executors.newFixedThreadPool(SINGLE_SEND_THREADS);
+        try {
+            List<Future<?>> futures = IntStream.range(0, SINGLE_SEND_THREADS)
+                    .<Future<?>>mapToObj(thread -> executor.submit(() -> {
+                        for (int i = thread; i < SINGLE_SENDS; i += SINGLE_SEND_THREADS) {
+                            long sentAt = System.nanoTime();
+                            // Cancelled paketler 400 döner; onlar da istek gecikmesine dahildir.
+                            int status = mockMvc.perform(post("/kafka/send/" + ids[i])).andReturn().getResponse().getStatus();
+                            latencies[i] = System.nanoTime() - sentAt;
+                            if (status == 200) {
+                                sent.incrementAndGet();
+                            }
+                        }
+                        return null;
+                    }))
+                    .toList();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+        await().atMost(Duration.ofSeconds(60)).until(() -> sendCoalescer.getInFlightCount() == 0);
+        long elapsedNanos = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(sent.get(), sent.get() / seconds(elapsedNanos), heapPeakMegabytes(),
+                new double[]{percentile(latencies, 0.5), percentile(latencies, 0.95), percentile(latencies, 0.99)},
+                ackPercentiles());
+    }
+
+    private Result runBootstrap(GeneratedPackages packages) throws Exception {
+        resetHeapPeak();
+        long start = System.nanoTime();
+        String response = mockMvc.perform(post("/kafka/bootstrap")).andReturn().getResponse().getContentAsString();
+        String jobId = objectMapper.readTree(response).at("/data/jobId").asText();
+
+        JsonNode[] job = new JsonNode[1];
+        await().atMost(Duration.ofMinutes(30)).pollInterval(Duration.ofMillis(100)).until(() -> {
+            job[0] = objectMapper.readTree(mockMvc.perform(get("/kafka/bootstrap/" + jobId))
+                    .andReturn().getResponse().getContentAsString()).at("/data");
+            return job[0].at("/finishedAt").isTextual();
+        });
+        long elapsedNanos = System.nanoTime() - start;
+
+        assertThat(job[0].at("/status").asText()).isEqualTo("COMPLETED");
+        assertThat(job[0].at("/result/failedIds")).isEmpty();
+        long sentCount = job[0].at("/result/sentCount").asLong();
+        return new Result(sentCount, sentCount / seconds(elapsedNanos), heapPeakMegabytes(), null, ackPercentiles());
+    }
+
+    /**
+     * Gönderimden broker ack'ine kadar geçen süre ({@code package.send}); son iki dakikalık pencereden hesaplanır.
+     */
+    private double[] ackPercentiles() {
+        ValueAtPercentile[] values = meterRegistry.get("package.send")
+                .tags("topic", "package-events-test", "outcome", "sent")
+                .timer().takeSnapshot().percentileValues();
+        return Arrays.stream(values).mapToDouble(value -> value.value(TimeUnit.MILLISECONDS)).toArray();
+    }
+
+    private static void resetHeapPeak() {
+        System.gc();
+        heapPools().forEach(MemoryPoolMXBean::resetPeakUsage);
+    }
+
+    private static long heapPeakMegabytes() {
+        return heapPools().stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum() / (1024 * 1024);
+    }
+
+    private static List<MemoryPoolMXBean> heapPools() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+    }
+
+    private static double percentile(long[] sortedNanos, double percentile) {
+        return sortedNanos[(int) Math.min(sortedNanos.length - 1, sortedNanos.length * percentile)] / 1_000_000.0;
+    }
+
+    private static double seconds(long nanos) {
+        return nanos / 1_000_000_000.0;
+    }
+
+    private static String row(String phase, Result result) {
+        return "%-12s %10d %12.0f %10d %22s %22s%n".formatted(
+                phase, result.records(), result.recordsPerSecond(), result.heapPeakMegabytes(),
+                format(result.requestMillis()), format(result.ackMillis()));
+    }
+
+    private static String format(double[] millis) {
+        if (isNull(millis)) {
+            return "-";
+        }
+        return String.join("/", Arrays.stream(millis).mapToObj(value -> String.format("%.1f", value)).toList());
+    }
+
+    private record Result(long records, double recordsPerSecond, long heapPeakMegabytes,
+                          double[] requestMillis, double[] ackMillis) {
+    }
+}
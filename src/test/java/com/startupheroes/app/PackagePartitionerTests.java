@@ -0,0 +1,28 @@
+package com.startupheroes.app;
+
+import com.startupheroes.app.service.PackagePartitioner;
+import org.apache.kafka.clients.producer.internals.BuiltInPartitioner;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PackagePartitionerTests {
+
+    @Test
+    void shouldMatchKafkaDefaultPartitionerForStringKeys() {
+        Random random = new Random(42);
+        try (StringSerializer serializer = new StringSerializer()) {
+            for (int i = 0; i < 10_000; i++) {
+                long routingValue = random.nextLong(1, Long.MAX_VALUE);
+                int partitions = 1 + random.nextInt(64);
+                byte[] key = serializer.serialize("package-events", Long.toString(routingValue));
+
+                assertThat(PackagePartitioner.partitionFor(routingValue, partitions))
+                        .isEqualTo(BuiltInPartitioner.partitionForKey(key, partitions));
+            }
+        }
+    }
+}
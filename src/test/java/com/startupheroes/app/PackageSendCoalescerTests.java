@@ -0,0 +1,118 @@
+package com.startupheroes.app;
+
+import com.startupheroes.app.config.SingleSendProperties;
+import com.startupheroes.app.dto.EncodedPackage;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.exception.PackageNotFoundException;
+import com.startupheroes.app.service.PackageSendCoalescer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PackageSendCoalescerTests {
+
+    @Test
+    void shouldShareLoadAndSendAmongConcurrentRequests() throws Exception {
+        PackageSendCoalescer coalescer = new PackageSendCoalescer(new SingleSendProperties(true, Duration.ZERO, 100), new SimpleMeterRegistry());
+        CountDownLatch loaderEntered = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+        AtomicInteger sends = new AtomicInteger();
+        CompletableFuture<Void> ack = new CompletableFuture<>();
+
+        Function<Long, EncodedPackage> loader = id -> {
+            loads.incrementAndGet();
+            loaderEntered.countDown();
+            await(releaseLoader);
+            return encoded(id, "{\"id\":1}");
+        };
+        Function<EncodedPackage, CompletableFuture<Void>> sender = pkg -> {
+            sends.incrementAndGet();
+            return ack;
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(4)) {
+            Future<EncodedPackage> leader = executor.submit(() -> coalescer.send(1L, loader, sender));
+            assertThat(loaderEntered.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Future<EncodedPackage>> followers = List.of(
+                    executor.submit(() -> coalescer.send(1L, loader, sender)),
+                    executor.submit(() -> coalescer.send(1L, loader, sender)));
+            while (coalescer.getCoalescedCount() < 2) {
+                Thread.onSpinWait();
+            }
+            releaseLoader.countDown();
+
+            EncodedPackage result = leader.get(5, TimeUnit.SECONDS);
+            for (Future<EncodedPackage> follower : followers) {
+                assertThat(follower.get(5, TimeUnit.SECONDS)).isSameAs(result);
+            }
+        }
+        // Ack gelmeden gelen istek de uçuştaki gönderime katılır.
+        coalescer.send(1L, loader, sender);
+        assertThat(loads).hasValue(1);
+        assertThat(sends).hasValue(1);
+
+        ack.complete(null);
+        coalescer.send(1L, loader, sender);
+        assertThat(loads).hasValue(2);
+        assertThat(sends).hasValue(2);
+    }
+
+    @Test
+    void shouldPropagateLoadFailureAndNotKeepFailedFlight() {
+        PackageSendCoalescer coalescer = new PackageSendCoalescer(new SingleSendProperties(true, Duration.ZERO, 100), new SimpleMeterRegistry());
+
+        assertThatThrownBy(() -> coalescer.send(9L, id -> {
+            throw new PackageNotFoundException(id);
+        }, pkg -> CompletableFuture.completedFuture(null)))
+                .isInstanceOf(PackageNotFoundException.class);
+
+        EncodedPackage result = coalescer.send(9L, id -> encoded(id, "{\"id\":9}"),
+                pkg -> CompletableFuture.completedFuture(null));
+        assertThat(result.mappedPackage().id()).isEqualTo(9L);
+    }
+
+    @Test
+    void shouldSuppressIdenticalPayloadWithinDedupWindow() {
+        PackageSendCoalescer coalescer = new PackageSendCoalescer(new SingleSendProperties(true, Duration.ofMinutes(1), 100), new SimpleMeterRegistry());
+        AtomicInteger sends = new AtomicInteger();
+        Function<EncodedPackage, CompletableFuture<Void>> sender = pkg -> {
+            sends.incrementAndGet();
+            return CompletableFuture.completedFuture(null);
+        };
+
+        coalescer.send(1L, id -> encoded(id, "{\"id\":1,\"eta\":277}"), sender);
+        coalescer.send(1L, id -> encoded(id, "{\"id\":1,\"eta\":277}"), sender);
+        assertThat(sends).hasValue(1);
+        assertThat(coalescer.getDeduplicatedCount()).isEqualTo(1);
+
+        coalescer.send(1L, id -> encoded(id, "{\"id\":1,\"eta\":300}"), sender);
+        assertThat(sends).hasValue(2);
+    }
+
+    private static EncodedPackage encoded(Long id, String json) {
+        return new EncodedPackage(MappedPackage.builder().id(id).build(), json.getBytes(StandardCharsets.UTF_8), null);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
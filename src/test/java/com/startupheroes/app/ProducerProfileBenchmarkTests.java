@@ -0,0 +1,122 @@
+package com.startupheroes.app;
+
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.serializer.MappedPackageJsonWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bulk ve interactive producer profillerinin throughput ve p99 ack gecikmesini karşılaştırır.
+ * Normal test görevinde çalışmaz: {@code gradle benchmark}.
+ * <p>
+ * Not – embedded broker aynı JVM'de çalıştığı için mutlak sayılar gerçek bir cluster'ı temsil etmez;
+ * profiller arasındaki oran anlamlıdır.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = {"package-events-benchmark"})
+class ProducerProfileBenchmarkTests {
+
+    private static final String TOPIC = "package-events-benchmark";
+    private static final int WARMUP_RECORDS = 20_000;
+    private static final int RECORDS = 200_000;
+    private static final int SEQUENTIAL_RECORDS = 2_000;
+    private static final int MAX_IN_FLIGHT = 5_000;
+
+    @Autowired
+    private KafkaTemplate<String, byte[]> kafkaTemplate;
+
+    @Qualifier("bulkKafkaTemplate")
+    @Autowired
+    private KafkaTemplate<String, byte[]> bulkKafkaTemplate;
+
+    @Autowired
+    private MappedPackageJsonWriter jsonWriter;
+
+    @Test
+    void compareProducerProfiles() {
+        run("interactive", kafkaTemplate, WARMUP_RECORDS, MAX_IN_FLIGHT);
+        run("bulk", bulkKafkaTemplate, WARMUP_RECORDS, MAX_IN_FLIGHT);
+
+        // Pipelined: bootstrap benzeri, MAX_IN_FLIGHT kayda kadar ack beklenmeden gönderilir.
+        Result interactivePipelined = run("interactive", kafkaTemplate, RECORDS, MAX_IN_FLIGHT);
+        Result bulkPipelined = run("bulk", bulkKafkaTemplate, RECORDS, MAX_IN_FLIGHT);
+        // Sequential: tekil HTTP gönderimi benzeri, her kayıt ack alındıktan sonra gönderilir.
+        Result interactiveSequential = run("interactive", kafkaTemplate, SEQUENTIAL_RECORDS, 1);
+        Result bulkSequential = run("bulk", bulkKafkaTemplate, SEQUENTIAL_RECORDS, 1);
+
+        log.info("Producer profile benchmark:\n{}{}{}{}{}",
+                "%-12s %-12s %12s %10s %10s%n".formatted("mode", "profile", "records/s", "p50 ms", "p99 ms"),
+                row("pipelined", interactivePipelined),
+                row("pipelined", bulkPipelined),
+                row("sequential", interactiveSequential),
+                row("sequential", bulkSequential));
+
+        assertThat(bulkPipelined.recordsPerSecond()).isPositive();
+        assertThat(interactiveSequential.p99Millis()).isPositive();
+    }
+
+    private static String row(String mode, Result result) {
+        return "%-12s %-12s %12.0f %10.2f %10.2f%n".formatted(
+                mode, result.profile(), result.recordsPerSecond(), result.p50Millis(), result.p99Millis());
+    }
+
+    private Result run(String profile, KafkaTemplate<String, byte[]> template, int records, int maxInFlight) {
+        long[] latencies = new long[records];
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        CompletableFuture<?>[] futures = new CompletableFuture<?>[records];
+
+        long start = System.nanoTime();
+        for (int i = 0; i < records; i++) {
+            int index = i;
+            byte[] value = jsonWriter.write(samplePackage(i));
+
+            inFlight.acquireUninterruptibly();
+            long sentAt = System.nanoTime();
+            futures[i] = template.send(TOPIC, String.valueOf(i), value)
+                    .whenComplete((result, ex) -> {
+                        latencies[index] = System.nanoTime() - sentAt;
+                        inFlight.release();
+                    });
+        }
+        CompletableFuture.allOf(futures).join();
+        long elapsedNanos = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(profile,
+                records * 1_000_000_000.0 / elapsedNanos,
+                latencies[records / 2] / 1_000_000.0,
+                latencies[(int) (records * 0.99)] / 1_000_000.0);
+    }
+
+    private static MappedPackage samplePackage(long id) {
+        return MappedPackage.builder()
+                .id(id)
+                .createdAt("2021-11-13 10:47:52.675248")
+                .lastUpdatedAt("2021-11-13 11:40:15.314340")
+                .collectionDuration(2)
+                .deliveryDuration(34)
+                .eta(277)
+                .leadTime(52)
+                .orderInTime(true)
+                .build();
+    }
+
+    private record Result(String profile, double recordsPerSecond, double p50Millis, double p99Millis) {
+    }
+}
@@ -0,0 +1,197 @@
+package com.startupheroes.app;
+
+import com.startupheroes.app.config.BulkSendProperties;
+import com.startupheroes.app.config.DeadLetterTopicProperties;
+import com.startupheroes.app.config.PackageStateTopicProperties;
+import com.startupheroes.app.config.PackageTopicProperties;
+import com.startupheroes.app.config.SendRetryProperties;
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.dto.ProducerProfile;
+import com.startupheroes.app.dto.response.BulkSendResult;
+import com.startupheroes.app.exception.PackageDeadLetteredException;
+import com.startupheroes.app.serializer.MappedPackageEncoder;
+import com.startupheroes.app.service.KafkaProducerService;
+import com.startupheroes.app.service.PackageMetrics;
+import com.startupheroes.app.service.PackagePartitioner;
+import com.startupheroes.app.service.RetryingKafkaSender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.clients.producer.RecordMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.RecordTooLargeException;
+import org.apache.kafka.common.errors.TimeoutException;
+import org.apache.kafka.common.header.Headers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.KafkaHeaders;
+import org.springframework.kafka.support.SendResult;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RetryingKafkaSenderTests {
+
+    private static final String TOPIC = "package-events";
+    private static final String DEAD_LETTER_TOPIC = "package-events.DLT";
+
+    @Mock
+    private KafkaTemplate<String, byte[]> template;
+
+    @Captor
+    private ArgumentCaptor<ProducerRecord<String, byte[]>> recordCaptor;
+
+    private KafkaProperties kafkaProperties;
+    private RetryingKafkaSender sender;
+
+    @BeforeEach
+    void setUp() {
+        kafkaProperties = new KafkaProperties();
+        kafkaProperties.getTemplate().setDefaultTopic(TOPIC);
+
+        sender = new RetryingKafkaSender(
+                new SendRetryProperties(3, Duration.ofMillis(1), Duration.ofMillis(5), 2.0),
+                new DeadLetterTopicProperties(true, ".DLT", 1, Duration.ofDays(14), "package-dlt-replay"),
+                kafkaProperties,
+                Runnable::run);
+    }
+
+    @Test
+    void shouldRetryRetriableFailureUntilSent() {
+        SendResult<String, byte[]> sent = new SendResult<>(record(), null);
+        when(template.send(anyRecord()))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("expired")))
+                .thenReturn(CompletableFuture.completedFuture(sent));
+
+        assertThat(sender.send(template, record()).join()).isSameAs(sent);
+        verify(template, times(2)).send(anyRecord());
+    }
+
+    @Test
+    void shouldDeadLetterAfterRetriesAreExhausted() {
+        when(template.send(anyRecord()))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("expired")))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("expired")))
+                .thenReturn(CompletableFuture.failedFuture(new TimeoutException("expired")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThatThrownBy(() -> sender.send(template, record()).join())
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(PackageDeadLetteredException.class);
+
+        ProducerRecord<String, byte[]> deadLetter = capturedRecords(4).getLast();
+        assertThat(deadLetter.topic()).isEqualTo(DEAD_LETTER_TOPIC);
+        assertThat(intHeader(deadLetter.headers(), RetryingKafkaSender.DLT_SEND_ATTEMPTS)).isEqualTo(3);
+    }
+
+    @Test
+    void shouldDeadLetterNonRetriableFailureWithOriginalHeaders() {
+        when(template.send(anyRecord()))
+                .thenReturn(CompletableFuture.failedFuture(new RecordTooLargeException("too large")))
+                .thenReturn(CompletableFuture.completedFuture(null));
+
+        assertThatThrownBy(() -> sender.send(template, record()).join())
+                .hasCauseInstanceOf(PackageDeadLetteredException.class);
+
+        List<ProducerRecord<String, byte[]>> records = capturedRecords(2);
+        ProducerRecord<String, byte[]> deadLetter = records.getLast();
+        assertThat(deadLetter.topic()).isEqualTo(DEAD_LETTER_TOPIC);
+        assertThat(deadLetter.key()).isEqualTo("42");
+        assertThat(deadLetter.value()).isEqualTo(records.getFirst().value());
+        assertThat(stringHeader(deadLetter.headers(), KafkaHeaders.DLT_ORIGINAL_TOPIC)).isEqualTo(TOPIC);
+        assertThat(intHeader(deadLetter.headers(), KafkaHeaders.DLT_ORIGINAL_PARTITION)).isEqualTo(3);
+        assertThat(stringHeader(deadLetter.headers(), KafkaHeaders.DLT_EXCEPTION_FQCN))
+                .isEqualTo(RecordTooLargeException.class.getName());
+        assertThat(intHeader(deadLetter.headers(), RetryingKafkaSender.DLT_SEND_ATTEMPTS)).isEqualTo(1);
+    }
+
+    @Test
+    void shouldReportDeadLetteredRecordOfBulkSessionSeparatelyFromFailures() {
+        when(template.send(anyRecord())).thenAnswer(invocation -> {
+            ProducerRecord<String, byte[]> record = invocation.getArgument(0);
+            if (TOPIC.equals(record.topic()) && "2".equals(record.key())) {
+                return CompletableFuture.failedFuture(new RecordTooLargeException("too large"));
+            }
+            RecordMetadata metadata = new RecordMetadata(new TopicPartition(record.topic(), 0), 0, 0, 0, 1, 8);
+            return CompletableFuture.completedFuture(new SendResult<>(record, metadata));
+        });
+
+        BulkSendResult result = producerService().sendAll(
+                List.of(mappedPackage(1L), mappedPackage(2L), mappedPackage(3L)), ProducerProfile.BULK);
+
+        assertThat(result.ackedCount()).isEqualTo(2);
+        assertThat(result.failedIds()).isEmpty();
+        assertThat(result.deadLetteredIds()).containsExactly(2L);
+        assertThat(capturedRecords(4)).extracting(ProducerRecord::topic).contains(DEAD_LETTER_TOPIC);
+    }
+
+    @Test
+    void shouldKeepBackoffWithinJitterBounds() {
+        SendRetryProperties properties = new SendRetryProperties(10, Duration.ofMillis(200), Duration.ofSeconds(5), 2.0);
+
+        assertThat(properties.backoffMillis(1, 0.0)).isEqualTo(100);
+        assertThat(properties.backoffMillis(1, 0.999)).isLessThanOrEqualTo(200);
+        assertThat(properties.backoffMillis(3, 0.0)).isEqualTo(400);
+        assertThat(properties.backoffMillis(9, 0.0)).isEqualTo(2500);
+        assertThat(properties.backoffMillis(9, 0.999)).isLessThanOrEqualTo(5000);
+    }
+
+    private List<ProducerRecord<String, byte[]>> capturedRecords(int expected) {
+        verify(template, times(expected)).send(recordCaptor.capture());
+        return recordCaptor.getAllValues();
+    }
+
+    /**
+     * Bulk profilinde {@link #template}'e ve bu testin {@link #sender}'ına yazan, state topic'i kapalı bir servis.
+     */
+    private KafkaProducerService producerService() {
+        MappedPackageEncoder encoder = mock(MappedPackageEncoder.class);
+        when(encoder.encode(any(), any())).thenReturn("{}".getBytes(StandardCharsets.UTF_8));
+        PackagePartitioner partitioner = mock(PackagePartitioner.class);
+        when(partitioner.usesRecordKey()).thenReturn(true);
+        PackageStateTopicProperties stateTopicProperties = mock(PackageStateTopicProperties.class);
+
+        return new KafkaProducerService(template, template, template, encoder, sender, partitioner, kafkaProperties,
+                stateTopicProperties, mock(PackageTopicProperties.class), new BulkSendProperties(10), new PackageMetrics(new SimpleMeterRegistry()),
+                Runnable::run);
+    }
+
+    private static ProducerRecord<String, byte[]> anyRecord() {
+        return any();
+    }
+
+    private static MappedPackage mappedPackage(Long id) {
+        return MappedPackage.builder().id(id).build();
+    }
+
+    private static ProducerRecord<String, byte[]> record() {
+        return new ProducerRecord<>(TOPIC, 3, 1_636_800_000_000L, "42", "{\"id\":42}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String stringHeader(Headers headers, String key) {
+        return new String(headers.lastHeader(key).value(), StandardCharsets.UTF_8);
+    }
+
+    private static int intHeader(Headers headers, String key) {
+        return ByteBuffer.wrap(headers.lastHeader(key).value()).getInt();
+    }
+}
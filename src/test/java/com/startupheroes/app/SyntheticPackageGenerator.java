@@ -0,0 +1,207 @@
+package com.startupheroes.app;
+
+import com.startupheroes.app.entity.PackageStatus;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static com.startupheroes.app.entity.PackageStatus.CANCELLED;
+import static com.startupheroes.app.entity.PackageStatus.COLLECTED;
+import static com.startupheroes.app.entity.PackageStatus.COMPLETED;
+import static com.startupheroes.app.entity.PackageStatus.IN_DELIVERY;
+import static com.startupheroes.app.entity.PackageStatus.PICKED_UP;
+import static com.startupheroes.app.entity.PackageStatus.WAITING_FOR_ASSIGNMENT;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Yük testleri için {@code package} tablosuna JDBC batch insert ile sentetik paket yazar.
+ * <p>
+ * Durum dağılımı ve zaman damgaları 002-insert-sample-data örneklerini izler: paketin ulaştığı aşamaya kadarki
+ * zaman damgaları yaşam döngüsü sırasıyla artar, sonraki aşamalar boş kalır. Cancelled paketler herhangi bir
+ * aşamada iptal edilir. Aynı seed ile aynı veri üretilir.
+ * <p>
+ * Not – PostgreSQL'e yazarken JDBC URL'ine {@code reWriteBatchedInserts=true} eklenmeli; aksi halde batch
+ * satır satır gönderilir.
+ */
+class SyntheticPackageGenerator {
+
+    private static final int BATCH_SIZE = 5_000;
+    private static final LocalDateTime FIRST_CREATED_AT = LocalDateTime.of(2021, 11, 1, 8, 0);
+    private static final long AVERAGE_CREATION_GAP_MILLIS = 250;
+    private static final int STORES = 2_000;
+
+    // Cancelled olmayan paketlerin ulaştığı aşama; yaşam döngüsü sırasıyla.
+    private static final PackageStatus[] STAGES = {WAITING_FOR_ASSIGNMENT, COLLECTED, PICKED_UP, IN_DELIVERY, COMPLETED};
+    private static final double[] STAGE_WEIGHTS = {0.04, 0.04, 0.05, 0.07, 0.80};
+    private static final String[] CANCEL_REASONS = {
+            "Customer requested cancellation", "Store out of stock", "Address not found", "Courier not available"
+    };
+
+    private static final String INSERT_SQL = """
+            INSERT INTO package (id, arrival_for_delivery_at, arrival_for_pickup_at, cancel_reason, cancelled,
+                                 completed_at, created_at, customer_id, in_delivery_at, last_updated_at, eta, status,
+                                 store_id, origin_address_id, type, waiting_for_assignment_at, user_id, collected,
+                                 collected_at, cancelled_at, picked_up_at, reassigned, order_id, delivery_date)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final double cancelledRatio;
+
+    SyntheticPackageGenerator(JdbcTemplate jdbcTemplate, double cancelledRatio) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.cancelledRatio = cancelledRatio;
+    }
+
+    /**
+     * {@code firstId}'den başlayarak ardışık id'lerle {@code count} paket yazar.
+     */
+    GeneratedPackages generate(long firstId, long count, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        Map<PackageStatus, Long> statusCounts = new EnumMap<>(PackageStatus.class);
+        List<Row> batch = new ArrayList<>(BATCH_SIZE);
+
+        for (long id = firstId; id < firstId + count; id++) {
+            Row row = nextRow(id, id - firstId, random);
+            statusCounts.merge(row.status(), 1L, Long::sum);
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                insert(batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            insert(batch);
+        }
+        return new GeneratedPackages(firstId, firstId + count - 1, statusCounts);
+    }
+
+    private Row nextRow(long id, long index, SplittableRandom random) {
+        boolean cancelled = random.nextDouble() < cancelledRatio;
+        // İptal edilen paketler de ilerledikleri aşamanın zaman damgalarını taşır.
+        int stage = cancelled ? random.nextInt(STAGES.length - 1) : weightedStage(random);
+
+        LocalDateTime createdAt = FIRST_CREATED_AT.plusNanos(
+                (index * AVERAGE_CREATION_GAP_MILLIS + random.nextLong(AVERAGE_CREATION_GAP_MILLIS)) * 1_000_000);
+        LocalDateTime collectedAt = stage >= 1 ? createdAt.plusSeconds(random.nextLong(1, 120)) : null;
+        LocalDateTime arrivalForPickupAt = stage >= 2 ? collectedAt.plusSeconds(random.nextLong(60, 900)) : null;
+        LocalDateTime pickedUpAt = stage >= 2 ? arrivalForPickupAt.plusSeconds(random.nextLong(30, 300)) : null;
+        LocalDateTime inDeliveryAt = stage >= 3 ? pickedUpAt.plusSeconds(random.nextLong(60, 1_200)) : null;
+        LocalDateTime arrivalForDeliveryAt = stage >= 4 ? inDeliveryAt.plusSeconds(random.nextLong(300, 2_400)) : null;
+        LocalDateTime completedAt = stage >= 4 ? arrivalForDeliveryAt.plusSeconds(random.nextLong(30, 600)) : null;
+
+        LocalDateTime lastStageAt = latest(createdAt, collectedAt, pickedUpAt, inDeliveryAt, completedAt);
+        LocalDateTime cancelledAt = cancelled ? lastStageAt.plusSeconds(random.nextLong(60, 1_800)) : null;
+
+        return new Row(id,
+                cancelled ? CANCELLED : STAGES[stage],
+                cancelled ? CANCEL_REASONS[random.nextInt(CANCEL_REASONS.length)] : null,
+                createdAt, collectedAt, arrivalForPickupAt, pickedUpAt, inDeliveryAt, arrivalForDeliveryAt,
+                completedAt, cancelledAt,
+                cancelled ? cancelledAt : lastStageAt,
+                random.nextInt(30, 300),
+                // Store'lar eşit dağılmaz: küçük id'li store'lar daha çok paket alır.
+                20_000_000_000_000L + (long) (STORES * Math.pow(random.nextDouble(), 2)),
+                20_002_011_500_000L + random.nextLong(500_000),
+                999_000_020_000_000L + random.nextLong(1_000_000),
+                50_002_010_000_000L + random.nextLong(20_000),
+                100_000_000L + id,
+                random.nextDouble() < 0.15 ? "EXPRESS" : "REGULAR",
+                random.nextDouble() < 0.05 ? 1 : 0);
+    }
+
+    private static int weightedStage(SplittableRandom random) {
+        double value = random.nextDouble();
+        for (int stage = 0; stage < STAGE_WEIGHTS.length - 1; stage++) {
+            value -= STAGE_WEIGHTS[stage];
+            if (value < 0) {
+                return stage;
+            }
+        }
+        return STAGE_WEIGHTS.length - 1;
+    }
+
+    private static LocalDateTime latest(LocalDateTime... timestamps) {
+        LocalDateTime latest = null;
+        for (LocalDateTime timestamp : timestamps) {
+            if (nonNull(timestamp)) {
+                latest = timestamp;
+            }
+        }
+        return latest;
+    }
+
+    private void insert(List<Row> rows) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Row row = rows.get(i);
+                ps.setLong(1, row.id());
+                setTimestamp(ps, 2, row.arrivalForDeliveryAt());
+                setTimestamp(ps, 3, row.arrivalForPickupAt());
+                ps.setString(4, row.cancelReason());
+                ps.setBoolean(5, row.status() == CANCELLED);
+                setTimestamp(ps, 6, row.completedAt());
+                setTimestamp(ps, 7, row.createdAt());
+                ps.setLong(8, row.customerId());
+                setTimestamp(ps, 9, row.inDeliveryAt());
+                setTimestamp(ps, 10, row.lastUpdatedAt());
+                ps.setInt(11, row.eta());
+                ps.setString(12, row.status().name());
+                ps.setLong(13, row.storeId());
+                ps.setLong(14, row.originAddressId());
+                ps.setString(15, row.type());
+                setTimestamp(ps, 16, row.createdAt());
+                ps.setLong(17, row.userId());
+                ps.setInt(18, isNull(row.collectedAt()) ? 0 : 1);
+                setTimestamp(ps, 19, row.collectedAt());
+                setTimestamp(ps, 20, row.cancelledAt());
+                setTimestamp(ps, 21, row.pickedUpAt());
+                ps.setInt(22, row.reassigned());
+                ps.setLong(23, row.orderId());
+                ps.setObject(24, row.createdAt().toLocalDate());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+    }
+
+    private static void setTimestamp(PreparedStatement ps, int index, LocalDateTime value) throws SQLException {
+        if (isNull(value)) {
+            ps.setNull(index, Types.TIMESTAMP);
+        } else {
+            ps.setObject(index, value);
+        }
+    }
+
+    record GeneratedPackages(long firstId, long lastId, Map<PackageStatus, Long> statusCounts) {
+
+        long count() {
+            return lastId - firstId + 1;
+        }
+
+        long sendableCount() {
+            return count() - statusCounts.getOrDefault(CANCELLED, 0L);
+        }
+    }
+
+    private record Row(long id, PackageStatus status, String cancelReason, LocalDateTime createdAt,
+                       LocalDateTime collectedAt, LocalDateTime arrivalForPickupAt, LocalDateTime pickedUpAt,
+                       LocalDateTime inDeliveryAt, LocalDateTime arrivalForDeliveryAt, LocalDateTime completedAt,
+                       LocalDateTime cancelledAt, LocalDateTime lastUpdatedAt, int eta, long storeId, long customerId,
+                       long originAddressId, long userId, long orderId, String type, int reassigned) {
+    }
+}
@@ -0,0 +1,108 @@
+package com.startupheroes.app;
+
+import com.startupheroes.app.dto.MappedPackage;
+import com.startupheroes.app.dto.ProducerProfile;
+import com.startupheroes.app.dto.response.BulkSendResult;
+import com.startupheroes.app.service.BootstrapProgressLog;
+import com.startupheroes.app.service.KafkaProducerService;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Bootstrap'ın Kafka tarafını non-transactional (bulk profil) ve farklı transaction boyutlarıyla karşılaştırır.
+ * Normal test görevinde çalışmaz: {@code gradle benchmark}.
+ * <p>
+ * Not – embedded broker aynı JVM'de çalıştığı için mutlak sayılar gerçek bir cluster'ı temsil etmez;
+ * transaction boyutu büyüdükçe commit maliyetinin kayıt başına düşüşü anlamlıdır.
+ */
+@Slf4j
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "app.bootstrap.transactions.enabled=true",
+        "app.bootstrap.transactions.progress-topic=package-bootstrap-progress-benchmark"
+})
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = {"package-events-test"}, brokerProperties = {
+        "transaction.state.log.replication.factor=1",
+        "transaction.state.log.min.isr=1"
+})
+class TransactionalBootstrapBenchmarkTests {
+
+    private static final int WARMUP_RECORDS = 20_000;
+    private static final int RECORDS = 200_000;
+
+    @Autowired
+    private KafkaProducerService kafkaProducerService;
+
+    @Autowired
+    private BootstrapProgressLog progressLog;
+
+    @Test
+    void compareTransactionalAndNonTransactionalBootstrap() {
+        run(false, WARMUP_RECORDS, 1_000);
+        run(true, WARMUP_RECORDS, 1_000);
+
+        List<Result> results = List.of(
+                run(false, RECORDS, 1_000),
+                run(false, RECORDS, 10_000),
+                run(true, RECORDS, 100),
+                run(true, RECORDS, 1_000),
+                run(true, RECORDS, 10_000));
+
+        log.info("Transactional bootstrap benchmark:\n{}{}",
+                "%-18s %14s %12s%n".formatted("mode", "records/chunk", "records/s"),
+                results.stream()
+                        .map(result -> "%-18s %14d %12.0f%n".formatted(
+                                result.mode(), result.chunkSize(), result.recordsPerSecond()))
+                        .collect(Collectors.joining()));
+
+        assertThat(results).allSatisfy(result -> assertThat(result.recordsPerSecond()).isPositive());
+    }
+
+    private Result run(boolean transactional, int records, int chunkSize) {
+        long start = System.nanoTime();
+
+        for (int from = 0; from < records; from += chunkSize) {
+            List<MappedPackage> chunk = samplePackages(from, Math.min(from + chunkSize, records));
+            BulkSendResult result = transactional
+                    ? kafkaProducerService.sendAllInTransaction(chunk, List.of(),
+                    progressLog.progressRecord(0, chunk.getLast().id(), records, from + chunk.size(), null))
+                    : kafkaProducerService.sendAll(chunk, List.of(), ProducerProfile.BULK);
+            assertThat(result.failedIds()).isEmpty();
+        }
+        long elapsedNanos = System.nanoTime() - start;
+
+        return new Result(transactional ? "transactional" : "at-least-once", chunkSize,
+                records * 1_000_000_000.0 / elapsedNanos);
+    }
+
+    private static List<MappedPackage> samplePackages(long fromInclusive, long toExclusive) {
+        List<MappedPackage> packages = new ArrayList<>();
+        LongStream.range(fromInclusive, toExclusive).forEach(id -> packages.add(MappedPackage.builder()
+                .id(id)
+                .createdAt("2021-11-13 10:47:52.675248")
+                .lastUpdatedAt("2021-11-13 11:40:15.314340")
+                .collectionDuration(2)
+                .deliveryDuration(34)
+                .eta(277)
+                .leadTime(52)
+                .orderInTime(true)
+                .build()));
+        return packages;
+    }
+
+    private record Result(String mode, int chunkSize, double recordsPerSecond) {
+    }
+}
@@ -0,0 +1,157 @@
+package com.startupheroes.app;
+
+import com.startupheroes.app.dto.PackageFilter;
+import com.startupheroes.app.dto.response.BootstrapResult;
+import com.startupheroes.app.entity.BootstrapCheckpoint;
+import com.startupheroes.app.entity.Package;
+import com.startupheroes.app.entity.PackageStatus;
+import com.startupheroes.app.repository.BootstrapCheckpointRepository;
+import com.startupheroes.app.repository.PackageRepository;
+import com.startupheroes.app.service.BootstrapProgress;
+import com.startupheroes.app.service.BootstrapProgressLog;
+import com.startupheroes.app.service.BootstrapService;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.kafka.test.utils.KafkaTestUtils;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = {
+        "app.bootstrap.transactions.enabled=true",
+        "app.bootstrap.transactions.pages-per-transaction=2",
+        "app.bootstrap.transactions.progress-topic=package-bootstrap-progress-test"
+})
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = {"package-events-test"}, brokerProperties = {
+        "transaction.state.log.replication.factor=1",
+        "transaction.state.log.min.isr=1"
+})
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+class TransactionalBootstrapTests {
+
+    @Autowired
+    private BootstrapService bootstrapService;
+
+    @Autowired
+    private BootstrapProgressLog progressLog;
+
+    @Autowired
+    private PackageRepository packageRepository;
+
+    @Autowired
+    private BootstrapCheckpointRepository checkpointRepository;
+
+    @SuppressWarnings("SpringJavaInjectionPointsAutowiringInspection")
+    @Autowired
+    private EmbeddedKafkaBroker embeddedKafkaBroker;
+
+    @BeforeEach
+    void setUp() {
+        packageRepository.deleteAll();
+        checkpointRepository.deleteAll();
+
+        packageRepository.save(createPackage(1L, false));
+        packageRepository.save(createPackage(2L, true));
+        packageRepository.save(createPackage(3L, false));
+        packageRepository.save(createPackage(5L, false));
+        packageRepository.save(createPackage(7L, false));
+    }
+
+    @Test
+    void shouldCommitPagesTogetherWithProgress() {
+        BootstrapResult result = bootstrapService.bootstrap(new BootstrapProgress(), PackageFilter.NONE);
+
+        assertThat(result.sentCount()).isEqualTo(4);
+        assertThat(result.tombstoneCount()).isEqualTo(1);
+        assertThat(result.failedIds()).isEmpty();
+        assertThat(readCommittedKeys(4)).containsExactlyInAnyOrder("1", "3", "5", "7");
+
+        List<BootstrapCheckpoint> committed = progressLog.readCommittedCheckpoints();
+        assertThat(committed).hasSize(2);
+        assertThat(committed).extracting(BootstrapCheckpoint::getSentCount).containsExactly(2L, 2L);
+        assertThat(committed.getLast().getLastPackageId()).isEqualTo(7L);
+    }
+
+    @Test
+    void shouldResumeFromCommittedProgressWhenDatabaseCheckpointLags() {
+        bootstrapService.bootstrap(new BootstrapProgress(), PackageFilter.NONE);
+        readCommittedKeys(4);
+
+        // Kafka commit'i ile veritabanı checkpoint'i arasında çökme: veritabanı plan başında kalmış.
+        List<BootstrapCheckpoint> lagging = checkpointRepository.findAll();
+        lagging.forEach(checkpoint -> {
+            checkpoint.setLastPackageId(checkpoint.getPartitionNo() == 0 ? 0L : 4L);
+            checkpoint.setSentCount(0L);
+        });
+        checkpointRepository.saveAll(lagging);
+
+        BootstrapResult result = bootstrapService.resume(new BootstrapProgress());
+
+        assertThat(result.sentCount()).isZero();
+        assertThat(checkpointRepository.findAll())
+                .extracting(BootstrapCheckpoint::getSentCount)
+                .containsExactlyInAnyOrder(2L, 2L);
+        try (Consumer<String, String> consumer = createReadCommittedConsumer()) {
+            assertThat(KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(5), 4).count()).isEqualTo(4);
+            assertThat(consumer.poll(Duration.ofSeconds(1)).isEmpty()).isTrue();
+        }
+    }
+
+    private List<String> readCommittedKeys(int expected) {
+        try (Consumer<String, String> consumer = createReadCommittedConsumer()) {
+            ConsumerRecords<String, String> records = KafkaTestUtils.getRecords(consumer, Duration.ofSeconds(10), expected);
+            List<String> keys = new ArrayList<>();
+            records.forEach(record -> keys.add(record.key()));
+            return keys;
+        }
+    }
+
+    private Consumer<String, String> createReadCommittedConsumer() {
+        Map<String, Object> consumerProps = KafkaTestUtils.consumerProps("read-committed-" + System.nanoTime(), "false", embeddedKafkaBroker);
+        consumerProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
+        consumerProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        consumerProps.put(ConsumerConfig.ISOLATION_LEVEL_CONFIG, "read_committed");
+
+        Consumer<String, String> consumer = new DefaultKafkaConsumerFactory<String, String>(consumerProps).createConsumer();
+        consumer.subscribe(List.of("package-events-test"));
+        return consumer;
+    }
+
+    private static Package createPackage(Long id, boolean cancelled) {
+        return Package.builder()
+                .id(id)
+                .createdAt(LocalDateTime.of(2021, 11, 13, 11, 50, 0))
+                .lastUpdatedAt(LocalDateTime.of(2021, 11, 13, 12, 15, 0))
+                .eta(250)
+                .status(cancelled ? PackageStatus.CANCELLED : PackageStatus.IN_DELIVERY)
+                .cancelled(cancelled)
+                .collected(0)
+                .customerId(20002011575017L)
+                .storeId(20000000004103L)
+                .originAddressId(999000020443390L)
+                .userId(50002010395215L)
+                .orderId(123972785L)
+                .type("REGULAR")
+                .deliveryDate(LocalDate.of(2021, 11, 13))
+                .build();
+    }
+}